@@ -0,0 +1,21 @@
+#!/usr/bin/env bash
+# 빠른 기동 모드 빌드: AOT 처리 jar + CDS(Class Data Sharing) 아카이브
+# 학습 실행이 컨텍스트 refresh까지 진행하므로 application.yml의 DB에 접속 가능해야 함
+# 결과: build/fast-startup/ (실행 명령은 마지막에 출력)
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+./gradlew -q bootJar -PfastStartup
+JAR=$(ls build/libs/*.jar | grep -v -- '-plain.jar' | head -1)
+OUT=build/fast-startup
+
+rm -rf "$OUT"
+java -Djarmode=tools -jar "$JAR" extract --destination "$OUT"
+
+# 학습 실행: refresh 직후 종료하면서 로드된 클래스를 아카이브로 저장
+(cd "$OUT" && java -XX:ArchiveClassesAtExit=app.jsa \
+    -Dspring.aot.enabled=true \
+    -Dspring.context.exit=onRefresh \
+    -jar "$(basename "$JAR")")
+
+echo "실행: (cd $OUT && java -XX:SharedArchiveFile=app.jsa -Dspring.aot.enabled=true -jar $(basename "$JAR"))"
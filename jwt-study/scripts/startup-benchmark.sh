@@ -0,0 +1,64 @@
+#!/usr/bin/env bash
+# 기동 시간 / 첫 요청 응답까지 시간 비교 (기존 jar vs AOT + CDS)
+# 사용: scripts/startup-benchmark.sh [반복 횟수=5] [포트=18080]
+# application.yml의 DB에 접속 가능해야 함 (두 번째 기동부터는 스키마 초기화 생략 효과 포함)
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+RUNS=${1:-5}
+PORT=${2:-18080}
+BENCH=build/benchmark
+mkdir -p "$BENCH"
+
+# 1. 기존 jar (AOT 미적용)
+./gradlew -q bootJar
+JAR=$(ls build/libs/*.jar | grep -v -- '-plain.jar' | head -1)
+cp "$JAR" "$BENCH/plain.jar"
+
+# 2. AOT + CDS
+scripts/build-fast-startup.sh > /dev/null
+FAST_DIR=build/fast-startup
+FAST_JAR=$(basename "$JAR")
+
+now_ms() { date +%s%3N; }
+
+# $1: 이름, $2: 작업 디렉터리, 나머지: java 인자
+measure() {
+    local name=$1 dir=$2
+    shift 2
+    local total_started=0 total_first=0
+    for i in $(seq 1 "$RUNS"); do
+        local log="$PWD/$BENCH/$name-$i.log"
+        local start
+        start=$(now_ms)
+        (cd "$dir" && exec java "$@" --server.port="$PORT") > "$log" 2>&1 &
+        local pid=$!
+
+        # 첫 요청: 잘못된 자격 증명 로그인 (필터 체인 + DB 조회까지 거친 401)
+        until curl -s -o /dev/null -X POST -H 'Content-Type: application/json' \
+                -d '{"username":"benchmark","password":"benchmark"}' \
+                "http://localhost:$PORT/api/auth/login"; do
+            if ! kill -0 "$pid" 2>/dev/null; then
+                echo "$name 기동 실패: $log" >&2
+                exit 1
+            fi
+            sleep 0.02
+        done
+        local first=$(( $(now_ms) - start ))
+        local started
+        started=$(grep -oE 'Started [A-Za-z]+ in [0-9.]+ seconds' "$log" | grep -oE '[0-9.]+ seconds' | cut -d' ' -f1)
+
+        kill "$pid"
+        wait "$pid" 2>/dev/null || true
+
+        echo "$name #$i: started=${started}s first-request=${first}ms"
+        total_started=$(echo "$total_started + $started" | bc)
+        total_first=$(( total_first + first ))
+    done
+    printf '%-10s 평균 started=%.3fs first-request=%dms\n' "$name" \
+        "$(echo "scale=3; $total_started / $RUNS" | bc)" $(( total_first / RUNS )) | tee -a "$BENCH/summary.txt"
+}
+
+: > "$BENCH/summary.txt"
+measure plain "$BENCH" -jar plain.jar
+measure aot-cds "$FAST_DIR" -XX:SharedArchiveFile=app.jsa -Dspring.aot.enabled=true -jar "$FAST_JAR"
@@ -0,0 +1,42 @@
+package com.example.jwt_study.util;
+
+import com.example.jwt_study.config.JwtProperties;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 액세스 토큰 검증 비용 비교 (JWT vs 압축 형식, JwtAuthenticationFilter와 같은 parseAccessToken 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AccessTokenVerifyBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-minimum-256-bits-for-hmac-sha512-algorithm!!";
+
+    private JwtUtil jwtUtil;
+    private String jwtToken;
+    private String compactToken;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecretKey(SECRET);
+        properties.setAccessTokenExpiry(3_600);
+        properties.setRefreshTokenExpiry(604_800);
+        jwtUtil = new JwtUtil(properties, new JwtMinter(properties), new CompactTokenCodec(properties));
+        jwtToken = jwtUtil.generateAccessToken(1_234L, "alice", 1);
+        compactToken = jwtUtil.generateCompactAccessToken(1_234L, 1);
+    }
+
+    @Benchmark
+    public AccessTokenClaims verifyJwt() {
+        return jwtUtil.parseAccessToken(jwtToken);
+    }
+
+    @Benchmark
+    public AccessTokenClaims verifyCompact() {
+        return jwtUtil.parseAccessToken(compactToken);
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.jwt_study.util;
+
+import com.example.jwt_study.config.JwtProperties;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /login, /refresh 토큰 발급 비용 비교 (jjwt 빌더 vs JwtMinter 템플릿)
+ * - login: username 포함 액세스 토큰 + 리프레시 토큰
+ * - refresh: username 없는 액세스 토큰 + 리프레시 토큰
+ * gc.alloc.rate.norm(B/op)으로 할당량, 처리량(ops/ms)으로 발급 성능 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(4)
+public class TokenIssuanceBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-minimum-256-bits-for-hmac-sha512-algorithm!!";
+
+    private JwtProperties properties;
+    private JwtMinter minter;
+
+    @Setup
+    public void setUp() {
+        properties = new JwtProperties();
+        properties.setSecretKey(SECRET);
+        properties.setAccessTokenExpiry(900);
+        properties.setRefreshTokenExpiry(604_800);
+        minter = new JwtMinter(properties);
+    }
+
+    @Benchmark
+    public void loginBuilder(Blackhole blackhole) {
+        blackhole.consume(builderAccessToken(1_234L, "benchmark-user"));
+        blackhole.consume(builderRefreshToken(1_234L, 3, 20_000L));
+    }
+
+    @Benchmark
+    public void loginTemplate(Blackhole blackhole) {
+        long now = System.currentTimeMillis() / 1000;
+        blackhole.consume(minter.mintAccessToken(1_234L, "benchmark-user", 1, now, now + properties.getAccessTokenExpiry()));
+        blackhole.consume(minter.mintRefreshToken(UUID.randomUUID(), 1_234L, 3, 20_000L,
+                now, now + properties.getRefreshTokenExpiry()));
+    }
+
+    @Benchmark
+    public void refreshBuilder(Blackhole blackhole) {
+        blackhole.consume(builderAccessToken(1_234L, null));
+        blackhole.consume(builderRefreshToken(1_234L, 3, 20_000L));
+    }
+
+    @Benchmark
+    public void refreshTemplate(Blackhole blackhole) {
+        long now = System.currentTimeMillis() / 1000;
+        blackhole.consume(minter.mintAccessToken(1_234L, null, 1, now, now + properties.getAccessTokenExpiry()));
+        blackhole.consume(minter.mintRefreshToken(UUID.randomUUID(), 1_234L, 3, 20_000L,
+                now, now + properties.getRefreshTokenExpiry()));
+    }
+
+    // 템플릿 도입 이전 JwtUtil 발급 코드 (매 호출 키 생성 포함)
+
+    private String builderAccessToken(Long userId, String username) {
+        Date now = new Date();
+        Date expiry = new Date(now.getTime() + properties.getAccessTokenExpiry() * 1000);
+
+        return Jwts.builder()
+                .subject(userId.toString())
+                .claim("username", username)
+                .claim("auth", 1)
+                .claim("type", "access")
+                .issuedAt(now)
+                .expiration(expiry)
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+
+    private String builderRefreshToken(Long userId, int shardId, Long expiryBucket) {
+        Date now = new Date();
+        Date expiry = new Date(now.getTime() + properties.getRefreshTokenExpiry() * 1000);
+
+        return Jwts.builder()
+                .id(UUID.randomUUID().toString())
+                .subject(userId.toString())
+                .claim("type", "refresh")
+                .claim("sid", shardId)
+                .claim("bkt", expiryBucket)
+                .issuedAt(now)
+                .expiration(expiry)
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.jwt_study.loadtest;
+
+import com.example.jwt_study.service.AuthService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * /login, /refresh, /me, /logout 부하 테스트 (./gradlew loadTest)
+ * 엔드포인트별 처리량/지연 백분위를 출력하고 baseline.json 대비 회귀 시 실패
+ * 기준치 파일이 없거나 -PloadTest.updateBaseline=true 이면 이번 결과를 기준치로 저장
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class AuthLoadTest {
+
+    private static final String PASSWORD = "load-test-password";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void authEndpointsStayWithinBaseline() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        List<String> usernames = seedUsers(settings.users());
+        LoadGenerator generator = new LoadGenerator(
+                URI.create("http://localhost:" + port), usernames, PASSWORD, settings, objectMapper);
+
+        generator.run(settings.warmup()); // JIT, 커넥션 풀 예열 (집계 제외)
+        Map<Endpoint, EndpointStats> stats = generator.run(settings.duration());
+
+        ObjectNode result = LoadReports.toJson(objectMapper, stats, settings.duration().toMillis() / 1000.0);
+        Files.createDirectories(settings.reportDir());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(settings.reportDir().resolve("result.json").toFile(), result);
+        LoadReports.print("Servlet + JPA", result, settings);
+
+        Path baselineFile = settings.baselineFile();
+        if (settings.updateBaseline() || !Files.exists(baselineFile)) {
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(baselineFile.toFile(), result);
+            System.out.println("기준치 저장: " + baselineFile);
+            return;
+        }
+
+        LoadReports.assertNoRegression(objectMapper.readTree(baselineFile.toFile()), result, settings.tolerance());
+    }
+
+    /**
+     * AuthService.register로 계정 생성 (BCrypt 비용이 커서 병렬 처리)
+     */
+    private List<String> seedUsers(int count) throws Exception {
+        List<String> usernames = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                String username = "load-user-" + i;
+                usernames.add(username);
+                futures.add(executor.submit(() -> authService.register(username, PASSWORD)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        return usernames;
+    }
+}
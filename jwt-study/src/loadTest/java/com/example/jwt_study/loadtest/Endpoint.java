@@ -0,0 +1,30 @@
+package com.example.jwt_study.loadtest;
+
+/**
+ * 부하 테스트 대상 엔드포인트
+ */
+enum Endpoint {
+    LOGIN("login"),
+    REFRESH("refresh"),
+    ME("me"),
+    LOGOUT("logout");
+
+    private final String key;
+
+    Endpoint(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    static Endpoint fromKey(String key) {
+        for (Endpoint endpoint : values()) {
+            if (endpoint.key.equals(key)) {
+                return endpoint;
+            }
+        }
+        throw new IllegalArgumentException("알 수 없는 엔드포인트: " + key);
+    }
+}
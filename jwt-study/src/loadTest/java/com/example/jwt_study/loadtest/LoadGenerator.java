@@ -0,0 +1,203 @@
+package com.example.jwt_study.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 인프로세스 부하 생성기
+ * 가상 사용자마다 자기 계정의 세션(액세스 토큰, 리프레시 쿠키)을 유지하며 설정된 비율로 요청
+ * 실행 JVM이 가상 스레드를 지원하면 사용하고, 아니면 동시성만큼의 플랫폼 스레드 사용
+ */
+class LoadGenerator {
+
+    private static final String REFRESH_COOKIE = "refreshToken";
+
+    private final URI baseUri;
+    private final List<String> usernames;
+    private final String password;
+    private final LoadTestSettings settings;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+
+    LoadGenerator(URI baseUri, List<String> usernames, String password, LoadTestSettings settings, ObjectMapper objectMapper) {
+        this.baseUri = baseUri;
+        this.usernames = usernames;
+        this.password = password;
+        this.settings = settings;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    /**
+     * duration 동안 부하를 건 뒤 엔드포인트별 집계 반환
+     */
+    Map<Endpoint, EndpointStats> run(Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Future<Map<Endpoint, EndpointStats>>> futures = new ArrayList<>();
+
+        ExecutorService executor = newExecutor(settings.concurrency());
+        try {
+            for (int worker = 0; worker < settings.concurrency(); worker++) {
+                VirtualUser user = new VirtualUser(worker);
+                futures.add(executor.submit(() -> user.runUntil(deadline)));
+            }
+
+            Map<Endpoint, EndpointStats> merged = new EnumMap<>(Endpoint.class);
+            for (Future<Map<Endpoint, EndpointStats>> future : futures) {
+                future.get().forEach((endpoint, stats) ->
+                        merged.computeIfAbsent(endpoint, e -> new EndpointStats()).merge(stats));
+            }
+            return merged;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static ExecutorService newExecutor(int concurrency) {
+        try {
+            // Java 21+ 런타임: 가상 스레드 (빌드 툴체인은 17이므로 리플렉션으로 조회)
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newFixedThreadPool(concurrency);
+        }
+    }
+
+    /**
+     * 가상 사용자 (worker 번호로 나눈 계정만 사용하여 다른 사용자의 로그아웃 에포크에 영향받지 않음)
+     */
+    private class VirtualUser {
+
+        private final List<String> accounts = new ArrayList<>();
+        private final Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+        private String accessToken;
+        private String refreshToken;
+
+        VirtualUser(int worker) {
+            for (int i = worker; i < usernames.size(); i += settings.concurrency()) {
+                accounts.add(usernames.get(i));
+            }
+        }
+
+        Map<Endpoint, EndpointStats> runUntil(long deadline) {
+            while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+                Endpoint endpoint = accessToken == null ? Endpoint.LOGIN : nextEndpoint();
+                long start = System.nanoTime();
+                boolean success;
+                try {
+                    success = call(endpoint);
+                } catch (IOException e) {
+                    success = false;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                stats.computeIfAbsent(endpoint, e -> new EndpointStats()).record(System.nanoTime() - start, success);
+            }
+            return stats;
+        }
+
+        private Endpoint nextEndpoint() {
+            int total = settings.mix().values().stream().mapToInt(Integer::intValue).sum();
+            int pick = ThreadLocalRandom.current().nextInt(total);
+            for (Map.Entry<Endpoint, Integer> entry : settings.mix().entrySet()) {
+                pick -= entry.getValue();
+                if (pick < 0) {
+                    return entry.getKey();
+                }
+            }
+            return Endpoint.ME;
+        }
+
+        private boolean call(Endpoint endpoint) throws IOException, InterruptedException {
+            return switch (endpoint) {
+                case LOGIN -> login();
+                case REFRESH -> refresh();
+                case ME -> me();
+                case LOGOUT -> logout();
+            };
+        }
+
+        private boolean login() throws IOException, InterruptedException {
+            String username = accounts.get(ThreadLocalRandom.current().nextInt(accounts.size()));
+            String body = objectMapper.writeValueAsString(Map.of("username", username, "password", password));
+            HttpResponse<String> response = send(HttpRequest.newBuilder(baseUri.resolve("/api/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body)));
+            return updateSession(response);
+        }
+
+        private boolean refresh() throws IOException, InterruptedException {
+            HttpResponse<String> response = send(HttpRequest.newBuilder(baseUri.resolve("/api/auth/refresh"))
+                    .header("Cookie", REFRESH_COOKIE + "=" + refreshToken)
+                    .POST(HttpRequest.BodyPublishers.noBody()));
+            return updateSession(response);
+        }
+
+        private boolean me() throws IOException, InterruptedException {
+            HttpResponse<String> response = send(HttpRequest.newBuilder(baseUri.resolve("/api/users/me"))
+                    .header("Authorization", "Bearer " + accessToken)
+                    .GET());
+            if (response.statusCode() != 200) {
+                clearSession();
+                return false;
+            }
+            return true;
+        }
+
+        private boolean logout() throws IOException, InterruptedException {
+            HttpResponse<String> response = send(HttpRequest.newBuilder(baseUri.resolve("/api/auth/logout"))
+                    .header("Cookie", REFRESH_COOKIE + "=" + refreshToken)
+                    .POST(HttpRequest.BodyPublishers.noBody()));
+            clearSession();
+            return response.statusCode() == 204;
+        }
+
+        private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+            return httpClient.send(request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofString());
+        }
+
+        /**
+         * 로그인/갱신 응답에서 액세스 토큰과 리프레시 쿠키 추출
+         * (쿠키가 Secure라 평문 HTTP에서는 CookieManager가 보내지 않으므로 직접 관리)
+         */
+        private boolean updateSession(HttpResponse<String> response) throws IOException {
+            if (response.statusCode() != 200) {
+                clearSession();
+                return false;
+            }
+            accessToken = objectMapper.readTree(response.body()).path("accessToken").asText(null);
+            refreshToken = response.headers().allValues("Set-Cookie").stream()
+                    .filter(cookie -> cookie.startsWith(REFRESH_COOKIE + "="))
+                    .map(cookie -> cookie.split(";", 2)[0].substring(REFRESH_COOKIE.length() + 1))
+                    .findFirst()
+                    .orElse(null);
+            if (accessToken == null || refreshToken == null) {
+                clearSession();
+                return false;
+            }
+            return true;
+        }
+
+        private void clearSession() {
+            accessToken = null;
+            refreshToken = null;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.jwt_study.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 부하 테스트 결과 집계/출력/기준치 비교 (서블릿, reactive 구성 공용)
+ */
+final class LoadReports {
+
+    private LoadReports() {
+    }
+
+    static ObjectNode toJson(ObjectMapper objectMapper, Map<Endpoint, EndpointStats> stats, double seconds) {
+        ObjectNode result = objectMapper.createObjectNode();
+        stats.forEach((endpoint, endpointStats) -> {
+            ObjectNode node = result.putObject(endpoint.key());
+            node.put("count", endpointStats.count());
+            node.put("errors", endpointStats.errors());
+            node.put("throughputPerSec", round(endpointStats.count() / seconds));
+            node.put("p50Ms", round(endpointStats.percentileMillis(50)));
+            node.put("p95Ms", round(endpointStats.percentileMillis(95)));
+            node.put("p99Ms", round(endpointStats.percentileMillis(99)));
+        });
+        return result;
+    }
+
+    static void assertNoRegression(JsonNode baseline, JsonNode result, double tolerance) {
+        List<String> regressions = compare(baseline, result, tolerance);
+        assertThat(regressions).as("기준치 대비 성능 회귀 (허용 오차 %.0f%%)", tolerance * 100).isEmpty();
+    }
+
+    /**
+     * p95 지연이 늘거나 처리량이 줄거나 오류율이 늘어난 엔드포인트 목록
+     * (지연은 측정 잡음을 고려해 1ms 여유를 둠)
+     */
+    static List<String> compare(JsonNode baseline, JsonNode result, double tolerance) {
+        List<String> regressions = new ArrayList<>();
+        baseline.fields().forEachRemaining(entry -> {
+            String endpoint = entry.getKey();
+            JsonNode base = entry.getValue();
+            JsonNode current = result.path(endpoint);
+            if (current.isMissingNode()) {
+                regressions.add(endpoint + ": 요청이 기록되지 않음");
+                return;
+            }
+
+            double p95Limit = base.path("p95Ms").asDouble() * (1 + tolerance) + 1.0;
+            if (current.path("p95Ms").asDouble() > p95Limit) {
+                regressions.add("%s: p95 %.2fms > %.2fms".formatted(endpoint, current.path("p95Ms").asDouble(), p95Limit));
+            }
+            double throughputFloor = base.path("throughputPerSec").asDouble() * (1 - tolerance);
+            if (current.path("throughputPerSec").asDouble() < throughputFloor) {
+                regressions.add("%s: 처리량 %.1f/s < %.1f/s".formatted(endpoint, current.path("throughputPerSec").asDouble(), throughputFloor));
+            }
+            double errorRateLimit = errorRate(base) + 0.01;
+            if (errorRate(current) > errorRateLimit) {
+                regressions.add("%s: 오류율 %.3f > %.3f".formatted(endpoint, errorRate(current), errorRateLimit));
+            }
+        });
+        return regressions;
+    }
+
+    static void print(String stack, JsonNode result, LoadTestSettings settings) {
+        System.out.printf("%n부하 테스트 결과 [%s] (users=%d, concurrency=%d, duration=%ds)%n",
+                stack, settings.users(), settings.concurrency(), settings.duration().toSeconds());
+        System.out.printf("%-8s %8s %7s %10s %9s %9s %9s%n", "endpoint", "count", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)");
+        result.fields().forEachRemaining(entry -> {
+            JsonNode node = entry.getValue();
+            System.out.printf("%-8s %8d %7d %10.1f %9.2f %9.2f %9.2f%n", entry.getKey(),
+                    node.path("count").asLong(), node.path("errors").asLong(), node.path("throughputPerSec").asDouble(),
+                    node.path("p50Ms").asDouble(), node.path("p95Ms").asDouble(), node.path("p99Ms").asDouble());
+        });
+    }
+
+    private static double errorRate(JsonNode node) {
+        long count = node.path("count").asLong();
+        return count == 0 ? 0 : (double) node.path("errors").asLong() / count;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.jwt_study.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (시스템 속성 loadTest.*, Gradle에서는 -PloadTest.* 로 전달)
+ */
+record LoadTestSettings(
+        int users,
+        int concurrency,
+        Duration warmup,
+        Duration duration,
+        Map<Endpoint, Integer> mix,
+        double tolerance,
+        Path baselineFile,
+        boolean updateBaseline,
+        Path reportDir
+) {
+
+    static LoadTestSettings fromSystemProperties() {
+        int concurrency = Integer.getInteger("loadTest.concurrency", 50);
+        return new LoadTestSettings(
+                Math.max(concurrency, Integer.getInteger("loadTest.users", 200)), // 가상 사용자마다 서로 다른 계정 사용
+                concurrency,
+                Duration.ofSeconds(Integer.getInteger("loadTest.warmupSeconds", 5)),
+                Duration.ofSeconds(Integer.getInteger("loadTest.durationSeconds", 30)),
+                parseMix(System.getProperty("loadTest.mix", "login=10,refresh=20,me=65,logout=5")),
+                Double.parseDouble(System.getProperty("loadTest.tolerance", "0.25")),
+                Path.of(System.getProperty("loadTest.baselineFile", "src/loadTest/baseline.json")),
+                Boolean.parseBoolean(System.getProperty("loadTest.updateBaseline", "false")),
+                Path.of(System.getProperty("loadTest.reportDir", "build/reports/loadtest"))
+        );
+    }
+
+    /**
+     * "login=10,refresh=20,me=65,logout=5" 형식의 요청 비율
+     */
+    private static Map<Endpoint, Integer> parseMix(String value) {
+        Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+        for (String entry : value.split(",")) {
+            String[] pair = entry.trim().split("=");
+            mix.put(Endpoint.fromKey(pair[0].trim()), Integer.parseInt(pair[1].trim()));
+        }
+        return mix;
+    }
+}
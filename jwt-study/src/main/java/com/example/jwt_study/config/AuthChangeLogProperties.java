@@ -0,0 +1,20 @@
+package com.example.jwt_study.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증 상태 변경 로그 폴링 설정값
+ */
+@Component
+@ConfigurationProperties(prefix = "auth.change-log")
+@Getter
+@Setter
+public class AuthChangeLogProperties {
+    private long pollIntervalMs = 1000; // 폴링 주기 (최대 전파 지연)
+    private int batchSize = 500; // 1회 폴링 최대 건수
+    private long gapTimeoutMs = 30000; // 비어 있는 id 재확인 기간 (롤백된 id 포기 시점)
+    private long retentionSeconds = 86400; // 로그 보존 기간
+}
@@ -0,0 +1,24 @@
+package com.example.jwt_study.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 적응형 동시성 제한 설정값 (엔드포인트 그룹별로 같은 설정의 독립 리미터 사용)
+ */
+@Component
+@ConfigurationProperties(prefix = "app.concurrency-limit")
+@Getter
+@Setter
+public class ConcurrencyLimitProperties {
+    private boolean enabled = true;
+    private int initialLimit = 50;
+    private int minLimit = 10;
+    private int maxLimit = 500;
+    private long windowMs = 1000;     // 지연 시간 샘플 집계 구간
+    private int minWindowSamples = 10; // 구간당 최소 샘플 수 (미달 시 한도 유지)
+    private double tolerance = 1.5;   // 기준 지연 대비 허용 배수 (초과분만큼 한도 감소)
+    private double smoothing = 0.2;   // 새 한도 반영 비율
+}
@@ -0,0 +1,20 @@
+package com.example.jwt_study.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용된 리프레시 토큰 Bloom 필터 설정값 (만료 버킷별 필터, consumed_token_filters에 영속화)
+ */
+@Component
+@ConfigurationProperties(prefix = "app.refresh-token.consumed-filter")
+@Getter
+@Setter
+public class ConsumedTokenFilterProperties {
+    private boolean enabled = true;                // false면 기존처럼 사용된 행을 남겨 재사용 탐지 (reactive 구성은 항상 이 동작)
+    private long expectedInsertions = 200_000;     // 버킷(절대 만료일)당 예상 RTR 횟수
+    private double falsePositiveRate = 0.01;       // 목표 오탐률 (비트 수/해시 수 산정)
+    private long syncIntervalMs = 10_000;          // DB 병합/다른 노드 반영 주기 (노드 간 최대 전파 지연)
+}
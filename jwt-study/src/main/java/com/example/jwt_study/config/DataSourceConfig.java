@@ -0,0 +1,142 @@
+package com.example.jwt_study.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DataSource 설정 (Primary/Replica/리프레시 토큰 샤드 커넥션 풀 분리 + 라우팅)
+ * 풀 이름(primary, replica, shard-N)별로 Hikari 메트릭이 분리되어 노출됨
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties, RefreshTokenStoreProperties storeProperties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName(ReadWriteRoutingDataSource.PRIMARY);
+        applyLockWaitTimeout(dataSource, storeProperties);
+        return dataSource;
+    }
+
+    /**
+     * MySQL은 FOR UPDATE에 대기 시간을 지정할 수 없으므로 커넥션 세션의 innodb_lock_wait_timeout으로 제한
+     * (spring.datasource.hikari.connection-init-sql을 직접 설정하면 그 값이 우선)
+     */
+    private static void applyLockWaitTimeout(HikariDataSource dataSource, RefreshTokenStoreProperties storeProperties) {
+        String url = dataSource.getJdbcUrl();
+        if (url != null && url.startsWith("jdbc:mysql:") && dataSource.getConnectionInitSql() == null) {
+            long seconds = Math.max(1, (storeProperties.getLockTimeoutMs() + 999) / 1000);
+            dataSource.setConnectionInitSql("SET SESSION innodb_lock_wait_timeout = " + seconds);
+        }
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.datasource.replica", name = "url")
+    @ConfigurationProperties("app.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(ReplicaProperties properties) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(properties.getUrl())
+                .username(properties.getUsername())
+                .password(properties.getPassword())
+                .driverClassName(properties.getDriverClassName())
+                .build();
+        dataSource.setPoolName(ReadWriteRoutingDataSource.REPLICA);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    /**
+     * 리프레시 토큰 샤드 (샤드 0 = Primary, 추가 샤드는 refresh_tokens 테이블만 보유)
+     */
+    @Bean
+    public RefreshTokenShards refreshTokenShards(
+            @Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+            RefreshTokenShardProperties properties,
+            RefreshTokenStoreProperties storeProperties,
+            MeterRegistry meterRegistry
+    ) {
+        List<DataSource> shards = new ArrayList<>();
+        shards.add(primaryDataSource);
+
+        for (RefreshTokenShardProperties.Shard shard : properties.getShards()) {
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(shard.getUrl())
+                    .username(shard.getUsername())
+                    .password(shard.getPassword())
+                    .driverClassName(shard.getDriverClassName())
+                    .build();
+            dataSource.setPoolName(ReadWriteRoutingDataSource.shardKey(shards.size()));
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            applyLockWaitTimeout(dataSource, storeProperties);
+
+            if (properties.isInitSchema()) {
+                new ResourceDatabasePopulator(new ClassPathResource("schema-refresh-token-shard.sql")).execute(dataSource);
+                SchemaMigrations.apply(dataSource, SchemaMigrations.SHARD);
+            }
+            shards.add(dataSource);
+        }
+
+        return new RefreshTokenShards(shards);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") ObjectProvider<HikariDataSource> replicaDataSource,
+            ReplicaProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicaDataSource.getIfAvailable(), properties, meterRegistry);
+        monitor.check();
+        return monitor;
+    }
+
+    /**
+     * 트랜잭션의 readOnly 여부가 확정된 뒤 실제 커넥션을 얻도록 Lazy 프록시로 감쌈
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+            @Qualifier("replicaDataSource") ObjectProvider<HikariDataSource> replicaDataSource,
+            RefreshTokenShards refreshTokenShards,
+            ReplicaLagMonitor replicaLagMonitor
+    ) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(ReadWriteRoutingDataSource.PRIMARY, primaryDataSource);
+        replicaDataSource.ifAvailable(replica -> targets.put(ReadWriteRoutingDataSource.REPLICA, replica));
+        for (int shardId = 1; shardId < refreshTokenShards.count(); shardId++) {
+            targets.put(ReadWriteRoutingDataSource.shardKey(shardId), refreshTokenShards.dataSource(shardId));
+        }
+
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(replicaLagMonitor);
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
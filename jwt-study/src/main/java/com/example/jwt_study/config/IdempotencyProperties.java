@@ -0,0 +1,22 @@
+package com.example.jwt_study.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Idempotency-Key 설정값 (/register, /login 재시도 응답 재사용)
+ */
+@Component
+@ConfigurationProperties(prefix = "app.idempotency")
+@Getter
+@Setter
+public class IdempotencyProperties {
+    private boolean enabled = true;
+    private long ttlSeconds = 300;     // 완료된 응답 보관 시간
+    private int maxEntries = 10_000;   // 초과 시 키를 무시하고 일반 처리
+    private int maxEntriesPerClient = 100; // 클라이언트 IP별 상한 (초과 시 그 클라이언트만 키 없이 처리)
+    private long waitTimeoutMs = 10_000; // 같은 키의 진행 중 요청 대기 한도 (초과 시 409)
+    private int maxKeyLength = 128;
+}
@@ -0,0 +1,30 @@
+package com.example.jwt_study.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 토큰 인트로스펙션(RFC 7662) 설정값 (게이트웨이 클라이언트, 배치 크기, 결과 캐시)
+ */
+@Component
+@ConfigurationProperties(prefix = "app.introspection")
+@Getter
+@Setter
+public class IntrospectionProperties {
+    private List<Client> clients = new ArrayList<>(); // 비어 있으면 모든 요청 거부
+    private int maxTokens = 100;         // 요청당 최대 토큰 수
+    private int parallelThreshold = 8;   // 이 개수 이상이면 병렬 검증
+    private int cacheMaxEntries = 100_000;
+
+    @Getter
+    @Setter
+    public static class Client {
+        private String id;
+        private String secret;
+    }
+}
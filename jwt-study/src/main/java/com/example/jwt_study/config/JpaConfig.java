@@ -0,0 +1,20 @@
+package com.example.jwt_study.config;
+
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * JPA 기본 타임아웃 (모든 쿼리/비관적 잠금에 적용, 쿼리별 힌트가 있으면 우선)
+ */
+@Configuration
+public class JpaConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer timeoutHibernatePropertiesCustomizer(RefreshTokenStoreProperties properties) {
+        return hibernateProperties -> {
+            hibernateProperties.put("jakarta.persistence.query.timeout", properties.getQueryTimeoutMs());
+            hibernateProperties.put("jakarta.persistence.lock.timeout", properties.getLockTimeoutMs());
+        };
+    }
+}
@@ -17,4 +17,27 @@ public class JwtProperties {
     private long accessTokenExpiry; // 초 단위
     private long refreshTokenExpiry; // 초 단위
     private long refreshTokenAbsoluteExpiry; // 초 단위
-}
\ No newline at end of file
+    private CompactToken compactToken = new CompactToken();
+    private RefreshHint refreshHint = new RefreshHint();
+
+    /**
+     * 바이너리 압축 액세스 토큰 (클라이언트가 X-Token-Format: compact 로 요청 시 발급)
+     */
+    @Getter
+    @Setter
+    public static class CompactToken {
+        private boolean enabled = false; // 발급 허용 여부 (검증은 항상 가능)
+        private int keyId = 0; // 0~255, 토큰에 기록되는 키 id
+    }
+
+    /**
+     * 만료 임박 액세스 토큰 응답에 선제 갱신 힌트 헤더 (X-Token-Refresh: 남은 초)
+     */
+    @Getter
+    @Setter
+    public static class RefreshHint {
+        private boolean enabled = true;
+        private long windowSeconds = 60; // 만료 전 이 시간 안이면 힌트
+        private long jitterSeconds = 60; // 토큰마다 0~jitter초를 창에 더해 갱신 시점 분산
+    }
+}
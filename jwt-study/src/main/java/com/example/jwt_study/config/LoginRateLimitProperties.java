@@ -0,0 +1,31 @@
+package com.example.jwt_study.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 시도 제한 설정값 (IP별, 사용자명별 토큰 버킷)
+ */
+@Component
+@ConfigurationProperties(prefix = "app.login-rate-limit")
+@Getter
+@Setter
+public class LoginRateLimitProperties {
+    private boolean enabled = true;
+    private int maxKeys = 100_000; // 버킷 최대 개수 (초과 시 유휴 키 정리 후 공유 버킷 사용)
+    private Limit ip = new Limit(30, 30);
+    private Limit username = new Limit(10, 5);
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+        private int capacity;        // 순간 허용 횟수
+        private int refillPerMinute; // 분당 회복 횟수
+    }
+}
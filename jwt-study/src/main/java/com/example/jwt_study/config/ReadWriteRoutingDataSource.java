@@ -0,0 +1,39 @@
+package com.example.jwt_study.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기/쓰기 분리 라우팅 DataSource
+ * {@code @Transactional(readOnly = true)} 작업은 Replica, 그 외(행잠금 RTR 포함)는 Primary
+ * 리프레시 토큰 샤드가 지정된 경우 해당 샤드 (샤드 0은 Primary/Replica 규칙을 따름)
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+    public static final String SHARD_PREFIX = "shard-";
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReadWriteRoutingDataSource(ReplicaLagMonitor replicaLagMonitor) {
+        this.replicaLagMonitor = replicaLagMonitor;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Integer shardId = RefreshTokenShardContext.current();
+        if (shardId != null && shardId != 0) {
+            return shardKey(shardId);
+        }
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && replicaLagMonitor.isReplicaUsable()) {
+            return REPLICA;
+        }
+        return PRIMARY;
+    }
+
+    public static String shardKey(int shardId) {
+        return SHARD_PREFIX + shardId;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.jwt_study.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * refresh_tokens 파티션 관리 설정값 (MySQL 전용, 그 외 DB는 행 삭제로 정리)
+ */
+@Component
+@ConfigurationProperties(prefix = "app.refresh-token.partition")
+@Getter
+@Setter
+public class RefreshTokenPartitionProperties {
+    private boolean enabled = true;
+    private int daysAhead = 3; // Absolute 만료 기간 이후로 미리 만들어 둘 일 수
+}
@@ -0,0 +1,40 @@
+package com.example.jwt_study.config;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 리프레시 토큰 샤드 (라우팅 DataSource가 커넥션 획득 시 참조)
+ * 트랜잭션 경계 바깥에서 지정해야 해당 트랜잭션 전체가 같은 샤드에 묶임
+ */
+public final class RefreshTokenShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private RefreshTokenShardContext() {
+    }
+
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    public static <T> T callOn(int shardId, Supplier<T> action) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shardId);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public static void runOn(int shardId, Runnable action) {
+        callOn(shardId, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.jwt_study.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 리프레시 토큰 샤딩 설정값 (샤드 0 = Primary, shards 목록은 1번부터)
+ */
+@Component
+@ConfigurationProperties(prefix = "app.refresh-token.sharding")
+@Getter
+@Setter
+public class RefreshTokenShardProperties {
+    private List<Shard> shards = new ArrayList<>();
+    private boolean initSchema = true; // 기동 시 추가 샤드에 schema-refresh-token-shard.sql 적용
+
+    @Getter
+    @Setter
+    public static class Shard {
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.jwt_study.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 리프레시 토큰 샤드 목록 (user_id 해시로 홈 샤드 결정)
+ * 세션은 발급된 샤드에 고정되며 샤드 id는 토큰의 sid 클레임에 기록
+ */
+public class RefreshTokenShards implements DisposableBean {
+
+    private final List<DataSource> dataSources; // index = 샤드 id, 0 = Primary
+
+    public RefreshTokenShards(List<DataSource> dataSources) {
+        this.dataSources = List.copyOf(dataSources);
+    }
+
+    public int count() {
+        return dataSources.size();
+    }
+
+    public DataSource dataSource(int shardId) {
+        return dataSources.get(shardId);
+    }
+
+    /**
+     * 신규 세션이 저장될 홈 샤드
+     */
+    public int homeShard(Long userId) {
+        return Math.floorMod(mix(userId), dataSources.size());
+    }
+
+    /**
+     * 토큰의 샤드 id 확인 (제거된 샤드를 가리키면 홈 샤드)
+     */
+    public int resolve(int shardId, Long userId) {
+        return shardId >= 0 && shardId < dataSources.size() ? shardId : homeShard(userId);
+    }
+
+    public <T> T callOn(int shardId, Supplier<T> action) {
+        return RefreshTokenShardContext.callOn(shardId, action);
+    }
+
+    public void runOn(int shardId, Runnable action) {
+        RefreshTokenShardContext.runOn(shardId, action);
+    }
+
+    /**
+     * 연속된 user_id가 고르게 분산되도록 비트 혼합 (MurmurHash3 fmix64)
+     */
+    private static int mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return (int) value;
+    }
+
+    /**
+     * 추가 샤드 커넥션 풀 종료 (Primary는 별도 빈으로 관리)
+     */
+    @Override
+    public void destroy() {
+        dataSources.stream()
+                .skip(1)
+                .filter(HikariDataSource.class::isInstance)
+                .map(HikariDataSource.class::cast)
+                .forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.jwt_study.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 리프레시 토큰 저장소 보호 설정값 (잠금/쿼리 타임아웃, 샤드별 서킷 브레이커)
+ */
+@Component
+@ConfigurationProperties(prefix = "app.refresh-token.store")
+@Getter
+@Setter
+public class RefreshTokenStoreProperties {
+    private LockMode lockMode = LockMode.WAIT;
+    private long lockTimeoutMs = 3000;  // WAIT 모드 행잠금 대기 상한 (MySQL은 초 단위로 올림)
+    private long queryTimeoutMs = 5000; // 모든 JPA 쿼리 기본 타임아웃
+    private Circuit circuit = new Circuit();
+
+    public enum LockMode {
+        WAIT,        // lockTimeoutMs까지 대기
+        NOWAIT,      // 잠겨 있으면 즉시 실패 (재시도 가능 오류)
+        SKIP_LOCKED  // 잠긴 행은 건너뜀 → 동시 갱신 중인 토큰은 이미 사용된 것으로 처리
+    }
+
+    @Getter
+    @Setter
+    public static class Circuit {
+        private boolean enabled = true;
+        private int windowSize = 50;            // 최근 호출 결과 개수
+        private int minimumCalls = 20;          // 실패율 계산 최소 호출 수
+        private int failureRateThreshold = 50;  // % 이상이면 OPEN
+        private long openStateMs = 5000;        // OPEN 유지 시간 (이후 HALF_OPEN)
+        private int halfOpenCalls = 3;          // HALF_OPEN 시험 호출 수
+    }
+}
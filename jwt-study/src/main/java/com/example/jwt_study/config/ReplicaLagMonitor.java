@@ -0,0 +1,79 @@
+package com.example.jwt_study.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Replica 지연 감시 (지연 초과/복제 중단/접속 실패 시 읽기 쿼리를 Primary로 우회)
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String LAG_COLUMN = "Seconds_Behind_Source";
+
+    private final DataSource replicaDataSource; // null이면 Replica 미사용
+    private final ReplicaProperties properties;
+
+    private volatile boolean replicaUsable;
+    private volatile long lagSeconds = -1;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, ReplicaProperties properties, MeterRegistry meterRegistry) {
+        this.replicaDataSource = replicaDataSource;
+        this.properties = properties;
+
+        Gauge.builder("replica.lag.seconds", this, monitor -> monitor.lagSeconds)
+                .description("Replica 복제 지연 (초, -1: 확인 불가)")
+                .register(meterRegistry);
+        Gauge.builder("replica.usable", this, monitor -> monitor.replicaUsable ? 1 : 0)
+                .description("읽기 쿼리의 Replica 라우팅 여부")
+                .register(meterRegistry);
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        if (replicaDataSource == null) {
+            return;
+        }
+
+        boolean wasUsable = replicaUsable;
+        try (Connection connection = replicaDataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(properties.getLagQuery())) {
+
+            // 결과 없음 = 복제 정보 없음(지연 0으로 간주), NULL = 복제 중단
+            Long lag = rs.next() ? readLag(rs) : Long.valueOf(0);
+            lagSeconds = lag == null ? -1 : lag;
+            replicaUsable = lag != null && lag <= properties.getMaxLagSeconds();
+        } catch (SQLException e) {
+            lagSeconds = -1;
+            replicaUsable = false;
+        }
+
+        if (wasUsable != replicaUsable) {
+            log.warn("Replica 라우팅 상태 변경: usable={}, lagSeconds={}", replicaUsable, lagSeconds);
+        }
+    }
+
+    private Long readLag(ResultSet rs) throws SQLException {
+        int column;
+        try {
+            column = rs.findColumn(LAG_COLUMN);
+        } catch (SQLException e) {
+            column = 1;
+        }
+        long lag = rs.getLong(column);
+        return rs.wasNull() ? null : lag;
+    }
+}
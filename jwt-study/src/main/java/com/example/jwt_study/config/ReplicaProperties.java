@@ -0,0 +1,23 @@
+package com.example.jwt_study.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 읽기 전용 복제본(Replica) 설정값 (url 미설정 시 모든 쿼리는 Primary)
+ */
+@Component
+@ConfigurationProperties(prefix = "app.datasource.replica")
+@Getter
+@Setter
+public class ReplicaProperties {
+    private String url;
+    private String username;
+    private String password;
+    private String driverClassName;
+    private long maxLagSeconds = 5; // 초과 시 Primary로 우회
+    private String lagQuery = "SHOW REPLICA STATUS"; // Seconds_Behind_Source 또는 첫 번째 컬럼(초)
+    private long lagCheckIntervalMs = 1000;
+}
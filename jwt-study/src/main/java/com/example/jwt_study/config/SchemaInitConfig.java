@@ -0,0 +1,30 @@
+package com.example.jwt_study.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.sql.init.SqlDataSourceScriptDatabaseInitializer;
+import org.springframework.boot.autoconfigure.sql.init.SqlInitializationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * 스키마 초기화 설정 (기본 SQL 초기화 빈을 체크섬 비교 + 기존 테이블 변경 적용 초기화로 대체)
+ */
+@Configuration
+@EnableConfigurationProperties(SqlInitializationProperties.class) // mode=never 여도 바인딩 (실행 여부는 상위 클래스가 판단)
+public class SchemaInitConfig {
+
+    /**
+     * skip-when-unchanged=false면 체크섬과 무관하게 매번 실행 (기존 테이블 변경은 항상 적용)
+     */
+    @Bean
+    public SqlDataSourceScriptDatabaseInitializer dataSourceScriptDatabaseInitializer(
+            DataSource dataSource,
+            SqlInitializationProperties properties,
+            @Value("${app.schema-init.skip-when-unchanged:true}") boolean skipWhenUnchanged
+    ) {
+        return new VersionedSchemaInitializer(dataSource, properties, SchemaMigrations.PRIMARY, skipWhenUnchanged);
+    }
+}
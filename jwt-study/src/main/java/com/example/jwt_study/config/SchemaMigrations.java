@@ -0,0 +1,205 @@
+package com.example.jwt_study.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 기존 DB 스키마 변경 (schema.sql의 CREATE TABLE IF NOT EXISTS는 이미 있는 테이블에 반영되지 않음)
+ * 적용 여부를 JDBC 메타데이터로 확인하므로 여러 번 실행해도 안전 (MySQL은 ADD COLUMN IF NOT EXISTS 미지원)
+ * 새 변경은 목록 끝에 추가 (체크섬에 포함되어 다음 기동 시 스키마 초기화가 다시 실행됨)
+ */
+@Slf4j
+public final class SchemaMigrations {
+
+    /**
+     * Primary(schema.sql) 대상
+     */
+    public static final List<Migration> PRIMARY = List.of(
+            addColumn("users", "token_epoch",
+                    "BIGINT NOT NULL DEFAULT 0 COMMENT 'Access token not-before (epoch seconds)'"),
+            refreshTokenPartitionKeys(),
+            addColumn("users", "authorities",
+                    "INT NOT NULL DEFAULT 1 COMMENT 'Authority bitset (bit 0 = ROLE_USER)'"),
+            addColumn("users", "version",
+                    "BIGINT NOT NULL DEFAULT 0 COMMENT 'Entity version (ETag for /api/users/me)'")
+    );
+
+    /**
+     * 추가 샤드(schema-refresh-token-shard.sql) 대상
+     */
+    public static final List<Migration> SHARD = List.of(
+            refreshTokenPartitionKeys()
+    );
+
+    private SchemaMigrations() {
+    }
+
+    /**
+     * @param id         로그/체크섬용 식별자 (변경 내용이 바뀌면 id도 변경)
+     * @param pending    아직 적용되지 않았으면 true
+     * @param statements 현재 스키마 기준으로 순서대로 실행할 DDL (제약 이름 등은 메타데이터에서 조회)
+     */
+    public record Migration(String id, Check pending, Planner statements) {
+    }
+
+    @FunctionalInterface
+    public interface Check {
+        boolean test(DatabaseMetaData metaData, String catalog, String schema) throws SQLException;
+    }
+
+    @FunctionalInterface
+    public interface Planner {
+        List<String> plan(DatabaseMetaData metaData, String catalog, String schema) throws SQLException;
+    }
+
+    public static Migration addColumn(String table, String column, String definition) {
+        return new Migration("add-column " + table + "." + column + " " + definition,
+                (metaData, catalog, schema) -> !hasColumn(metaData, catalog, schema, table, column),
+                (metaData, catalog, schema) -> List.of("ALTER TABLE " + table + " ADD COLUMN " + column + " " + definition));
+    }
+
+    /**
+     * refresh_tokens 파티셔닝 전제 조건 (MySQL만, 파티션 관리도 MySQL에서만 동작)
+     * PK/UNIQUE 키에 absolute_expires_at 포함, users FK 제거
+     * AUTO_INCREMENT 컬럼은 키가 없는 순간이 없어야 하므로 PK 교체는 한 ALTER 문에서 실행
+     */
+    static Migration refreshTokenPartitionKeys() {
+        String table = "refresh_tokens";
+        String partitionColumn = "absolute_expires_at";
+        return new Migration("refresh_tokens partition keys (id|token_hash, absolute_expires_at), drop fk",
+                (metaData, catalog, schema) -> isMySql(metaData)
+                        && (!primaryKeyColumns(metaData, catalog, schema, table).contains(partitionColumn)
+                        || !foreignKeyNames(metaData, catalog, schema, table).isEmpty()
+                        || tokenHashUniqueIndex(metaData, catalog, schema, table)
+                                .filter(index -> !index.getValue().contains(partitionColumn)).isPresent()),
+                (metaData, catalog, schema) -> {
+                    List<String> statements = new ArrayList<>();
+                    for (String foreignKey : foreignKeyNames(metaData, catalog, schema, table)) {
+                        statements.add("ALTER TABLE " + table + " DROP FOREIGN KEY " + foreignKey);
+                    }
+                    List<String> changes = new ArrayList<>();
+                    if (!primaryKeyColumns(metaData, catalog, schema, table).contains(partitionColumn)) {
+                        changes.add("DROP PRIMARY KEY, ADD PRIMARY KEY (id, " + partitionColumn + ")");
+                    }
+                    Optional<Map.Entry<String, Set<String>>> unique = tokenHashUniqueIndex(metaData, catalog, schema, table);
+                    if (unique.isEmpty() || !unique.get().getValue().contains(partitionColumn)) {
+                        unique.ifPresent(index -> changes.add("DROP INDEX " + index.getKey()));
+                        changes.add("ADD UNIQUE KEY uk_token_hash (token_hash, " + partitionColumn + ")");
+                    }
+                    if (!changes.isEmpty()) {
+                        statements.add("ALTER TABLE " + table + " " + String.join(", ", changes));
+                    }
+                    return statements;
+                });
+    }
+
+    private static boolean isMySql(DatabaseMetaData metaData) throws SQLException {
+        return "MySQL".equalsIgnoreCase(metaData.getDatabaseProductName());
+    }
+
+    private static Set<String> primaryKeyColumns(DatabaseMetaData metaData, String catalog, String schema, String table)
+            throws SQLException {
+        Set<String> columns = new HashSet<>();
+        try (ResultSet keys = metaData.getPrimaryKeys(catalog, schema, table)) {
+            while (keys.next()) {
+                columns.add(keys.getString("COLUMN_NAME").toLowerCase());
+            }
+        }
+        return columns;
+    }
+
+    private static Set<String> foreignKeyNames(DatabaseMetaData metaData, String catalog, String schema, String table)
+            throws SQLException {
+        Set<String> names = new LinkedHashSet<>();
+        try (ResultSet keys = metaData.getImportedKeys(catalog, schema, table)) {
+            while (keys.next()) {
+                names.add(keys.getString("FK_NAME"));
+            }
+        }
+        return names;
+    }
+
+    /**
+     * token_hash를 포함하는 UNIQUE 인덱스 (이름 → 컬럼)
+     */
+    private static Optional<Map.Entry<String, Set<String>>> tokenHashUniqueIndex(
+            DatabaseMetaData metaData, String catalog, String schema, String table) throws SQLException {
+        Map<String, Set<String>> indexes = new LinkedHashMap<>();
+        try (ResultSet rows = metaData.getIndexInfo(catalog, schema, table, true, false)) {
+            while (rows.next()) {
+                String name = rows.getString("INDEX_NAME");
+                String column = rows.getString("COLUMN_NAME");
+                if (name == null || column == null || "PRIMARY".equalsIgnoreCase(name)) {
+                    continue;
+                }
+                indexes.computeIfAbsent(name, key -> new HashSet<>()).add(column.toLowerCase());
+            }
+        }
+        return indexes.entrySet().stream()
+                .filter(index -> index.getValue().contains("token_hash"))
+                .findFirst();
+    }
+
+    static boolean hasColumn(DatabaseMetaData metaData, String catalog, String schema, String table, String column)
+            throws SQLException {
+        try (ResultSet columns = metaData.getColumns(catalog, schema, table, column)) {
+            return columns.next();
+        }
+    }
+
+    /**
+     * 미적용 변경만 실행 (적용한 개수 반환)
+     */
+    public static int apply(DataSource dataSource, List<Migration> migrations) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        int applied = 0;
+        for (Migration migration : migrations) {
+            if (!isPending(dataSource, migration)) {
+                continue;
+            }
+            plan(dataSource, migration).forEach(jdbcTemplate::execute);
+            applied++;
+            log.info("스키마 변경 적용: {}", migration.id());
+        }
+        return applied;
+    }
+
+    private static boolean isPending(DataSource dataSource, Migration migration) {
+        return withMetaData(dataSource, migration, migration.pending()::test);
+    }
+
+    private static List<String> plan(DataSource dataSource, Migration migration) {
+        return withMetaData(dataSource, migration, migration.statements()::plan);
+    }
+
+    private static <T> T withMetaData(DataSource dataSource, Migration migration, MetaDataCallback<T> callback) {
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            return callback.apply(connection.getMetaData(), connection.getCatalog(), connection.getSchema());
+        } catch (SQLException e) {
+            throw new IllegalStateException("스키마 메타데이터 조회 실패: " + migration.id(), e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    @FunctionalInterface
+    private interface MetaDataCallback<T> {
+        T apply(DatabaseMetaData metaData, String catalog, String schema) throws SQLException;
+    }
+}
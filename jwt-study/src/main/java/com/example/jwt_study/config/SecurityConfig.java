@@ -1,9 +1,13 @@
 package com.example.jwt_study.config;
 
+import com.example.jwt_study.security.ConcurrencyLimitFilter;
+import com.example.jwt_study.security.IdempotencyFilter;
 import com.example.jwt_study.security.JwtAuthenticationFilter;
+import com.example.jwt_study.security.LoginRateLimitFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -15,13 +19,18 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 
 /**
  * Spring Security 설정
+ * 권한은 액세스 토큰의 auth 비트셋에서 복원하므로 URL/메서드 권한 검사에 DB 조회 없음
  */
 @Configuration
 @EnableWebSecurity
+@EnableMethodSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final LoginRateLimitFilter loginRateLimitFilter;
+    private final ConcurrencyLimitFilter concurrencyLimitFilter;
+    private final IdempotencyFilter idempotencyFilter;
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -35,9 +44,15 @@ public class SecurityConfig {
                 )
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/auth/login", "/api/auth/register", "/api/auth/refresh", "/api/auth/logout").permitAll()
+                        .requestMatchers("/api/auth/introspect").permitAll() // 클라이언트 인증은 컨트롤러에서 (Basic)
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll() // liveness/readiness 프로브
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(loginRateLimitFilter, JwtAuthenticationFilter.class)
+                .addFilterBefore(idempotencyFilter, LoginRateLimitFilter.class) // 재생 응답은 시도 제한에 포함하지 않음
+                .addFilterAfter(concurrencyLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
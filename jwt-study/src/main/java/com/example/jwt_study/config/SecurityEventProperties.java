@@ -0,0 +1,26 @@
+package com.example.jwt_study.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 보안 이벤트 파이프라인 설정값
+ */
+@Component
+@ConfigurationProperties(prefix = "app.security-events")
+@Getter
+@Setter
+public class SecurityEventProperties {
+    private int capacity = 8192; // 링 버퍼 크기 (2의 거듭제곱으로 올림)
+    private int batchSize = 200; // 1회 INSERT 최대 행 수
+    private long flushIntervalMs = 200; // 버퍼가 비었을 때 대기 시간
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+    private long blockTimeoutMs = 5; // BLOCK 정책에서 최대 대기 후 폐기
+
+    public enum OverflowPolicy {
+        DROP,  // 가득 차면 즉시 폐기 (요청 지연 없음)
+        BLOCK  // 가득 차면 blockTimeoutMs까지 대기 후 폐기
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.jwt_study.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 관리자 세션 조회/내보내기 설정값
+ */
+@Component
+@ConfigurationProperties(prefix = "app.admin.sessions")
+@Getter
+@Setter
+public class SessionAdminProperties {
+    private int defaultPageSize = 50;
+    private int maxPageSize = 500;
+    private int exportFetchSize = 1000; // MySQL은 URL에 useCursorFetch=true가 있어야 서버 커서로 나눠 읽음
+    private int exportFlushRows = 1000; // 이 행 수마다 응답 flush
+}
@@ -0,0 +1,20 @@
+package com.example.jwt_study.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 관리자 사용자 일괄 가져오기 설정값
+ */
+@Component
+@ConfigurationProperties(prefix = "app.admin.user-import")
+@Getter
+@Setter
+public class UserImportProperties {
+    private int chunkSize = 500; // 사용자명 중복 조회(IN) + 배치 INSERT 단위
+    private int hashParallelism = 0; // BCrypt 병렬도 (0이면 CPU 코어 수)
+    private int maxRows = 100000; // 요청 1회 최대 행 수 (초과분은 읽지 않음)
+    private int maxReportedErrors = 1000; // 응답에 담을 행 오류 상한 (건수는 모두 집계)
+}
@@ -0,0 +1,131 @@
+package com.example.jwt_study.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.sql.init.SqlDataSourceScriptDatabaseInitializer;
+import org.springframework.boot.autoconfigure.sql.init.SqlInitializationProperties;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * schema.sql 초기화 (스크립트 체크섬이 schema_version에 기록된 값과 같으면 생략)
+ * 인스턴스 증설 시 매 기동마다 CREATE TABLE IF NOT EXISTS 왕복을 반복하지 않도록 함
+ * 스크립트 실행 후 기존 테이블 변경(SchemaMigrations)까지 적용, 변경 목록도 체크섬에 포함
+ */
+@Slf4j
+public class VersionedSchemaInitializer extends SqlDataSourceScriptDatabaseInitializer {
+
+    private static final String OPTIONAL_PREFIX = "optional:";
+    private static final List<String> DEFAULT_SCHEMA_LOCATIONS = List.of("classpath*:schema.sql");
+
+    private final DataSource dataSource;
+    private final SqlInitializationProperties properties;
+    private final List<SchemaMigrations.Migration> migrations;
+    private final boolean skipWhenUnchanged;
+    private ResourcePatternResolver resourceResolver;
+
+    public VersionedSchemaInitializer(
+            DataSource dataSource,
+            SqlInitializationProperties properties,
+            List<SchemaMigrations.Migration> migrations,
+            boolean skipWhenUnchanged
+    ) {
+        super(dataSource, properties);
+        this.dataSource = dataSource;
+        this.properties = properties;
+        this.migrations = migrations;
+        this.skipWhenUnchanged = skipWhenUnchanged;
+    }
+
+    @Override
+    public void setResourceLoader(ResourceLoader resourceLoader) {
+        super.setResourceLoader(resourceLoader);
+        this.resourceResolver = ResourcePatternUtils.getResourcePatternResolver(resourceLoader);
+    }
+
+    @Override
+    public boolean initializeDatabase() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        String checksum = scriptChecksum();
+        if (skipWhenUnchanged && checksum != null && checksum.equals(appliedChecksum(jdbcTemplate))) {
+            log.info("스키마 변경 없음, 초기화 생략: checksum={}", checksum.substring(0, 12));
+            return false;
+        }
+
+        boolean initialized = super.initializeDatabase();
+        if (initialized) {
+            SchemaMigrations.apply(dataSource, migrations);
+        }
+        if (initialized && checksum != null) {
+            recordChecksum(jdbcTemplate, checksum);
+            log.info("스키마 초기화 완료: checksum={}", checksum.substring(0, 12));
+        }
+        return initialized;
+    }
+
+    /**
+     * 스키마/데이터 스크립트 내용 + 기존 테이블 변경 id의 SHA-256 (읽을 수 없으면 null → 항상 초기화)
+     */
+    private String scriptChecksum() {
+        List<String> locations = new ArrayList<>(properties.getSchemaLocations() != null
+                ? properties.getSchemaLocations() : DEFAULT_SCHEMA_LOCATIONS);
+        if (properties.getDataLocations() != null) {
+            locations.addAll(properties.getDataLocations());
+        }
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            ResourcePatternResolver resolver = resourceResolver != null
+                    ? resourceResolver : ResourcePatternUtils.getResourcePatternResolver(null);
+            for (String location : locations) {
+                String path = location.startsWith(OPTIONAL_PREFIX) ? location.substring(OPTIONAL_PREFIX.length()) : location;
+                for (Resource resource : resolver.getResources(path)) {
+                    if (!resource.exists()) {
+                        continue;
+                    }
+                    try (InputStream input = resource.getInputStream()) {
+                        digest.update(input.readAllBytes());
+                    }
+                }
+            }
+            for (SchemaMigrations.Migration migration : migrations) {
+                digest.update(migration.id().getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            log.warn("스키마 체크섬 계산 실패, 초기화 진행: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private String appliedChecksum(JdbcTemplate jdbcTemplate) {
+        try {
+            List<String> checksums = jdbcTemplate.queryForList(
+                    "SELECT checksum FROM schema_version WHERE id = 1", String.class);
+            return checksums.isEmpty() ? null : checksums.get(0);
+        } catch (DataAccessException e) {
+            return null; // 테이블 없음 (최초 기동)
+        }
+    }
+
+    private void recordChecksum(JdbcTemplate jdbcTemplate, String checksum) {
+        int updated = jdbcTemplate.update(
+                "UPDATE schema_version SET checksum = ?, applied_at = CURRENT_TIMESTAMP WHERE id = 1", checksum);
+        if (updated == 0) {
+            jdbcTemplate.update("INSERT INTO schema_version (id, checksum) VALUES (1, ?)", checksum);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.jwt_study.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 직후 워밍업 설정값 (완료 전까지 readiness 그룹의 warmup 지표는 OUT_OF_SERVICE)
+ */
+@Component
+@ConfigurationProperties(prefix = "app.warmup")
+@Getter
+@Setter
+public class WarmupProperties {
+    private boolean enabled = true;
+    private long timeBudgetMs = 10_000;  // 초과 시 남은 작업을 건너뛰고 준비 완료
+    private int iterations = 2_000;      // JWT/해시/JSON 반복 횟수
+    private int repositoryIterations = 200;
+    private int bcryptIterations = 5;    // 1회당 수십 ms
+}
@@ -0,0 +1,59 @@
+package com.example.jwt_study.controller;
+
+import com.example.jwt_study.dto.SessionPageResponse;
+import com.example.jwt_study.service.SessionAdminService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+/**
+ * 관리자 세션 API (ROLE_ADMIN + users:read 권한 필요)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/admin/sessions")
+@RequiredArgsConstructor
+@PreAuthorize("hasAuthority('users:read')")
+public class AdminSessionController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final SessionAdminService sessionAdminService;
+
+    /**
+     * 활성 세션 목록 (응답의 nextCursor로 다음 페이지 요청)
+     */
+    @GetMapping
+    public ResponseEntity<SessionPageResponse> list(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) Long userId
+    ) {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CACHE_CONTROL, "no-store")
+                .body(sessionAdminService.page(cursor, size, userId));
+    }
+
+    /**
+     * 활성 세션 전체 내보내기 (NDJSON 스트리밍)
+     */
+    @GetMapping("/export")
+    public void export(
+            @RequestParam(required = false) Long userId,
+            HttpServletResponse response
+    ) throws IOException {
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"sessions.ndjson\"");
+
+        long exported = sessionAdminService.export(userId, response.getOutputStream());
+        log.info("세션 내보내기 완료: rows={}, userId={}", exported, userId);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.jwt_study.controller;
+
+import com.example.jwt_study.dto.UserImportResponse;
+import com.example.jwt_study.service.UserImportService;
+import com.example.jwt_study.service.UserImportService.Format;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+/**
+ * 관리자 사용자 API (ROLE_ADMIN + users:write 권한 필요)
+ */
+@RestController
+@RequestMapping("/api/admin/users")
+@RequiredArgsConstructor
+@PreAuthorize("hasAuthority('users:write')")
+public class AdminUserController {
+
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String CSV = "text/csv";
+
+    private final UserImportService userImportService;
+
+    /**
+     * 사용자 일괄 가져오기 (본문을 버퍼링하지 않고 읽으며 저장, 행 오류가 있어도 200)
+     * NDJSON: {"username": "...", "password": "..."} 한 줄에 하나, CSV: username,password 헤더
+     */
+    @PostMapping(path = "/import", consumes = {NDJSON, CSV})
+    public ResponseEntity<UserImportResponse> importUsers(HttpServletRequest request) throws IOException {
+        Format format = MediaType.parseMediaType(request.getContentType()).isCompatibleWith(MediaType.parseMediaType(CSV))
+                ? Format.CSV
+                : Format.NDJSON;
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CACHE_CONTROL, "no-store")
+                .body(userImportService.importUsers(request.getInputStream(), format));
+    }
+}
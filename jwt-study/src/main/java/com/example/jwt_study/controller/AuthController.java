@@ -3,6 +3,7 @@ package com.example.jwt_study.controller;
 import com.example.jwt_study.config.JwtProperties;
 import com.example.jwt_study.domain.User;
 import com.example.jwt_study.dto.*;
+import com.example.jwt_study.security.TokenEpochCache;
 import com.example.jwt_study.service.AuthService;
 import com.example.jwt_study.service.TokenService;
 import com.example.jwt_study.util.JwtUtil;
@@ -22,10 +23,13 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class AuthController {
 
+    private static final String TOKEN_FORMAT_HEADER = "X-Token-Format";
+
     private final AuthService authService;
     private final TokenService tokenService;
     private final JwtUtil jwtUtil;
     private final JwtProperties jwtProperties;
+    private final TokenEpochCache tokenEpochCache;
 
     /**
      * 회원가입
@@ -43,17 +47,17 @@ public class AuthController {
     @PostMapping("/login")
     public ResponseEntity<TokenResponse> login(
             @Valid @RequestBody LoginRequest request,
+            @RequestHeader(name = TOKEN_FORMAT_HEADER, required = false) String tokenFormat,
             HttpServletResponse response
     ) {
         // 1. 인증
         User user = authService.authenticate(request.getUsername(), request.getPassword());
 
         // 2. 토큰 발급
-        String accessToken = jwtUtil.generateAccessToken(user.getId(), user.getUsername());
-        String refreshToken = jwtUtil.generateRefreshToken(user.getId());
+        String accessToken = issueAccessToken(user.getId(), user.getUsername(), user.getAuthorities(), tokenFormat);
 
-        // 3. 리프레시 토큰 DB 저장 (SHA-256 해싱)
-        tokenService.saveRefreshToken(user.getId(), refreshToken);
+        // 3. 리프레시 토큰 발급 + 홈 샤드에 저장 (SHA-256 해싱)
+        String refreshToken = tokenService.issueRefreshToken(user.getId());
 
         // 4. 리프레시 토큰 쿠키 설정
         setRefreshTokenCookie(response, refreshToken);
@@ -74,6 +78,7 @@ public class AuthController {
     @PostMapping("/refresh")
     public ResponseEntity<TokenResponse> refresh(
             @CookieValue(name = "refreshToken", required = false) String refreshToken,
+            @RequestHeader(name = TOKEN_FORMAT_HEADER, required = false) String tokenFormat,
             HttpServletResponse response
     ) {
         if (refreshToken == null) {
@@ -84,9 +89,9 @@ public class AuthController {
         // 1. RTR 실행 (행잠금 + Soft Delete)
         String newRefreshToken = tokenService.rotateRefreshToken(refreshToken);
 
-        // 2. 새 액세스 토큰 발급
+        // 2. 새 액세스 토큰 발급 (권한은 최신 값으로)
         Long userId = jwtUtil.getUserId(newRefreshToken);
-        String accessToken = jwtUtil.generateAccessToken(userId, null);
+        String accessToken = issueAccessToken(userId, null, authService.getAuthorities(userId), tokenFormat);
 
         // 3. 새 리프레시 토큰 쿠키 설정
         setRefreshTokenCookie(response, newRefreshToken);
@@ -117,6 +122,18 @@ public class AuthController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * 액세스 토큰 발급 (압축 형식이 허용되고 클라이언트가 요청한 경우에만 압축 형식)
+     * iat는 토큰 에포크 이후 (무효화 직후 같은 초에 로그인/갱신해도 새 토큰은 유효)
+     */
+    private String issueAccessToken(Long userId, String username, int authorities, String tokenFormat) {
+        long minIssuedAt = tokenEpochCache.minIssuedAt(userId);
+        if ("compact".equalsIgnoreCase(tokenFormat) && jwtProperties.getCompactToken().isEnabled()) {
+            return jwtUtil.generateCompactAccessToken(userId, authorities, minIssuedAt);
+        }
+        return jwtUtil.generateAccessToken(userId, username, authorities, minIssuedAt);
+    }
+
     /**
      * 리프레시 토큰 쿠키 설정
      */
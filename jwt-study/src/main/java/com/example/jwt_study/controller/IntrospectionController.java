@@ -0,0 +1,35 @@
+package com.example.jwt_study.controller;
+
+import com.example.jwt_study.dto.IntrospectionRequest;
+import com.example.jwt_study.dto.IntrospectionResponse;
+import com.example.jwt_study.service.TokenIntrospectionService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 토큰 인트로스펙션 API (API 게이트웨이용, 클라이언트 공유 비밀 인증)
+ */
+@RestController
+@RequestMapping("/api/auth")
+@RequiredArgsConstructor
+public class IntrospectionController {
+
+    private final TokenIntrospectionService tokenIntrospectionService;
+
+    /**
+     * 여러 토큰을 한 번에 검증 (결과는 요청 순서와 같음)
+     */
+    @PostMapping("/introspect")
+    public ResponseEntity<IntrospectionResponse> introspect(
+            @RequestHeader(name = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @Valid @RequestBody IntrospectionRequest request
+    ) {
+        tokenIntrospectionService.authenticateClient(authorization);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CACHE_CONTROL, "no-store")
+                .body(new IntrospectionResponse(tokenIntrospectionService.introspect(request.getTokens())));
+    }
+}
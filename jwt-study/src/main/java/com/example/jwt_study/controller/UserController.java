@@ -1,14 +1,18 @@
 package com.example.jwt_study.controller;
 
 import com.example.jwt_study.domain.User;
+import com.example.jwt_study.dto.ChangePasswordRequest;
 import com.example.jwt_study.dto.UserResponse;
 import com.example.jwt_study.repository.UserRepository;
+import com.example.jwt_study.service.AuthService;
+import com.example.jwt_study.service.UserVersionCache;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
-import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * 보호된 리소스 API (인증 필요)
@@ -18,19 +22,50 @@ import org.springframework.web.bind.annotation.RestController;
 @RequiredArgsConstructor
 public class UserController {
 
+    private static final CacheControl ME_CACHE_CONTROL = CacheControl.noCache().cachePrivate(); // 항상 재검증
+
     private final UserRepository userRepository;
+    private final AuthService authService;
+    private final UserVersionCache userVersionCache;
 
     /**
-     * 현재 인증된 사용자 정보 조회
+     * 현재 인증된 사용자 정보 조회 (ETag: 사용자 id + 엔티티 버전)
+     * 캐시된 버전과 If-None-Match가 일치하면 엔티티 조회/직렬화 없이 304
      */
     @GetMapping("/me")
-    public ResponseEntity<UserResponse> getCurrentUser(Authentication authentication) {
+    public ResponseEntity<UserResponse> getCurrentUser(Authentication authentication, WebRequest request) {
         Long userId = (Long) authentication.getPrincipal();
 
+        Long cachedVersion = userVersionCache.get(userId);
+        if (cachedVersion != null && request.checkNotModified(etagOf(userId, cachedVersion))) {
+            return null; // 304 상태와 ETag 헤더는 checkNotModified가 설정
+        }
+
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
+        userVersionCache.put(userId, user.getVersion());
 
         UserResponse response = new UserResponse(user.getId(), user.getUsername(), user.getCreatedAt());
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(etagOf(userId, user.getVersion()))
+                .cacheControl(ME_CACHE_CONTROL)
+                .body(response);
+    }
+
+    /**
+     * 비밀번호 변경 (기존 액세스 토큰 즉시 무효화)
+     */
+    @PatchMapping("/me/password")
+    public ResponseEntity<Void> changePassword(
+            Authentication authentication,
+            @Valid @RequestBody ChangePasswordRequest request
+    ) {
+        Long userId = (Long) authentication.getPrincipal();
+        authService.changePassword(userId, request.getCurrentPassword(), request.getNewPassword());
+        return ResponseEntity.noContent().build();
+    }
+
+    private static String etagOf(Long userId, long version) {
+        return "\"" + userId + "-" + version + "\"";
     }
-}
\ No newline at end of file
+}
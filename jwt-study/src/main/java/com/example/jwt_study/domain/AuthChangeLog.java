@@ -0,0 +1,43 @@
+package com.example.jwt_study.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인증 상태 변경 로그 엔티티 (노드 간 캐시 무효화 전파)
+ */
+@Entity
+@Table(name = "auth_change_log")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AuthChangeLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false, length = 32)
+    private ChangeType changeType;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public AuthChangeLog(Long userId, ChangeType changeType) {
+        this.userId = userId;
+        this.changeType = changeType;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public enum ChangeType {
+        TOKEN_EPOCH,   // 액세스 토큰 무효화 (로그아웃, 재사용 탐지, 비밀번호 변경)
+        USER_UPDATED   // 사용자 정보 변경
+    }
+}
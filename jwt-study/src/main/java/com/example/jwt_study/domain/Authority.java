@@ -0,0 +1,59 @@
+package com.example.jwt_study.domain;
+
+/**
+ * 역할/권한 (사용자 authorities 컬럼과 액세스 토큰 auth 클레임에 비트셋으로 저장)
+ * 비트 위치는 발급된 토큰과 저장된 값의 의미이므로 변경/재사용 금지 (추가만 허용, 최대 31개)
+ */
+public enum Authority {
+
+    ROLE_USER(0, "ROLE_USER"),
+    ROLE_ADMIN(1, "ROLE_ADMIN"),
+    USERS_READ(2, "users:read"),
+    USERS_WRITE(3, "users:write");
+
+    /**
+     * 신규 가입자 기본 권한 (auth 클레임이 없는 이전 토큰도 이 값으로 간주)
+     */
+    public static final int DEFAULT_BITS = ROLE_USER.mask();
+
+    /**
+     * 정의된 전체 비트 (알 수 없는 비트는 무시)
+     */
+    public static final int KNOWN_BITS = knownBits();
+
+    private final int bit;
+    private final String authority;
+
+    Authority(int bit, String authority) {
+        this.bit = bit;
+        this.authority = authority;
+    }
+
+    public int mask() {
+        return 1 << bit;
+    }
+
+    public String authority() {
+        return authority;
+    }
+
+    public boolean isIn(int bits) {
+        return (bits & mask()) != 0;
+    }
+
+    public static int bitsOf(Authority... authorities) {
+        int bits = 0;
+        for (Authority authority : authorities) {
+            bits |= authority.mask();
+        }
+        return bits;
+    }
+
+    private static int knownBits() {
+        int bits = 0;
+        for (Authority authority : values()) {
+            bits |= authority.mask();
+        }
+        return bits;
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.jwt_study.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리프레시 토큰 일괄 폐기 대기 엔티티 (백그라운드 워커가 처리 후 삭제)
+ */
+@Entity
+@Table(name = "pending_revocations")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PendingRevocation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 32)
+    private String reason;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public PendingRevocation(Long userId, String reason) {
+        this.userId = userId;
+        this.reason = reason;
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -6,11 +6,13 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 /**
  * 리프레시 토큰 엔티티 (RTR + 경쟁 조건 방지)
  * RFC 6749 - Refresh Token Rotation 구현
+ * absolute_expires_at 일 단위 RANGE 파티션 (토큰의 bkt 클레임으로 단일 파티션 조회)
  */
 @Entity
 @Table(name = "refresh_tokens")
@@ -80,4 +82,22 @@ public class RefreshToken {
     public boolean isUsed() {
         return revoked || usedAt != null;
     }
+
+    /**
+     * 파티션 버킷 (절대 만료일의 epoch day, RTR 후에도 불변)
+     */
+    public long getExpiryBucket() {
+        return expiryBucketOf(absoluteExpiresAt);
+    }
+
+    public static long expiryBucketOf(LocalDateTime absoluteExpiresAt) {
+        return absoluteExpiresAt.toLocalDate().toEpochDay();
+    }
+
+    /**
+     * 버킷 시작 시각 (해당 일 00:00, 조회 범위 [start, start + 1일))
+     */
+    public static LocalDateTime bucketStart(long expiryBucket) {
+        return LocalDate.ofEpochDay(expiryBucket).atStartOfDay();
+    }
 }
\ No newline at end of file
@@ -27,6 +27,16 @@ public class User {
     @Column(nullable = false)
     private String password; // BCrypt hash
 
+    @Column(name = "token_epoch", nullable = false)
+    private long tokenEpoch; // 액세스 토큰 not-before (epoch seconds)
+
+    @Column(nullable = false)
+    private int authorities; // Authority 비트셋
+
+    @Version
+    @Column(nullable = false)
+    private long version; // 엔티티 변경마다 증가 (/me ETag)
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -34,6 +44,32 @@ public class User {
     public User(String username, String password) {
         this.username = username;
         this.password = password;
+        this.authorities = Authority.DEFAULT_BITS;
         this.createdAt = LocalDateTime.now();
     }
+
+    /**
+     * 비밀번호 변경 (BCrypt hash)
+     */
+    public void changePassword(String password) {
+        this.password = password;
+    }
+
+    /**
+     * 권한 부여 (기존 액세스 토큰에는 다음 갱신부터 반영)
+     */
+    public void grant(Authority authority) {
+        this.authorities |= authority.mask();
+    }
+
+    /**
+     * 권한 회수 (즉시 반영하려면 토큰 에포크도 올려야 함)
+     */
+    public void revoke(Authority authority) {
+        this.authorities &= ~authority.mask();
+    }
+
+    public boolean hasAuthority(Authority authority) {
+        return authority.isIn(authorities);
+    }
 }
\ No newline at end of file
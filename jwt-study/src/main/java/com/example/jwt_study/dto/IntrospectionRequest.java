@@ -0,0 +1,15 @@
+package com.example.jwt_study.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class IntrospectionRequest {
+
+    @NotEmpty(message = "토큰 목록은 필수입니다")
+    private List<String> tokens;
+}
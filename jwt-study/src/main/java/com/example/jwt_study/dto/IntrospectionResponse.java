@@ -0,0 +1,35 @@
+package com.example.jwt_study.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 인트로스펙션 응답 (요청 순서와 같은 순서의 토큰별 결과)
+ */
+@Getter
+@AllArgsConstructor
+public class IntrospectionResponse {
+    private List<Result> results;
+
+    /**
+     * RFC 7662 응답 필드 (비활성 토큰은 active=false만 포함)
+     */
+    @Getter
+    @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Result {
+        public static final Result INACTIVE = new Result(false, null, null, null, null, null);
+
+        private boolean active;
+        private String sub;
+        private String username;
+        @JsonProperty("token_type")
+        private String tokenType;
+        private Long iat;
+        private Long exp;
+    }
+}
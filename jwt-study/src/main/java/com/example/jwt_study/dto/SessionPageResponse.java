@@ -0,0 +1,16 @@
+package com.example.jwt_study.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 세션 목록 페이지 (nextCursor가 null이면 마지막 페이지)
+ */
+@Getter
+@AllArgsConstructor
+public class SessionPageResponse {
+    private List<SessionResponse> sessions;
+    private String nextCursor;
+}
@@ -0,0 +1,20 @@
+package com.example.jwt_study.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 활성 리프레시 세션 (토큰 해시는 노출하지 않음)
+ */
+@Getter
+@AllArgsConstructor
+public class SessionResponse {
+    private int shard;
+    private Long id;
+    private Long userId;
+    private LocalDateTime createdAt;
+    private LocalDateTime expiresAt;
+    private LocalDateTime absoluteExpiresAt;
+}
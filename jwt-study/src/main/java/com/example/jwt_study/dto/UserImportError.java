@@ -0,0 +1,16 @@
+package com.example.jwt_study.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 가져오지 못한 행 (line: 입력의 1부터 시작하는 줄 번호)
+ */
+@Getter
+@AllArgsConstructor
+public class UserImportError {
+    private long line;
+    private String username;
+    private String error;
+    private String message;
+}
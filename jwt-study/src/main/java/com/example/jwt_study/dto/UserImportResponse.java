@@ -0,0 +1,19 @@
+package com.example.jwt_study.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 사용자 일괄 가져오기 결과 (errorsTruncated면 errors는 앞부분만)
+ */
+@Getter
+@AllArgsConstructor
+public class UserImportResponse {
+    private long total;
+    private long imported;
+    private long failed;
+    private List<UserImportError> errors;
+    private boolean errorsTruncated;
+}
@@ -0,0 +1,20 @@
+package com.example.jwt_study.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보안 이벤트 (불변)
+ */
+@Getter
+@AllArgsConstructor
+public class SecurityEvent {
+    private final SecurityEventType type;
+    private final Long userId;
+    private final String username;
+    private final String clientIp;
+    private final String detail;
+    private final LocalDateTime occurredAt;
+}
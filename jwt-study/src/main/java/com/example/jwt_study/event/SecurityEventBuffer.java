@@ -0,0 +1,81 @@
+package com.example.jwt_study.event;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 고정 크기 lock-free 링 버퍼 (다중 생산자, 단일 소비자)
+ * 슬롯별 시퀀스로 생산자 간 CAS 경합만 발생하며, 가득 차면 offer()가 즉시 false 반환
+ */
+public class SecurityEventBuffer {
+
+    private final int mask;
+    private final AtomicReferenceArray<SecurityEvent> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong(); // 다음 생산 위치
+    private final AtomicLong head = new AtomicLong(); // 다음 소비 위치 (소비자 전용, 크기 계산용으로 공개)
+
+    public SecurityEventBuffer(int requestedCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    public int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    /**
+     * 이벤트 추가 (가득 차면 false)
+     */
+    public boolean offer(SecurityEvent event) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long diff = sequences.get(index) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.set(index, event);
+                    sequences.set(index, position + 1); // 소비자에게 공개
+                    return true;
+                }
+                position = tail.get();
+            } else if (diff < 0) {
+                return false; // 한 바퀴 전 슬롯이 아직 소비되지 않음
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * 최대 maxEvents개를 꺼내 목록에 추가 (단일 소비자 스레드에서만 호출)
+     */
+    public int drainTo(List<SecurityEvent> target, int maxEvents) {
+        int drained = 0;
+        long position = head.get();
+        while (drained < maxEvents) {
+            int index = (int) (position & mask);
+            if (sequences.get(index) != position + 1) {
+                break; // 비었거나 생산자가 아직 기록 중
+            }
+            target.add(slots.get(index));
+            slots.set(index, null);
+            sequences.set(index, position + mask + 1); // 다음 바퀴 생산자에게 반환
+            position++;
+            drained++;
+        }
+        head.set(position);
+        return drained;
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.jwt_study.event;
+
+import com.example.jwt_study.config.SecurityEventProperties;
+import com.example.jwt_study.config.SecurityEventProperties.OverflowPolicy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 보안 이벤트 발행 (요청 스레드에서는 링 버퍼에 넣기만 함, DB 기록은 SecurityEventWriter)
+ */
+@Component
+public class SecurityEventPublisher {
+
+    // auth_events 컬럼 크기 (초과 값 하나가 다중 행 INSERT 전체를 실패시키지 않도록 발행 시점에 자름)
+    private static final int MAX_USERNAME_LENGTH = 50;
+    private static final int MAX_CLIENT_IP_LENGTH = 45;
+    private static final int MAX_DETAIL_LENGTH = 255;
+
+    private final SecurityEventBuffer buffer;
+    private final SecurityEventProperties properties;
+    private final Counter publishedCounter;
+    private final Counter droppedCounter;
+
+    public SecurityEventPublisher(SecurityEventProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.buffer = new SecurityEventBuffer(properties.getCapacity());
+        this.publishedCounter = Counter.builder("security.events.published")
+                .description("버퍼에 들어간 보안 이벤트 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("security.events.dropped")
+                .description("버퍼가 가득 차 폐기된 보안 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("security.events.buffer.size", buffer, SecurityEventBuffer::size)
+                .description("기록 대기 중인 보안 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    SecurityEventBuffer buffer() {
+        return buffer;
+    }
+
+    public void publish(SecurityEventType type, Long userId, String username, String detail) {
+        SecurityEvent event = new SecurityEvent(type, userId, truncate(username, MAX_USERNAME_LENGTH),
+                truncate(currentClientIp(), MAX_CLIENT_IP_LENGTH), truncate(detail, MAX_DETAIL_LENGTH), LocalDateTime.now());
+
+        if (buffer.offer(event) || (properties.getOverflowPolicy() == OverflowPolicy.BLOCK && offerBlocking(event))) {
+            publishedCounter.increment();
+        } else {
+            droppedCounter.increment();
+        }
+    }
+
+    /**
+     * BLOCK 정책: 소비자가 비워줄 때까지 짧게 대기하며 재시도 (blockTimeoutMs 초과 시 폐기)
+     */
+    private boolean offerBlocking(SecurityEvent event) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getBlockTimeoutMs());
+        while (System.nanoTime() < deadline) {
+            LockSupport.parkNanos(50_000);
+            if (buffer.offer(event)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String currentClientIp() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletRequest request = attributes.getRequest();
+            return request.getRemoteAddr();
+        }
+        return null;
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+}
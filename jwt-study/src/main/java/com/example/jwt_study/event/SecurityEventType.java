@@ -0,0 +1,14 @@
+package com.example.jwt_study.event;
+
+/**
+ * 보안 이벤트 유형
+ */
+public enum SecurityEventType {
+    LOGIN_SUCCESS,
+    LOGIN_FAILURE,
+    LOGOUT,
+    PASSWORD_CHANGED,
+    REFRESH_TOKEN_REUSE,
+    REFRESH_TOKEN_EXPIRED,
+    INVALID_TOKEN
+}
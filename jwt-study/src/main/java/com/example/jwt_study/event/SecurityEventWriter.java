@@ -0,0 +1,156 @@
+package com.example.jwt_study.event;
+
+import com.example.jwt_study.config.SecurityEventProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 보안 이벤트 기록기 (단일 백그라운드 스레드가 링 버퍼를 비우며 다중 행 INSERT)
+ * 종료 시 남은 이벤트를 모두 기록한 뒤 정지
+ */
+@Slf4j
+@Component
+public class SecurityEventWriter implements SmartLifecycle {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO auth_events (event_type, user_id, username, client_ip, detail, occurred_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?)";
+    private static final int COLUMNS = 6;
+
+    private final SecurityEventBuffer buffer;
+    private final SecurityEventProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final Counter writtenCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public SecurityEventWriter(
+            SecurityEventPublisher publisher,
+            SecurityEventProperties properties,
+            DataSource dataSource,
+            MeterRegistry meterRegistry
+    ) {
+        this.buffer = publisher.buffer();
+        this.properties = properties;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.writtenCounter = Counter.builder("security.events.written")
+                .description("auth_events에 기록된 보안 이벤트 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("security.events.write.failures")
+                .description("기록에 실패해 유실된 보안 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::runLoop, "security-event-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        LockSupport.unpark(worker);
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버보다 먼저 시작하고 나중에 정지 (종료 중 요청의 이벤트까지 기록)
+     */
+    @Override
+    public int getPhase() {
+        return DEFAULT_PHASE - 4096;
+    }
+
+    private void runLoop() {
+        List<SecurityEvent> batch = new ArrayList<>(properties.getBatchSize());
+        while (running) {
+            if (drainAndWrite(batch) == 0) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(properties.getFlushIntervalMs()));
+            }
+        }
+        // 종료 시 잔여분 기록
+        while (drainAndWrite(batch) > 0) {
+            // 버퍼가 빌 때까지 반복
+        }
+    }
+
+    /**
+     * 한 배치를 꺼내 INSERT ... VALUES (...), (...) 한 문장으로 기록
+     * 실패하면 행 단위로 다시 기록하여 문제 행만 유실 (악성 입력 하나로 배치 전체가 사라지지 않도록)
+     */
+    int drainAndWrite(List<SecurityEvent> batch) {
+        batch.clear();
+        int count = buffer.drainTo(batch, properties.getBatchSize());
+        if (count == 0) {
+            return 0;
+        }
+
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + count * (ROW_PLACEHOLDER.length() + 2))
+                .append(INSERT_PREFIX);
+        Object[] args = new Object[count * COLUMNS];
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(ROW_PLACEHOLDER);
+            bind(batch.get(i), args, i * COLUMNS);
+        }
+
+        try {
+            jdbcTemplate.update(sql.toString(), args);
+            writtenCounter.increment(count);
+        } catch (RuntimeException e) {
+            log.warn("보안 이벤트 배치 기록 실패, 행 단위로 재시도: count={}", count, e);
+            writeOneByOne(batch);
+        }
+        return count;
+    }
+
+    private void writeOneByOne(List<SecurityEvent> batch) {
+        Object[] args = new Object[COLUMNS];
+        for (SecurityEvent event : batch) {
+            bind(event, args, 0);
+            try {
+                jdbcTemplate.update(INSERT_PREFIX + ROW_PLACEHOLDER, args);
+                writtenCounter.increment();
+            } catch (RuntimeException e) {
+                failedCounter.increment();
+                log.error("보안 이벤트 기록 실패: type={}, userId={}", event.getType(), event.getUserId(), e);
+            }
+        }
+    }
+
+    private static void bind(SecurityEvent event, Object[] args, int offset) {
+        args[offset] = event.getType().name();
+        args[offset + 1] = event.getUserId();
+        args[offset + 2] = event.getUsername();
+        args[offset + 3] = event.getClientIp();
+        args[offset + 4] = event.getDetail();
+        args[offset + 5] = Timestamp.valueOf(event.getOccurredAt());
+    }
+}
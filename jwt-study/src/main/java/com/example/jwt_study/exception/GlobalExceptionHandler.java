@@ -1,7 +1,12 @@
 package com.example.jwt_study.exception;
 
 import com.example.jwt_study.dto.ErrorResponse;
+import com.example.jwt_study.event.SecurityEventPublisher;
+import com.example.jwt_study.event.SecurityEventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -14,8 +19,11 @@ import java.util.stream.Collectors;
  * 전역 예외 처리 핸들러 (응답 표준화)
  */
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final SecurityEventPublisher securityEventPublisher;
+
     /**
      * 토큰 재사용 감지 예외 (보안 이벤트)
      */
@@ -39,10 +47,21 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(InvalidTokenException.class)
     public ResponseEntity<ErrorResponse> handleInvalidToken(InvalidTokenException e) {
+        securityEventPublisher.publish(SecurityEventType.INVALID_TOKEN, null, null, e.getMessage());
         return ResponseEntity.status(401)
                 .body(new ErrorResponse("invalid_token", e.getMessage()));
     }
 
+    /**
+     * 토큰 저장소 일시 장애 (서킷 OPEN, 잠금/쿼리 타임아웃) - 재시도 가능
+     */
+    @ExceptionHandler(TokenStoreUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleTokenStoreUnavailable(TokenStoreUnavailableException e) {
+        return ResponseEntity.status(503)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(new ErrorResponse("temporarily_unavailable", e.getMessage()));
+    }
+
     /**
      * 인증 실패 예외 (잘못된 사용자명/비밀번호)
      */
@@ -52,6 +71,34 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse("invalid_credentials", e.getMessage()));
     }
 
+    /**
+     * 권한 부족 예외 (메서드 보안, 기타 예외 핸들러보다 우선)
+     */
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<ErrorResponse> handleAccessDenied(AccessDeniedException e) {
+        return ResponseEntity.status(403)
+                .body(new ErrorResponse("access_denied", "권한이 없습니다"));
+    }
+
+    /**
+     * 인트로스펙션 클라이언트 인증 실패 예외
+     */
+    @ExceptionHandler(InvalidClientException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidClient(InvalidClientException e) {
+        return ResponseEntity.status(401)
+                .header(HttpHeaders.WWW_AUTHENTICATE, "Basic realm=\"introspection\"")
+                .body(new ErrorResponse("invalid_client", e.getMessage()));
+    }
+
+    /**
+     * 잘못된 요청 예외
+     */
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRequest(InvalidRequestException e) {
+        return ResponseEntity.status(400)
+                .body(new ErrorResponse("invalid_request", e.getMessage()));
+    }
+
     /**
      * 중복 사용자명 예외
      */
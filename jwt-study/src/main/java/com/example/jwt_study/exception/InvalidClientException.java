@@ -0,0 +1,10 @@
+package com.example.jwt_study.exception;
+
+/**
+ * 인트로스펙션 클라이언트 인증 실패 예외
+ */
+public class InvalidClientException extends RuntimeException {
+    public InvalidClientException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.jwt_study.exception;
+
+/**
+ * 잘못된 요청 예외 (요청 크기 제한 초과 등)
+ */
+public class InvalidRequestException extends RuntimeException {
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.jwt_study.exception;
+
+import lombok.Getter;
+
+/**
+ * 토큰 저장소 일시 장애 예외 (503 + Retry-After, 클라이언트 재시도 가능)
+ */
+@Getter
+public class TokenStoreUnavailableException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TokenStoreUnavailableException(String message, long retryAfterSeconds, Throwable cause) {
+        super(message, cause);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.jwt_study.repository;
+
+import com.example.jwt_study.domain.AuthChangeLog;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface AuthChangeLogRepository extends JpaRepository<AuthChangeLog, Long> {
+
+    /**
+     * 마지막으로 본 id 이후 변경분 조회 (PK 범위 스캔)
+     */
+    List<AuthChangeLog> findByIdGreaterThanOrderByIdAsc(Long lastSeenId, Limit limit);
+
+    /**
+     * 폴링 시 비어 있던 id 재확인 (늦게 커밋된 트랜잭션)
+     */
+    List<AuthChangeLog> findByIdIn(Collection<Long> ids);
+
+    @Query("SELECT COALESCE(MAX(l.id), 0) FROM AuthChangeLog l")
+    long findMaxId();
+
+    /**
+     * 보존 기간이 지난 로그 정리
+     */
+    @Modifying
+    @Query("DELETE FROM AuthChangeLog l WHERE l.createdAt < :before")
+    int deleteOlderThan(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,25 @@
+package com.example.jwt_study.repository;
+
+import com.example.jwt_study.domain.PendingRevocation;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface PendingRevocationRepository extends JpaRepository<PendingRevocation, Long> {
+
+    /**
+     * 오래된 순 대기 건 조회 (워커 배치)
+     */
+    List<PendingRevocation> findAllByOrderByIdAsc(Limit limit);
+
+    /**
+     * 사용자의 처리 대기 중인 가장 늦은 폐기 요청 시각
+     */
+    @Query("SELECT MAX(p.createdAt) FROM PendingRevocation p WHERE p.userId = :userId")
+    Optional<LocalDateTime> findLatestRequestedAt(@Param("userId") Long userId);
+}
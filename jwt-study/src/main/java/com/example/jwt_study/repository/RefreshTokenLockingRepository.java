@@ -0,0 +1,16 @@
+package com.example.jwt_study.repository;
+
+import com.example.jwt_study.domain.RefreshToken;
+
+import java.util.Optional;
+
+/**
+ * RTR 행잠금 조회 (설정된 잠금 모드/타임아웃 적용)
+ */
+public interface RefreshTokenLockingRepository {
+
+    /**
+     * 토큰 해시로 행잠금 조회 (만료 버킷이 있으면 해당 일 범위, 단일 파티션)
+     */
+    Optional<RefreshToken> findForRotation(String tokenHash, Long expiryBucket);
+}
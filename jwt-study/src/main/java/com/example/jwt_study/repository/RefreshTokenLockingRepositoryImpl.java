@@ -0,0 +1,50 @@
+package com.example.jwt_study.repository;
+
+import com.example.jwt_study.config.RefreshTokenStoreProperties;
+import com.example.jwt_study.domain.RefreshToken;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Optional;
+
+/**
+ * SELECT ... FOR UPDATE [NOWAIT | SKIP LOCKED] (잠금 모드는 설정에서 선택)
+ */
+@RequiredArgsConstructor
+public class RefreshTokenLockingRepositoryImpl implements RefreshTokenLockingRepository {
+
+    private static final String LOCK_TIMEOUT_HINT = "jakarta.persistence.lock.timeout";
+    private static final int NO_WAIT = 0;
+    private static final int SKIP_LOCKED = -2; // Hibernate LockOptions.SKIP_LOCKED
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final RefreshTokenStoreProperties properties;
+
+    @Override
+    public Optional<RefreshToken> findForRotation(String tokenHash, Long expiryBucket) {
+        String jpql = "SELECT rt FROM RefreshToken rt WHERE rt.tokenHash = :tokenHash"
+                + (expiryBucket != null ? " AND rt.absoluteExpiresAt >= :from AND rt.absoluteExpiresAt < :to" : "");
+        TypedQuery<RefreshToken> query = entityManager.createQuery(jpql, RefreshToken.class)
+                .setParameter("tokenHash", tokenHash)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint(LOCK_TIMEOUT_HINT, lockTimeout());
+        if (expiryBucket != null) {
+            query.setParameter("from", RefreshToken.bucketStart(expiryBucket))
+                    .setParameter("to", RefreshToken.bucketStart(expiryBucket + 1));
+        }
+        return query.getResultStream().findFirst();
+    }
+
+    private int lockTimeout() {
+        return switch (properties.getLockMode()) {
+            case NOWAIT -> NO_WAIT;
+            case SKIP_LOCKED -> SKIP_LOCKED;
+            case WAIT -> (int) properties.getLockTimeoutMs();
+        };
+    }
+}
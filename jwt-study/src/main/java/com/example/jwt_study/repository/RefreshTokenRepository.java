@@ -1,9 +1,7 @@
 package com.example.jwt_study.repository;
 
 import com.example.jwt_study.domain.RefreshToken;
-import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,20 +9,23 @@ import org.springframework.data.repository.query.Param;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
-public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long>, RefreshTokenLockingRepository {
 
     /**
-     * 토큰 해시로 조회 (행 잠금 적용, RTR 경쟁 조건 방지)
-     * SELECT ... FOR UPDATE
+     * 토큰 해시로 조회 (일반 조회, 잠금 없음)
      */
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT rt FROM RefreshToken rt WHERE rt.tokenHash = :tokenHash")
-    Optional<RefreshToken> findByTokenHashWithLock(@Param("tokenHash") String tokenHash);
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
 
     /**
-     * 토큰 해시로 조회 (일반 조회, 잠금 없음)
+     * 토큰 해시 + 만료 버킷으로 조회 (잠금 없음, 단일 파티션)
      */
-    Optional<RefreshToken> findByTokenHash(String tokenHash);
+    @Query("SELECT rt FROM RefreshToken rt WHERE rt.tokenHash = :tokenHash " +
+            "AND rt.absoluteExpiresAt >= :from AND rt.absoluteExpiresAt < :to")
+    Optional<RefreshToken> findByTokenHashInRange(
+            @Param("tokenHash") String tokenHash,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
 
     /**
      * 사용자 ID로 모든 리프레시 토큰 삭제 (재사용 탐지 시)
@@ -33,6 +34,14 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
     @Query("DELETE FROM RefreshToken rt WHERE rt.userId = :userId")
     void deleteAllByUserId(@Param("userId") Long userId);
 
+    /**
+     * 폐기 요청 시각까지 시작된 세션의 리프레시 토큰 삭제 (폐기 워커, 요청 이후 재로그인 세션은 유지)
+     * 세션은 Absolute 만료로 식별 (RTR 후속 토큰도 로그인 시점의 값을 유지)
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken rt WHERE rt.userId = :userId AND rt.absoluteExpiresAt <= :sessionCutoff")
+    int deleteAllByUserIdStartedUpTo(@Param("userId") Long userId, @Param("sessionCutoff") LocalDateTime sessionCutoff);
+
     /**
      * 만료된 토큰 정리 (스케줄러용)
      */
@@ -2,7 +2,12 @@ package com.example.jwt_study.repository;
 
 import com.example.jwt_study.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -10,4 +15,35 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByUsername(String username);
 
     boolean existsByUsername(String username);
-}
\ No newline at end of file
+
+    /**
+     * 권한 비트셋 조회 (토큰 갱신 시 최신 권한 반영)
+     */
+    @Query("SELECT u.authorities FROM User u WHERE u.id = :userId")
+    Optional<Integer> findAuthoritiesById(@Param("userId") Long userId);
+
+    /**
+     * 토큰 에포크 갱신 (액세스 토큰 일괄 무효화, 단조 증가만 허용)
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.tokenEpoch = :epoch WHERE u.id = :userId AND u.tokenEpoch < :epoch")
+    int updateTokenEpoch(@Param("userId") Long userId, @Param("epoch") long epoch);
+
+    /**
+     * 기준 시각 이후 갱신된 토큰 에포크 조회 (메모리 캐시 적재용)
+     */
+    @Query("SELECT u.id AS id, u.tokenEpoch AS tokenEpoch FROM User u WHERE u.tokenEpoch > :since")
+    List<TokenEpochView> findTokenEpochsAfter(@Param("since") long since);
+
+    /**
+     * 지정 사용자들의 토큰 에포크 조회 (변경 로그 반영용)
+     */
+    @Query("SELECT u.id AS id, u.tokenEpoch AS tokenEpoch FROM User u WHERE u.id IN :ids")
+    List<TokenEpochView> findTokenEpochsByIdIn(@Param("ids") Collection<Long> ids);
+
+    interface TokenEpochView {
+        Long getId();
+
+        long getTokenEpoch();
+    }
+}
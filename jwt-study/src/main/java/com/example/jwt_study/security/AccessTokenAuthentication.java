@@ -0,0 +1,57 @@
+package com.example.jwt_study.security;
+
+import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 액세스 토큰 인증 정보 (principal: 사용자 id)
+ * UsernamePasswordAuthenticationToken은 권한 목록을 매번 복사하므로 캐시된 불변 목록을 그대로 노출
+ */
+public class AccessTokenAuthentication extends AbstractAuthenticationToken {
+
+    private final Long userId;
+    private final List<GrantedAuthority> authorities;
+
+    public AccessTokenAuthentication(Long userId, List<GrantedAuthority> authorities) {
+        super(null);
+        this.userId = userId;
+        this.authorities = authorities;
+        setAuthenticated(true);
+    }
+
+    @Override
+    public List<GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public Object getPrincipal() {
+        return userId;
+    }
+
+    @Override
+    public Object getCredentials() {
+        return null;
+    }
+
+    @Override
+    public String getName() {
+        return userId.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof AccessTokenAuthentication that
+                && userId.equals(that.userId)
+                && authorities.equals(that.authorities)
+                && Objects.equals(getDetails(), that.getDetails());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(userId, authorities);
+    }
+}
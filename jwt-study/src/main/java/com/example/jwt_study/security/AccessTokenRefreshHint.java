@@ -0,0 +1,89 @@
+package com.example.jwt_study.security;
+
+import com.example.jwt_study.config.JwtProperties;
+import com.example.jwt_study.util.AccessTokenClaims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.function.LongSupplier;
+
+/**
+ * 선제 갱신 힌트 (만료 임박 액세스 토큰 응답에 X-Token-Refresh: 남은 초)
+ * 클라이언트가 401을 받기 전에 백그라운드로 갱신하도록 유도 (실패 요청 + 갱신 + 재시도 왕복 제거)
+ * 창에 토큰별로 고정된 지터를 더해 같은 시각 발급 토큰의 갱신이 만료 경계에 몰리지 않게 분산
+ * 갱신 시점이 이전 액세스 토큰 만료 전이면 선제(proactive), 이후면 사후(reactive)로 집계
+ */
+@Component
+public class AccessTokenRefreshHint {
+
+    public static final String HEADER = "X-Token-Refresh";
+
+    private final JwtProperties jwtProperties;
+    private final LongSupplier clock;
+    private final Counter hintCounter;
+    private final Counter proactiveCounter;
+    private final Counter reactiveCounter;
+
+    @Autowired
+    public AccessTokenRefreshHint(JwtProperties jwtProperties, MeterRegistry meterRegistry) {
+        this(jwtProperties, meterRegistry, System::currentTimeMillis);
+    }
+
+    AccessTokenRefreshHint(JwtProperties jwtProperties, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.jwtProperties = jwtProperties;
+        this.clock = clock;
+        this.hintCounter = Counter.builder("access.token.refresh.hints")
+                .description("선제 갱신 힌트 헤더를 붙인 응답 수")
+                .register(meterRegistry);
+        this.proactiveCounter = Counter.builder("access.token.refreshes")
+                .description("이전 액세스 토큰 만료 전에 요청된 갱신 수")
+                .tag("trigger", "proactive")
+                .register(meterRegistry);
+        this.reactiveCounter = Counter.builder("access.token.refreshes")
+                .description("이전 액세스 토큰 만료 후에 요청된 갱신 수 (401 이후)")
+                .tag("trigger", "reactive")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 검증된 토큰이 힌트 창 안이면 헤더 추가 (응답 커밋 전, 필터 체인 실행 전에 호출)
+     */
+    public void apply(AccessTokenClaims claims, HttpServletResponse response) {
+        JwtProperties.RefreshHint settings = jwtProperties.getRefreshHint();
+        if (!settings.isEnabled() || claims.expiresAt() == null) {
+            return;
+        }
+        long remainingSeconds = Math.max(0, (claims.expiresAt().getTime() - clock.getAsLong()) / 1000);
+        if (remainingSeconds <= settings.getWindowSeconds() + jitterSeconds(claims, settings.getJitterSeconds())) {
+            response.setHeader(HEADER, String.valueOf(remainingSeconds));
+            hintCounter.increment();
+        }
+    }
+
+    /**
+     * 토큰(사용자 + 발급 시각)별 고정 지터 → 같은 토큰은 요청마다 같은 판단
+     */
+    static long jitterSeconds(AccessTokenClaims claims, long maxJitterSeconds) {
+        if (maxJitterSeconds <= 0) {
+            return 0;
+        }
+        long seed = claims.userId() ^ (claims.issuedAt() == null ? 0 : claims.issuedAt().getTime());
+        return Math.floorMod(seed * 0x9E3779B97F4A7C15L >>> 16, maxJitterSeconds + 1);
+    }
+
+    /**
+     * 갱신 성공 시 선제/사후 집계
+     * 리프레시 토큰은 액세스 토큰과 같은 시점(로그인/이전 갱신)에 발급되므로 그 iat로 이전 액세스 토큰 만료 추정
+     */
+    public void recordRefresh(Date previousIssuedAt) {
+        if (previousIssuedAt == null) {
+            return;
+        }
+        long previousExpiresAt = previousIssuedAt.getTime() + jwtProperties.getAccessTokenExpiry() * 1000;
+        (clock.getAsLong() < previousExpiresAt ? proactiveCounter : reactiveCounter).increment();
+    }
+}
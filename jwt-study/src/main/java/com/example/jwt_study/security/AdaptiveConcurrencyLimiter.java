@@ -0,0 +1,119 @@
+package com.example.jwt_study.security;
+
+import com.example.jwt_study.config.ConcurrencyLimitProperties;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * 지연 시간 기울기 기반 동시성 한도 (Gradient 방식)
+ * 구간 평균 지연(short)을 장기 기준 지연(long, 지수 이동 평균)과 비교하여
+ * 지연이 늘면 한도를 줄이고, 기준 수준이면 sqrt(limit)만큼 여유를 두고 늘림
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double LONG_RTT_DECAY = 0.05; // 기준 지연 이동 평균 반영 비율
+    private static final double MIN_GRADIENT = 0.5;    // 구간당 최대 감소 폭 (절반)
+
+    private final ConcurrencyLimitProperties properties;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private volatile double limit;
+
+    // 구간 집계 (synchronized)
+    private long windowStart;
+    private long windowRttSum;
+    private int windowSamples;
+    private int windowMaxInflight;
+    private double longRtt;
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.limit = properties.getInitialLimit();
+        this.windowStart = nanoClock.getAsLong();
+    }
+
+    /**
+     * 한도 안이면 진행 중 요청 수를 늘리고 true
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 요청 종료 (sample=false면 실패 응답 등으로 지연 시간을 반영하지 않음)
+     */
+    public void release(long rttNanos, boolean sample) {
+        int inflightAtEnd = inflight.getAndDecrement();
+        if (sample) {
+            onSample(rttNanos, inflightAtEnd);
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    private synchronized void onSample(long rttNanos, int inflightAtEnd) {
+        windowRttSum += rttNanos;
+        windowSamples++;
+        windowMaxInflight = Math.max(windowMaxInflight, inflightAtEnd);
+
+        long now = nanoClock.getAsLong();
+        if (now - windowStart < TimeUnit.MILLISECONDS.toNanos(properties.getWindowMs())
+                || windowSamples < properties.getMinWindowSamples()) {
+            return;
+        }
+
+        double shortRtt = (double) windowRttSum / windowSamples;
+        int maxInflight = windowMaxInflight;
+        windowStart = now;
+        windowRttSum = 0;
+        windowSamples = 0;
+        windowMaxInflight = 0;
+
+        updateLimit(shortRtt, maxInflight);
+    }
+
+    private void updateLimit(double shortRtt, int maxInflight) {
+        if (longRtt == 0) {
+            longRtt = shortRtt;
+        } else {
+            longRtt = longRtt * (1 - LONG_RTT_DECAY) + shortRtt * LONG_RTT_DECAY;
+        }
+        // 부하 해소 후 기준 지연이 현재의 2배를 넘으면 기준을 빠르게 낮춤 (과도한 한도 증가 방지)
+        if (longRtt / shortRtt > 2) {
+            longRtt *= 0.95;
+        }
+
+        double current = limit;
+        // 한도의 절반도 쓰지 않는 구간은 부하 정보가 없으므로 한도 유지
+        if (maxInflight < current / 2) {
+            return;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, properties.getTolerance() * longRtt / shortRtt));
+        double queueSize = Math.sqrt(current);
+        double newLimit = current * gradient + queueSize;
+        newLimit = current * (1 - properties.getSmoothing()) + newLimit * properties.getSmoothing();
+        limit = Math.max(properties.getMinLimit(), Math.min(properties.getMaxLimit(), newLimit));
+    }
+}
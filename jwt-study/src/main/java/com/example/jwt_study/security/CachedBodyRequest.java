@@ -0,0 +1,92 @@
+package com.example.jwt_study.security;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * 미리 읽은 요청 본문을 다시 제공하는 래퍼 (필터에서 본문을 확인한 뒤 컨트롤러로 전달)
+ * 비동기 읽기(ReadListener)도 지원 (로그인 제한/멱등성 필터가 공유)
+ * 상한까지만 읽은 큰 본문은 읽은 앞부분 뒤에 원래 스트림의 나머지를 이어 제공 (잘린 본문을 넘기지 않음)
+ */
+class CachedBodyRequest extends HttpServletRequestWrapper {
+
+    private final byte[] body;
+    private final boolean complete; // false면 body는 앞부분, 나머지는 원래 스트림에 남아 있음
+
+    CachedBodyRequest(HttpServletRequest request, byte[] body) {
+        this(request, body, true);
+    }
+
+    CachedBodyRequest(HttpServletRequest request, byte[] body, boolean complete) {
+        super(request);
+        this.body = body;
+        this.complete = complete;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        ByteArrayInputStream cached = new ByteArrayInputStream(body);
+        ServletInputStream rest = complete ? null : super.getInputStream();
+        InputStream input = rest == null ? cached : new SequenceInputStream(cached, rest);
+        return new ServletInputStream() {
+            @Override
+            public int read() throws IOException {
+                return input.read();
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                return input.read(b, off, len);
+            }
+
+            @Override
+            public boolean isFinished() {
+                return cached.available() == 0 && (rest == null || rest.isFinished());
+            }
+
+            @Override
+            public boolean isReady() {
+                return cached.available() > 0 || rest == null || rest.isReady();
+            }
+
+            /**
+             * 본문이 이미 메모리에 있으므로 등록 즉시 읽기 가능/완료 통지
+             * 나머지가 남은 본문은 원래 스트림에 등록 (앞부분은 같은 스트림에서 먼저 읽힘)
+             */
+            @Override
+            public void setReadListener(ReadListener readListener) {
+                Objects.requireNonNull(readListener, "readListener");
+                if (rest != null) {
+                    rest.setReadListener(readListener);
+                    return;
+                }
+                try {
+                    if (!isFinished()) {
+                        readListener.onDataAvailable();
+                    }
+                    if (isFinished()) {
+                        readListener.onAllDataRead();
+                    }
+                } catch (IOException | RuntimeException e) {
+                    readListener.onError(e);
+                }
+            }
+        };
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+        return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.jwt_study.security;
+
+import com.example.jwt_study.config.ConcurrencyLimitProperties;
+import com.example.jwt_study.dto.ErrorResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+/**
+ * 엔드포인트 그룹별 적응형 동시성 제한 필터 (/api/auth/** 와 보호 자원)
+ * DB 지연으로 요청이 쌓이기 전에 한도를 넘는 요청을 503으로 즉시 거부
+ * /actuator/** 는 제외 (과부하 중 헬스 프로브가 거부되면 오케스트레이터가 바쁜 노드를 재시작/제외)
+ * 수 분씩 걸리는 관리자 일괄 작업은 동시성만 차지하고 지연 시간 샘플에서 제외 (평균 지연을 끌어올려 전체 한도를 낮추지 않도록)
+ */
+@Component
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String AUTH_PATH_PREFIX = "/api/auth/";
+    private static final String ACTUATOR_PATH_PREFIX = "/actuator/";
+    private static final Set<String> UNSAMPLED_PATHS = Set.of("/api/admin/users/import", "/api/admin/sessions/export");
+
+    private final ConcurrencyLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final AdaptiveConcurrencyLimiter authLimiter;
+    private final AdaptiveConcurrencyLimiter protectedLimiter;
+    private final Counter authRejectedCounter;
+    private final Counter protectedRejectedCounter;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.authLimiter = new AdaptiveConcurrencyLimiter(properties);
+        this.protectedLimiter = new AdaptiveConcurrencyLimiter(properties);
+        this.authRejectedCounter = registerMetrics(meterRegistry, "auth", authLimiter);
+        this.protectedRejectedCounter = registerMetrics(meterRegistry, "protected", protectedLimiter);
+    }
+
+    private static Counter registerMetrics(MeterRegistry meterRegistry, String group, AdaptiveConcurrencyLimiter limiter) {
+        Gauge.builder("http.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("현재 동시성 한도")
+                .tag("group", group)
+                .register(meterRegistry);
+        Gauge.builder("http.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInflight)
+                .description("처리 중인 요청 수")
+                .tag("group", group)
+                .register(meterRegistry);
+        return Counter.builder("http.concurrency.rejected")
+                .description("동시성 한도 초과로 거부된 요청 수")
+                .tag("group", group)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+                || request.getRequestURI().startsWith(request.getContextPath() + ACTUATOR_PATH_PREFIX);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        boolean auth = request.getRequestURI().startsWith(request.getContextPath() + AUTH_PATH_PREFIX);
+        AdaptiveConcurrencyLimiter limiter = auth ? authLimiter : protectedLimiter;
+
+        if (!limiter.tryAcquire()) {
+            (auth ? authRejectedCounter : protectedRejectedCounter).increment();
+            reject(response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            filterChain.doFilter(request, response);
+            success = response.getStatus() < HttpStatus.INTERNAL_SERVER_ERROR.value();
+        } finally {
+            // 5xx/예외 응답과 일괄 작업은 지연 시간 기준을 왜곡하므로 샘플에서 제외
+            boolean sample = success
+                    && !UNSAMPLED_PATHS.contains(request.getRequestURI().substring(request.getContextPath().length()));
+            limiter.release(System.nanoTime() - start, sample);
+        }
+    }
+
+    private void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(),
+                new ErrorResponse("overloaded", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요"));
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.jwt_study.security;
+
+import com.example.jwt_study.domain.Authority;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 권한 비트셋 -> GrantedAuthority 목록 (비트 조합별로 한 번 만들어 공유하는 불변 목록)
+ * 조합 수는 2^정의된 권한 수(최대 31비트)이므로 미리 채우지 않고 처음 나온 조합만 생성
+ * 토큰의 비트셋은 서명/MAC으로 보호되어 실제로 부여된 조합만 들어옴
+ */
+@Component
+public class GrantedAuthorityCache {
+
+    private final GrantedAuthority[] granted = new GrantedAuthority[Authority.values().length];
+    private final Map<Integer, List<GrantedAuthority>> byBits = new ConcurrentHashMap<>();
+
+    public GrantedAuthorityCache() {
+        for (Authority authority : Authority.values()) {
+            granted[authority.ordinal()] = new SimpleGrantedAuthority(authority.authority());
+        }
+    }
+
+    /**
+     * 알 수 없는 비트는 무시
+     */
+    public List<GrantedAuthority> get(int bits) {
+        int known = bits & Authority.KNOWN_BITS;
+        List<GrantedAuthority> authorities = byBits.get(known); // 적중 시 잠금 없음
+        return authorities != null ? authorities : byBits.computeIfAbsent(known, this::build);
+    }
+
+    private List<GrantedAuthority> build(int bits) {
+        List<GrantedAuthority> authorities = new ArrayList<>();
+        for (Authority authority : Authority.values()) {
+            if (authority.isIn(bits)) {
+                authorities.add(granted[authority.ordinal()]);
+            }
+        }
+        return List.copyOf(authorities);
+    }
+}
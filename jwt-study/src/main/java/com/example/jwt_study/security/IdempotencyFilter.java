@@ -0,0 +1,232 @@
+package com.example.jwt_study.security;
+
+import com.example.jwt_study.config.IdempotencyProperties;
+import com.example.jwt_study.dto.ErrorResponse;
+import com.example.jwt_study.security.IdempotencyStore.Claim;
+import com.example.jwt_study.security.IdempotencyStore.StoredResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Idempotency-Key 필터 (/register, /login 재시도 시 BCrypt와 리프레시 토큰 발급을 반복하지 않음)
+ * 완료된 응답(상태/헤더/본문, 로그인의 Set-Cookie 포함)을 TTL 동안 보관해 같은 키+본문 요청에 재생
+ * 같은 키로 동시에 들어온 요청은 첫 요청의 결과를 기다림, 5xx/429 결과는 보관하지 않음
+ * 노드 메모리 저장이므로 중복 제거는 같은 노드로 온 재시도에만 적용 (여러 노드면 고정 세션 라우팅 필요)
+ * 클라이언트 IP별 보관 상한 초과 시 그 클라이언트의 요청만 키 없이 처리
+ */
+@Slf4j
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    static final String HEADER = "Idempotency-Key";
+    static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Set<String> PATHS = Set.of("/api/auth/register", "/api/auth/login");
+    private static final int MAX_BODY_BYTES = 8 * 1024;
+    private static final Set<String> SKIPPED_HEADERS = Set.of(
+            HttpHeaders.CONTENT_TYPE.toLowerCase(), HttpHeaders.CONTENT_LENGTH.toLowerCase(),
+            HttpHeaders.DATE.toLowerCase(), HttpHeaders.TRANSFER_ENCODING.toLowerCase());
+
+    private final IdempotencyProperties properties;
+    private final ObjectMapper objectMapper;
+    private final IdempotencyStore store;
+    private final Counter storedCounter;
+    private final Counter replayedCounter;
+    private final Counter mismatchCounter;
+    private final Counter bypassedCounter;
+
+    public IdempotencyFilter(IdempotencyProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.store = new IdempotencyStore(properties.getMaxEntries(), properties.getMaxEntriesPerClient(),
+                TimeUnit.SECONDS.toMillis(properties.getTtlSeconds()), System::currentTimeMillis);
+        this.storedCounter = counter(meterRegistry, "stored");
+        this.replayedCounter = counter(meterRegistry, "replayed");
+        this.mismatchCounter = counter(meterRegistry, "mismatch");
+        this.bypassedCounter = counter(meterRegistry, "bypassed");
+        Gauge.builder("auth.idempotency.entries", store, IdempotencyStore::size)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+                || !"POST".equals(request.getMethod())
+                || request.getHeader(HEADER) == null
+                || !PATHS.contains(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        String idempotencyKey = request.getHeader(HEADER);
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > properties.getMaxKeyLength()) {
+            writeError(response, HttpStatus.BAD_REQUEST, new ErrorResponse("invalid_request",
+                    HEADER + "는 1~" + properties.getMaxKeyLength() + "자여야 합니다"));
+            return;
+        }
+
+        byte[] body = request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+        if (body.length > MAX_BODY_BYTES) {
+            bypassedCounter.increment();
+            filterChain.doFilter(new CachedBodyRequest(request, body, false), response); // 나머지 본문은 원래 스트림에서
+            return;
+        }
+        HttpServletRequest cachedRequest = new CachedBodyRequest(request, body);
+
+        String key = request.getRequestURI() + " " + idempotencyKey;
+        byte[] fingerprint = sha256(body);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getWaitTimeoutMs());
+
+        while (true) {
+            Claim claim = store.claim(key, request.getRemoteAddr(), fingerprint);
+            switch (claim.status()) {
+                case LEADER -> {
+                    execute(key, claim.entry(), cachedRequest, response, filterChain);
+                    return;
+                }
+                case FULL -> {
+                    bypassedCounter.increment();
+                    filterChain.doFilter(cachedRequest, response);
+                    return;
+                }
+                case MISMATCH -> {
+                    mismatchCounter.increment();
+                    writeError(response, HttpStatus.UNPROCESSABLE_ENTITY, new ErrorResponse("idempotency_key_reused",
+                            "같은 " + HEADER + "로 다른 요청을 보낼 수 없습니다"));
+                    return;
+                }
+                case FOLLOWER -> {
+                    StoredResponse stored;
+                    try {
+                        stored = claim.entry().result().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    } catch (ExecutionException e) {
+                        continue; // 첫 요청이 재생 불가 결과로 끝남 → 다시 키 차지 시도
+                    } catch (TimeoutException e) {
+                        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                        writeError(response, HttpStatus.CONFLICT, new ErrorResponse("request_in_progress",
+                                "같은 " + HEADER + "의 요청이 아직 처리 중입니다"));
+                        return;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new ServletException(e);
+                    }
+                    replayedCounter.increment();
+                    replay(stored, response);
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * 만료된 응답 정리
+     */
+    @Scheduled(fixedDelay = 30_000)
+    public void evictExpired() {
+        store.evictExpired();
+    }
+
+    private void execute(
+            String key,
+            IdempotencyStore.Entry entry,
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(request, wrapper);
+            int status = wrapper.getStatus();
+            if (status < 500 && status != HttpStatus.TOO_MANY_REQUESTS.value()) {
+                store.complete(entry, capture(wrapper));
+                storedCounter.increment();
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                store.abandon(key, entry);
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private StoredResponse capture(ContentCachingResponseWrapper wrapper) {
+        List<String[]> headers = new ArrayList<>();
+        for (String name : wrapper.getHeaderNames()) {
+            if (SKIPPED_HEADERS.contains(name.toLowerCase())) {
+                continue;
+            }
+            for (String value : wrapper.getHeaders(name)) {
+                headers.add(new String[]{name, value});
+            }
+        }
+        return new StoredResponse(wrapper.getStatus(), wrapper.getContentType(), List.copyOf(headers),
+                wrapper.getContentAsByteArray());
+    }
+
+    private void replay(StoredResponse stored, HttpServletResponse response) throws IOException {
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        for (String[] header : stored.headers()) {
+            response.addHeader(header[0], header[1]);
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, ErrorResponse error) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(), error);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("auth.idempotency")
+                .description("Idempotency-Key 요청 처리 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static byte[] sha256(byte[] body) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(body);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
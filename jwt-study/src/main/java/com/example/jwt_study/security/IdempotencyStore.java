@@ -0,0 +1,142 @@
+package com.example.jwt_study.security;
+
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Idempotency-Key별 처리 결과 저장소 (메모리, 개수 상한 + TTL)
+ * 키를 처음 차지한 요청(LEADER)만 실제로 처리하고, 같은 키의 동시 요청(FOLLOWER)은 그 결과를 기다림
+ * 본문 지문이 다르면 같은 키의 재사용으로 보고 거부
+ * 클라이언트별 상한을 두어 한 클라이언트가 고유 키로 전체 상한을 채워 모두의 멱등성을 끄지 못하게 함
+ * 노드 메모리 저장이므로 다른 노드로 간 재시도는 중복 제거되지 않음
+ */
+class IdempotencyStore {
+
+    enum Status {
+        LEADER,   // 직접 처리 후 complete/abandon 호출
+        FOLLOWER, // entry.result() 대기
+        MISMATCH, // 같은 키, 다른 요청 본문
+        FULL      // 전체 또는 클라이언트별 상한 초과, 키 없이 처리
+    }
+
+    record Claim(Status status, Entry entry) {
+    }
+
+    /**
+     * 재생할 응답 (상태, Content-Type, 헤더, 본문)
+     */
+    record StoredResponse(int status, String contentType, List<String[]> headers, byte[] body) {
+    }
+
+    static final class Entry {
+        private final String client;
+        private final byte[] fingerprint;
+        private final CompletableFuture<StoredResponse> result = new CompletableFuture<>();
+        private volatile long expiresAtMillis = Long.MAX_VALUE; // 완료 전에는 만료되지 않음
+
+        private Entry(String client, byte[] fingerprint) {
+            this.client = client;
+            this.fingerprint = fingerprint;
+        }
+
+        CompletableFuture<StoredResponse> result() {
+            return result;
+        }
+    }
+
+    private final int maxEntries;
+    private final int maxEntriesPerClient;
+    private final long ttlMillis;
+    private final LongSupplier clock;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, AtomicInteger> clientEntries = new ConcurrentHashMap<>();
+
+    IdempotencyStore(int maxEntries, int maxEntriesPerClient, long ttlMillis, LongSupplier clock) {
+        this.maxEntries = maxEntries;
+        this.maxEntriesPerClient = maxEntriesPerClient;
+        this.ttlMillis = ttlMillis;
+        this.clock = clock;
+    }
+
+    Claim claim(String key, String client, byte[] fingerprint) {
+        Entry existing = entries.get(key);
+        if (existing != null && existing.expiresAtMillis <= clock.getAsLong()) {
+            remove(key, existing);
+            existing = null;
+        }
+        if (existing == null) {
+            if (entries.size() >= maxEntries || !reserve(client)) {
+                return new Claim(Status.FULL, null);
+            }
+            Entry created = new Entry(client, fingerprint);
+            existing = entries.putIfAbsent(key, created);
+            if (existing == null) {
+                return new Claim(Status.LEADER, created);
+            }
+            release(client); // 다른 요청이 먼저 차지
+        }
+        if (!MessageDigest.isEqual(existing.fingerprint, fingerprint)) {
+            return new Claim(Status.MISMATCH, existing);
+        }
+        return new Claim(Status.FOLLOWER, existing);
+    }
+
+    /**
+     * 처리 완료 (TTL 동안 재생, 대기 중인 요청 깨움)
+     */
+    void complete(Entry entry, StoredResponse response) {
+        entry.expiresAtMillis = clock.getAsLong() + ttlMillis;
+        entry.result.complete(response);
+    }
+
+    /**
+     * 재생하지 않을 결과 (5xx, 429, 예외) - 키를 비우고 대기 중인 요청이 다시 처리하도록 함
+     */
+    void abandon(String key, Entry entry) {
+        remove(key, entry);
+        entry.result.completeExceptionally(new IllegalStateException("재생할 수 없는 응답"));
+    }
+
+    void evictExpired() {
+        long now = clock.getAsLong();
+        entries.forEach((key, entry) -> {
+            if (entry.expiresAtMillis <= now) {
+                remove(key, entry);
+            }
+        });
+    }
+
+    private void remove(String key, Entry entry) {
+        if (entries.remove(key, entry)) {
+            release(entry.client);
+        }
+    }
+
+    /**
+     * 클라이언트별 보유 건수 증가 (상한이면 false)
+     */
+    private boolean reserve(String client) {
+        boolean[] reserved = {false};
+        clientEntries.compute(client, (ignored, count) -> {
+            AtomicInteger current = count == null ? new AtomicInteger() : count;
+            if (current.get() < maxEntriesPerClient) {
+                current.incrementAndGet();
+                reserved[0] = true;
+            }
+            return current.get() == 0 ? null : current;
+        });
+        return reserved[0];
+    }
+
+    private void release(String client) {
+        clientEntries.computeIfPresent(client, (ignored, count) -> count.decrementAndGet() == 0 ? null : count);
+    }
+
+    int size() {
+        return entries.size();
+    }
+}
@@ -1,28 +1,32 @@
 package com.example.jwt_study.security;
 
+import com.example.jwt_study.exception.InvalidTokenException;
+import com.example.jwt_study.util.AccessTokenClaims;
 import com.example.jwt_study.util.JwtUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collections;
 
 /**
- * JWT 인증 필터 (액세스 토큰 검증)
+ * JWT 인증 필터 (액세스 토큰 검증, "ct2."/"ct1." 접두어는 압축 형식)
+ * 만료 임박 토큰이면 선제 갱신 힌트 헤더 추가 (AccessTokenRefreshHint)
  */
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final TokenEpochCache tokenEpochCache;
+    private final GrantedAuthorityCache grantedAuthorityCache;
+    private final AccessTokenRefreshHint accessTokenRefreshHint;
 
     @Override
     protected void doFilterInternal(
@@ -37,20 +41,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             String token = authHeader.substring(7);
 
             try {
-                // 액세스 토큰 검증
-                jwtUtil.validateTokenType(token, "access");
-                Long userId = jwtUtil.getUserId(token);
-
-                // SecurityContext에 인증 정보 설정
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(
-                                userId,
-                                null,
-                                Collections.emptyList()
-                        );
+                // 액세스 토큰 검증 (JWT 또는 압축 형식)
+                AccessTokenClaims claims = jwtUtil.parseAccessToken(token);
+                Long userId = claims.userId();
+
+                // 토큰 에포크 확인 (로그아웃/재사용 탐지/비밀번호 변경 이전 발급 토큰 거부)
+                if (tokenEpochCache.isRevoked(userId, claims.issuedAt())) {
+                    throw new InvalidTokenException("무효화된 토큰입니다");
+                }
+
+                // SecurityContext에 인증 정보 설정 (권한은 토큰 비트셋에서, DB 조회 없음)
+                AccessTokenAuthentication authentication =
+                        new AccessTokenAuthentication(userId, grantedAuthorityCache.get(claims.authorities()));
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authentication);
 
+                // 만료 임박이면 선제 갱신 힌트 (응답 커밋 전에 설정)
+                accessTokenRefreshHint.apply(claims, response);
+
             } catch (Exception e) {
                 // 토큰 검증 실패 시 인증 정보 없이 진행 (Security에서 401 처리)
                 SecurityContextHolder.clearContext();
@@ -0,0 +1,136 @@
+package com.example.jwt_study.security;
+
+import com.example.jwt_study.config.LoginRateLimitProperties;
+import com.example.jwt_study.dto.ErrorResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 로그인 시도 제한 필터 (IP별 → 사용자명별 토큰 버킷)
+ * 제한된 요청은 429로 즉시 응답하여 DB 조회와 BCrypt 검증까지 가지 않음
+ * 프록시 뒤에서는 server.forward-headers-strategy 설정으로 실제 클라이언트 IP를 사용해야 함
+ */
+@Slf4j
+@Component
+public class LoginRateLimitFilter extends OncePerRequestFilter {
+
+    private static final String LOGIN_PATH = "/api/auth/login";
+    private static final int MAX_BODY_BYTES = 8 * 1024;
+    private static final int MAX_KEY_LENGTH = 64;
+
+    private final LoginRateLimitProperties properties;
+    private final ObjectMapper objectMapper;
+    private final TokenBucketLimiter ipLimiter;
+    private final TokenBucketLimiter usernameLimiter;
+    private final Counter ipThrottledCounter;
+    private final Counter usernameThrottledCounter;
+
+    public LoginRateLimitFilter(LoginRateLimitProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.ipLimiter = new TokenBucketLimiter(
+                properties.getIp().getCapacity(), properties.getIp().getRefillPerMinute(), properties.getMaxKeys());
+        this.usernameLimiter = new TokenBucketLimiter(
+                properties.getUsername().getCapacity(), properties.getUsername().getRefillPerMinute(), properties.getMaxKeys());
+        this.ipThrottledCounter = Counter.builder("auth.login.throttled")
+                .description("시도 제한으로 거부된 로그인 요청 수")
+                .tag("key", "ip")
+                .register(meterRegistry);
+        this.usernameThrottledCounter = Counter.builder("auth.login.throttled")
+                .description("시도 제한으로 거부된 로그인 요청 수")
+                .tag("key", "username")
+                .register(meterRegistry);
+        Gauge.builder("auth.login.throttle.keys", ipLimiter, TokenBucketLimiter::size)
+                .tag("key", "ip")
+                .register(meterRegistry);
+        Gauge.builder("auth.login.throttle.keys", usernameLimiter, TokenBucketLimiter::size)
+                .tag("key", "username")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+                || !"POST".equals(request.getMethod())
+                || !request.getRequestURI().equals(request.getContextPath() + LOGIN_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        // 1. IP별 제한 (본문을 읽기 전에 먼저 확인)
+        long retryAfterMs = ipLimiter.tryAcquire(request.getRemoteAddr());
+        if (retryAfterMs > 0) {
+            ipThrottledCounter.increment();
+            reject(response, retryAfterMs);
+            return;
+        }
+
+        // 2. 사용자명별 제한 (분산된 IP에서 한 계정을 노리는 시도)
+        byte[] body = request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+        String username = body.length <= MAX_BODY_BYTES ? extractUsername(body) : null;
+        if (username != null) {
+            retryAfterMs = usernameLimiter.tryAcquire(username);
+            if (retryAfterMs > 0) {
+                usernameThrottledCounter.increment();
+                log.warn("사용자명 로그인 시도 제한: username={}", username);
+                reject(response, retryAfterMs);
+                return;
+            }
+        }
+
+        filterChain.doFilter(new CachedBodyRequest(request, body, body.length <= MAX_BODY_BYTES), response);
+    }
+
+    /**
+     * 유휴 버킷 정리 (메모리 상한 유지)
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdle() {
+        ipLimiter.evictIdle();
+        usernameLimiter.evictIdle();
+    }
+
+    private String extractUsername(byte[] body) {
+        try {
+            JsonNode username = objectMapper.readTree(body).path("username");
+            if (!username.isTextual() || username.asText().isBlank()) {
+                return null;
+            }
+            String value = username.asText();
+            return value.length() > MAX_KEY_LENGTH ? value.substring(0, MAX_KEY_LENGTH) : value;
+        } catch (IOException e) {
+            return null; // 형식 오류는 컨트롤러 검증에서 400 처리
+        }
+    }
+
+    private void reject(HttpServletResponse response, long retryAfterMs) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (retryAfterMs + 999) / 1000)));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(),
+                new ErrorResponse("too_many_requests", "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요"));
+    }
+}
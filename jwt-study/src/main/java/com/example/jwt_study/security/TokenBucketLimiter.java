@@ -0,0 +1,110 @@
+package com.example.jwt_study.security;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 토큰 버킷 (락 없이 CAS로 갱신)
+ * 버킷 상태는 long 하나에 [마지막 갱신 시각(ms) 40비트 | 잔여 토큰(1/1000 단위) 24비트]로 저장
+ * 가득 찬 버킷은 없는 버킷과 같으므로 정리해도 동작이 바뀌지 않음
+ */
+public class TokenBucketLimiter {
+
+    private static final int TOKEN_BITS = 24;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    private static final long SCALE = 1000; // 토큰 1개 = 1000
+    private static final int OVERFLOW_STRIPES = 64;
+    private static final String OVERFLOW_PREFIX = "\u0000overflow-";
+    private static final long EVICTION_MIN_INTERVAL_MS = 1000;
+
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final long capacity;
+    private final double refillPerMs;
+    private final int maxKeys;
+    private final LongSupplier clock;
+    private final AtomicLong lastEviction = new AtomicLong();
+
+    public TokenBucketLimiter(int capacity, int refillPerMinute, int maxKeys) {
+        this(capacity, refillPerMinute, maxKeys, monotonicMillis());
+    }
+
+    TokenBucketLimiter(int capacity, int refillPerMinute, int maxKeys, LongSupplier clock) {
+        if (capacity <= 0 || capacity * SCALE > TOKEN_MASK) {
+            throw new IllegalArgumentException("capacity는 1 이상 " + TOKEN_MASK / SCALE + " 이하여야 합니다");
+        }
+        this.capacity = capacity * SCALE;
+        this.refillPerMs = refillPerMinute * SCALE / (double) TimeUnit.MINUTES.toMillis(1);
+        this.maxKeys = maxKeys;
+        this.clock = clock;
+    }
+
+    /**
+     * 토큰 1개 소비 시도
+     *
+     * @return 0이면 허용, 양수면 다음 토큰까지 대기 시간(ms)
+     */
+    public long tryAcquire(String key) {
+        long now = clock.getAsLong();
+        AtomicLong bucket = bucketFor(key, now);
+
+        while (true) {
+            long state = bucket.get();
+            long tokens = refill(state, now);
+            if (tokens < SCALE) {
+                return refillPerMs > 0 ? Math.max(1, (long) Math.ceil((SCALE - tokens) / refillPerMs)) : Long.MAX_VALUE;
+            }
+            if (bucket.compareAndSet(state, pack(now, tokens - SCALE))) {
+                return 0;
+            }
+        }
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    /**
+     * 가득 찬(오래 쓰이지 않은) 버킷 정리
+     */
+    public void evictIdle() {
+        long now = clock.getAsLong();
+        lastEviction.set(now);
+        buckets.entrySet().removeIf(entry -> refill(entry.getValue().get(), now) >= capacity);
+    }
+
+    private AtomicLong bucketFor(String key, long now) {
+        AtomicLong bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+
+        if (buckets.size() >= maxKeys) {
+            long last = lastEviction.get();
+            if (now - last >= EVICTION_MIN_INTERVAL_MS && lastEviction.compareAndSet(last, now)) {
+                evictIdle();
+            }
+            if (buckets.size() >= maxKeys) {
+                // 메모리 상한 도달: 키 해시로 나눈 공유 버킷에 제한 적용 (제한 없이 통과시키지 않음)
+                key = OVERFLOW_PREFIX + Math.floorMod(key.hashCode(), OVERFLOW_STRIPES);
+            }
+        }
+        return buckets.computeIfAbsent(key, k -> new AtomicLong(pack(now, capacity)));
+    }
+
+    private long refill(long state, long now) {
+        long elapsed = Math.max(0, now - (state >>> TOKEN_BITS));
+        long tokens = (state & TOKEN_MASK) + (long) (elapsed * refillPerMs);
+        return Math.min(capacity, tokens);
+    }
+
+    private static long pack(long timeMs, long tokens) {
+        return (timeMs << TOKEN_BITS) | tokens;
+    }
+
+    private static LongSupplier monotonicMillis() {
+        long base = System.nanoTime();
+        return () -> TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - base);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.jwt_study.security;
+
+import com.example.jwt_study.config.JwtProperties;
+import com.example.jwt_study.domain.AuthChangeLog;
+import com.example.jwt_study.domain.AuthChangeLog.ChangeType;
+import com.example.jwt_study.repository.UserRepository;
+import com.example.jwt_study.service.AuthChangeListener;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 토큰 에포크 메모리 캐시 (요청당 DB 조회 없이 액세스 토큰 무효화 확인)
+ * 에포크 이하에 발급된(iat <= epoch, 초 단위) 액세스 토큰은 무효 → 무효화와 같은 초에 먼저 발급된 토큰도 거부
+ * 무효화 이후 발급 토큰은 iat를 epoch + 1 이상으로 올려 발급 (minIssuedAt)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenEpochCache implements AuthChangeListener {
+
+    private final UserRepository userRepository;
+    private final JwtProperties jwtProperties;
+
+    private final ConcurrentHashMap<Long, Long> epochs = new ConcurrentHashMap<>();
+
+    /**
+     * 기동 시 아직 만료되지 않은 액세스 토큰에 영향을 주는 에포크만 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        userRepository.findTokenEpochsAfter(oldestRelevantEpoch())
+                .forEach(view -> update(view.getId(), view.getTokenEpoch()));
+        log.info("토큰 에포크 캐시 적재 완료: size={}", epochs.size());
+    }
+
+    /**
+     * 에포크 반영 (더 큰 값만 유지)
+     */
+    public void update(Long userId, long epoch) {
+        epochs.merge(userId, epoch, Math::max);
+    }
+
+    /**
+     * 다른 노드의 토큰 에포크 변경 반영
+     */
+    @Override
+    public void onAuthChanges(List<AuthChangeLog> changes) {
+        Set<Long> userIds = changes.stream()
+                .filter(change -> change.getChangeType() == ChangeType.TOKEN_EPOCH)
+                .map(AuthChangeLog::getUserId)
+                .collect(Collectors.toSet());
+        if (userIds.isEmpty()) {
+            return;
+        }
+        userRepository.findTokenEpochsByIdIn(userIds)
+                .forEach(view -> update(view.getId(), view.getTokenEpoch()));
+    }
+
+    /**
+     * 액세스 토큰 무효화 여부 (해시맵 조회 1회)
+     */
+    public boolean isRevoked(Long userId, Date issuedAt) {
+        Long epoch = epochs.get(userId);
+        if (epoch == null) {
+            return false;
+        }
+        return issuedAt == null || issuedAt.getTime() / 1000 <= epoch;
+    }
+
+    /**
+     * 새로 발급할 액세스 토큰의 최소 iat (초 단위, 무효화와 같은 초에 발급되어도 유효하도록)
+     */
+    public long minIssuedAt(Long userId) {
+        Long epoch = epochs.get(userId);
+        return epoch == null ? 0 : epoch + 1;
+    }
+
+    /**
+     * 액세스 토큰 수명이 지난 에포크 정리 (해당 시점 이전 토큰은 이미 만료)
+     */
+    @Scheduled(fixedDelayString = "${jwt.access-token-expiry}", timeUnit = TimeUnit.SECONDS)
+    public void prune() {
+        long threshold = oldestRelevantEpoch();
+        epochs.values().removeIf(epoch -> epoch <= threshold);
+    }
+
+    private long oldestRelevantEpoch() {
+        return Instant.now().getEpochSecond() - jwtProperties.getAccessTokenExpiry();
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.jwt_study.service;
+
+import com.example.jwt_study.domain.AuthChangeLog;
+
+import java.util.List;
+
+/**
+ * 인증 상태 변경 수신 (다른 노드에서 발생한 변경을 로컬 캐시에 반영)
+ */
+public interface AuthChangeListener {
+
+    void onAuthChanges(List<AuthChangeLog> changes);
+}
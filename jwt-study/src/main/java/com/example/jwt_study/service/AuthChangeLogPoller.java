@@ -0,0 +1,89 @@
+package com.example.jwt_study.service;
+
+import com.example.jwt_study.config.AuthChangeLogProperties;
+import com.example.jwt_study.domain.AuthChangeLog;
+import com.example.jwt_study.repository.AuthChangeLogRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인증 상태 변경 로그 폴러 (별도 브로커 없이 노드 간 캐시 무효화)
+ * 마지막으로 본 id 이후만 조회하며, 늦게 커밋되어 건너뛴 id는 일정 기간 재확인
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthChangeLogPoller {
+
+    private static final int MAX_TRACKED_GAPS = 1000;
+
+    private final AuthChangeLogRepository authChangeLogRepository;
+    private final AuthChangeLogProperties properties;
+    private final List<AuthChangeListener> listeners;
+
+    private long lastSeenId;
+    private final Map<Long, Long> gaps = new HashMap<>(); // id -> 처음 비어 있음을 확인한 시각 (ms)
+
+    /**
+     * 기동 이전 변경은 캐시 초기 적재에 포함되므로 현재 최대 id부터 시작
+     */
+    @PostConstruct
+    void init() {
+        lastSeenId = authChangeLogRepository.findMaxId();
+    }
+
+    @Scheduled(fixedDelayString = "${auth.change-log.poll-interval-ms:1000}")
+    public synchronized void poll() {
+        long now = System.currentTimeMillis();
+        List<AuthChangeLog> changes = new ArrayList<>();
+
+        // 1. 비어 있던 id 재확인
+        if (!gaps.isEmpty()) {
+            List<AuthChangeLog> late = authChangeLogRepository.findByIdIn(gaps.keySet());
+            late.forEach(change -> gaps.remove(change.getId()));
+            changes.addAll(late);
+            gaps.values().removeIf(firstMissedAt -> now - firstMissedAt > properties.getGapTimeoutMs());
+        }
+
+        // 2. 신규 변경 조회
+        List<AuthChangeLog> fresh = authChangeLogRepository.findByIdGreaterThanOrderByIdAsc(
+                lastSeenId, Limit.of(properties.getBatchSize()));
+        for (AuthChangeLog change : fresh) {
+            for (long id = lastSeenId + 1; id < change.getId() && gaps.size() < MAX_TRACKED_GAPS; id++) {
+                gaps.putIfAbsent(id, now);
+            }
+            lastSeenId = change.getId();
+        }
+        changes.addAll(fresh);
+
+        // 3. 로컬 캐시 반영
+        if (!changes.isEmpty()) {
+            listeners.forEach(listener -> listener.onAuthChanges(changes));
+            log.debug("인증 상태 변경 반영: count={}, lastSeenId={}", changes.size(), lastSeenId);
+        }
+    }
+
+    /**
+     * 보존 기간이 지난 로그 정리
+     */
+    @Scheduled(fixedDelayString = "${auth.change-log.purge-interval-ms:3600000}")
+    @Transactional
+    public void purge() {
+        int deleted = authChangeLogRepository.deleteOlderThan(
+                LocalDateTime.now().minusSeconds(properties.getRetentionSeconds()));
+        if (deleted > 0) {
+            log.info("인증 상태 변경 로그 정리: deleted={}", deleted);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.jwt_study.service;
+
+import com.example.jwt_study.domain.AuthChangeLog;
+import com.example.jwt_study.domain.AuthChangeLog.ChangeType;
+import com.example.jwt_study.repository.AuthChangeLogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 인증 상태 변경 기록 (변경을 일으킨 트랜잭션과 함께 커밋)
+ */
+@Service
+@RequiredArgsConstructor
+public class AuthChangeLogService {
+
+    private final AuthChangeLogRepository authChangeLogRepository;
+    private final RecentAuthChanges recentAuthChanges;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Long userId, ChangeType changeType) {
+        authChangeLogRepository.save(new AuthChangeLog(userId, changeType));
+        recentAuthChanges.record(userId); // 다른 노드는 변경 로그 수신 시 기록
+    }
+}
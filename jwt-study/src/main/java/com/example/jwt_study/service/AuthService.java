@@ -1,25 +1,59 @@
 package com.example.jwt_study.service;
 
+import com.example.jwt_study.domain.AuthChangeLog.ChangeType;
 import com.example.jwt_study.domain.User;
+import com.example.jwt_study.event.SecurityEventPublisher;
+import com.example.jwt_study.event.SecurityEventType;
 import com.example.jwt_study.exception.DuplicateUsernameException;
 import com.example.jwt_study.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
 
 /**
  * 인증 서비스 (회원가입, 로그인)
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class AuthService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TokenEpochService tokenEpochService;
+    private final AuthChangeLogService authChangeLogService;
+    private final SecurityEventPublisher securityEventPublisher;
+    private final UserVersionCache userVersionCache;
+    private final RecentAuthChanges recentAuthChanges;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TransactionTemplate primaryTransaction;
+
+    public AuthService(
+            UserRepository userRepository,
+            PasswordEncoder passwordEncoder,
+            TokenEpochService tokenEpochService,
+            AuthChangeLogService authChangeLogService,
+            SecurityEventPublisher securityEventPublisher,
+            UserVersionCache userVersionCache,
+            RecentAuthChanges recentAuthChanges,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.tokenEpochService = tokenEpochService;
+        this.authChangeLogService = authChangeLogService;
+        this.securityEventPublisher = securityEventPublisher;
+        this.userVersionCache = userVersionCache;
+        this.recentAuthChanges = recentAuthChanges;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+    }
 
     /**
      * 회원가입 (BCrypt 암호화)
@@ -43,17 +77,57 @@ public class AuthService {
     }
 
     /**
-     * 로그인 (비밀번호 검증)
+     * 로그인 (비밀번호 검증, 읽기 전용 - Replica 라우팅)
+     * 복제 지연 허용치 안에 비밀번호/에포크가 바뀐 사용자는 Primary에서 다시 조회
+     * (Replica의 이전 해시로 옛 비밀번호가 통과하면 에포크 이후 iat로 발급되어 무효화를 피함)
      */
     public User authenticate(String username, String password) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new BadCredentialsException("사용자명 또는 비밀번호가 올바르지 않습니다"));
+        Optional<User> found = readOnlyTransaction.execute(status -> userRepository.findByUsername(username));
+        if (found.isPresent() && recentAuthChanges.isRecent(found.get().getId())) {
+            found = primaryTransaction.execute(status -> userRepository.findByUsername(username));
+        }
+        User user = found.orElseThrow(() -> {
+            securityEventPublisher.publish(SecurityEventType.LOGIN_FAILURE, null, username, "unknown_user");
+            return new BadCredentialsException("사용자명 또는 비밀번호가 올바르지 않습니다");
+        });
 
         if (!passwordEncoder.matches(password, user.getPassword())) {
+            securityEventPublisher.publish(SecurityEventType.LOGIN_FAILURE, user.getId(), username, "bad_password");
             throw new BadCredentialsException("사용자명 또는 비밀번호가 올바르지 않습니다");
         }
 
         log.info("로그인 성공: userId={}, username={}", user.getId(), user.getUsername());
+        securityEventPublisher.publish(SecurityEventType.LOGIN_SUCCESS, user.getId(), username, null);
         return user;
     }
+
+    /**
+     * 권한 비트셋 조회 (토큰 갱신용, 읽기 전용 - Replica 라우팅)
+     * 최근 변경된 사용자는 Primary에서 조회 (Replica 지연으로 회수된 권한이 다시 부여되지 않도록)
+     */
+    public int getAuthorities(Long userId) {
+        TransactionTemplate transaction = recentAuthChanges.isRecent(userId) ? primaryTransaction : readOnlyTransaction;
+        return transaction.execute(status -> userRepository.findAuthoritiesById(userId))
+                .orElseThrow(() -> new BadCredentialsException("사용자를 찾을 수 없습니다"));
+    }
+
+    /**
+     * 비밀번호 변경 (기존 액세스 토큰 무효화)
+     */
+    @Transactional
+    public void changePassword(Long userId, String currentPassword, String newPassword) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new BadCredentialsException("사용자명 또는 비밀번호가 올바르지 않습니다"));
+
+        if (!passwordEncoder.matches(currentPassword, user.getPassword())) {
+            throw new BadCredentialsException("사용자명 또는 비밀번호가 올바르지 않습니다");
+        }
+
+        user.changePassword(passwordEncoder.encode(newPassword));
+        authChangeLogService.record(userId, ChangeType.USER_UPDATED);
+        userVersionCache.putAfterCommit(user); // 다른 노드는 변경 로그로 제거
+        tokenEpochService.revokeAccessTokens(userId);
+        log.info("비밀번호 변경 완료: userId={}", userId);
+        securityEventPublisher.publish(SecurityEventType.PASSWORD_CHANGED, userId, user.getUsername(), null);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,121 @@
+package com.example.jwt_study.service;
+
+import com.example.jwt_study.config.RefreshTokenStoreProperties;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 호출 횟수 기반 서킷 브레이커 (최근 windowSize건의 실패율)
+ * CLOSED → 실패율 초과 시 OPEN → openStateMs 후 HALF_OPEN → 시험 호출 모두 성공 시 CLOSED, 하나라도 실패 시 OPEN
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final RefreshTokenStoreProperties.Circuit settings;
+    private final LongSupplier nanoClock;
+    private final boolean[] window; // true = 실패
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    public CircuitBreaker(RefreshTokenStoreProperties.Circuit settings) {
+        this(settings, System::nanoTime);
+    }
+
+    CircuitBreaker(RefreshTokenStoreProperties.Circuit settings, LongSupplier nanoClock) {
+        this.settings = settings;
+        this.nanoClock = nanoClock;
+        this.window = new boolean[settings.getWindowSize()];
+    }
+
+    /**
+     * 호출 허용 여부 (OPEN이면 false, HALF_OPEN은 시험 호출 수만큼만 허용)
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < TimeUnit.MILLISECONDS.toNanos(settings.getOpenStateMs())) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            halfOpenPermits = settings.getHalfOpenCalls();
+            halfOpenSuccesses = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits == 0) {
+                return false;
+            }
+            halfOpenPermits--;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            if (++halfOpenSuccesses >= settings.getHalfOpenCalls()) {
+                transitionToClosed();
+            }
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionToOpen();
+            return;
+        }
+        record(true);
+        if (state == State.CLOSED && windowCount >= settings.getMinimumCalls()
+                && windowFailures * 100 >= settings.getFailureRateThreshold() * windowCount) {
+            transitionToOpen();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * OPEN 상태가 끝날 때까지 남은 시간 (초, 최소 1)
+     */
+    public synchronized long remainingOpenSeconds() {
+        long remainingNanos = TimeUnit.MILLISECONDS.toNanos(settings.getOpenStateMs()) - (nanoClock.getAsLong() - openedAt);
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(remainingNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+
+    private void record(boolean failure) {
+        if (windowCount == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void transitionToOpen() {
+        state = State.OPEN;
+        openedAt = nanoClock.getAsLong();
+    }
+
+    private void transitionToClosed() {
+        state = State.CLOSED;
+        windowIndex = 0;
+        windowCount = 0;
+        windowFailures = 0;
+    }
+}
@@ -0,0 +1,309 @@
+package com.example.jwt_study.service;
+
+import com.example.jwt_study.config.ConsumedTokenFilterProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 사용된 리프레시 토큰 해시의 Bloom 필터 (절대 만료일 버킷별)
+ * RTR 직후 사용된 행을 바로 삭제하고, 삭제된 토큰이 다시 오면 이 필터로 재사용 여부를 판별
+ * 토큰 해시(SHA-256 hex)의 앞 128비트로 이중 해싱하므로 별도 해시 계산 없음
+ * 주기적으로 consumed_token_filters 행을 잠그고 OR 병합 (노드 간 공유, 재기동 후 복원)
+ * 변경된 버킷은 키와 updated_at만 먼저 조회하고, 이 노드가 마지막으로 기록한 행은 비트를 다시 읽지 않음
+ * (updated_at은 행마다 단조 증가하므로 같으면 그 뒤 다른 노드의 병합이 없음)
+ * 버킷 날짜가 지나면 (해당 토큰 모두 절대 만료) 메모리와 DB에서 함께 삭제
+ * 필터 지연/오탐은 재사용 분류에만 영향 (저장소에 없는 토큰은 필터와 무관하게 폐기 처리)
+ */
+@Slf4j
+@Component
+public class ConsumedTokenFilter implements DisposableBean {
+
+    private static final String SELECT_FOR_UPDATE_SQL =
+            "SELECT bits FROM consumed_token_filters WHERE bucket = ? FOR UPDATE";
+    private static final String INSERT_SQL =
+            "INSERT INTO consumed_token_filters (bucket, bits, updated_at) VALUES (?, ?, CURRENT_TIMESTAMP(3))";
+    private static final String UPDATE_SQL = "UPDATE consumed_token_filters SET bits = ?, "
+            + "updated_at = GREATEST(CURRENT_TIMESTAMP(3), TIMESTAMPADD(MICROSECOND, 1000, updated_at)) WHERE bucket = ?";
+    private static final String SELECT_UPDATED_AT_SQL = "SELECT updated_at FROM consumed_token_filters WHERE bucket = ?";
+    private static final String SELECT_LIVE_SQL =
+            "SELECT bucket, bits, updated_at FROM consumed_token_filters WHERE bucket >= ?";
+    private static final String SELECT_CHANGED_SQL =
+            "SELECT bucket, updated_at FROM consumed_token_filters WHERE bucket >= ? AND updated_at > ?";
+    private static final String SELECT_BITS_SQL = "SELECT bits FROM consumed_token_filters WHERE bucket = ?";
+    private static final String DELETE_EXPIRED_SQL = "DELETE FROM consumed_token_filters WHERE bucket < ?";
+
+    private static final long MAX_BITS = 128L * 1024 * 1024; // MEDIUMBLOB(16MB) 상한
+    private static final long SYNC_OVERLAP_MS = 2_000;       // 늦게 커밋된 병합 재확인
+
+    private final ConsumedTokenFilterProperties properties;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int wordCount;
+    private final int bitCount;
+    private final int hashCount;
+    private final ConcurrentMap<Long, BucketFilter> buckets = new ConcurrentHashMap<>();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    private Timestamp watermark; // 마지막으로 반영한 updated_at (null이면 전체 적재)
+
+    public ConsumedTokenFilter(
+            ConsumedTokenFilterProperties properties,
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // m = -n ln p / (ln 2)^2, k = m / n * ln 2
+        long n = properties.getExpectedInsertions();
+        double bits = -n * Math.log(properties.getFalsePositiveRate()) / (Math.log(2) * Math.log(2));
+        long words = (long) Math.ceil(bits / Long.SIZE);
+        if (n <= 0 || words <= 0 || words * Long.SIZE > MAX_BITS) {
+            throw new IllegalStateException("consumed-filter 크기 설정이 올바르지 않습니다: expectedInsertions=" + n
+                    + ", falsePositiveRate=" + properties.getFalsePositiveRate());
+        }
+        this.wordCount = (int) words;
+        this.bitCount = wordCount * Long.SIZE;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+
+        this.hitCounter = Counter.builder("refresh.token.consumed.filter.lookups")
+                .description("저장소에 없는 리프레시 토큰 중 사용된 토큰으로 판별된 수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("refresh.token.consumed.filter.lookups")
+                .description("저장소에 없는 리프레시 토큰 중 필터에도 없는 수 (삭제/폐기/미동기화)")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 사용된 토큰 기록 (RTR 트랜잭션 안에서 호출, 롤백되면 행이 남아 필터는 조회되지 않음)
+     */
+    public void add(String tokenHash, long expiryBucket) {
+        BucketFilter filter = buckets.computeIfAbsent(expiryBucket, bucket -> new BucketFilter(wordCount));
+        long h1 = Long.parseUnsignedLong(tokenHash, 0, 16, 16);
+        long h2 = Long.parseUnsignedLong(tokenHash, 16, 32, 16) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            filter.set(index(h1, h2, i));
+        }
+        filter.dirty.set(true);
+
+        if (filter.insertions.incrementAndGet() > properties.getExpectedInsertions()
+                && !filter.saturationLogged.getAndSet(true)) {
+            log.warn("사용된 토큰 필터가 예상 건수를 넘어 오탐률 증가: bucket={}, expectedInsertions={}",
+                    expiryBucket, properties.getExpectedInsertions());
+        }
+    }
+
+    /**
+     * 사용된 토큰일 가능성 (버킷 없는 이전 토큰은 살아 있는 모든 버킷 확인)
+     */
+    public boolean mightContain(String tokenHash, Long expiryBucket) {
+        if (!properties.isEnabled()) {
+            return false;
+        }
+        long h1 = Long.parseUnsignedLong(tokenHash, 0, 16, 16);
+        long h2 = Long.parseUnsignedLong(tokenHash, 16, 32, 16) | 1;
+        boolean hit = expiryBucket != null
+                ? contains(buckets.get(expiryBucket), h1, h2)
+                : buckets.values().stream().anyMatch(filter -> contains(filter, h1, h2));
+        (hit ? hitCounter : missCounter).increment();
+        return hit;
+    }
+
+    private boolean contains(BucketFilter filter, long h1, long h2) {
+        if (filter == null) {
+            return false;
+        }
+        for (int i = 0; i < hashCount; i++) {
+            if (!filter.get(index(h1, h2, i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int index(long h1, long h2, int i) {
+        return (int) Long.remainderUnsigned(h1 + i * h2, bitCount);
+    }
+
+    /**
+     * 지난 버킷 정리 → 다른 노드가 병합한 버킷 반영 → 로컬 추가분 병합 기록
+     * 기동 직후 첫 실행에서 살아 있는 버킷 전체를 적재
+     */
+    @Scheduled(fixedDelayString = "${app.refresh-token.consumed-filter.sync-interval-ms:10000}")
+    public synchronized void sync() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long today = LocalDate.now().toEpochDay();
+        buckets.keySet().removeIf(bucket -> bucket < today);
+        jdbcTemplate.update(DELETE_EXPIRED_SQL, today);
+
+        if (watermark == null) {
+            jdbcTemplate.query(SELECT_LIVE_SQL, (RowCallbackHandler) rs -> {
+                merge(rs.getLong("bucket"), rs.getBytes("bits"));
+                advanceWatermark(rs.getTimestamp("updated_at"));
+            }, today);
+        } else {
+            List<Long> changed = new ArrayList<>();
+            jdbcTemplate.query(SELECT_CHANGED_SQL, (RowCallbackHandler) rs -> {
+                long bucket = rs.getLong("bucket");
+                Timestamp updatedAt = rs.getTimestamp("updated_at");
+                BucketFilter local = buckets.get(bucket);
+                if (local == null || !updatedAt.equals(local.lastWritten)) {
+                    changed.add(bucket);
+                }
+                advanceWatermark(updatedAt);
+            }, today, new Timestamp(watermark.getTime() - SYNC_OVERLAP_MS));
+            for (Long bucket : changed) {
+                jdbcTemplate.queryForList(SELECT_BITS_SQL, byte[].class, bucket).forEach(bits -> merge(bucket, bits));
+            }
+        }
+
+        for (Map.Entry<Long, BucketFilter> entry : buckets.entrySet()) {
+            BucketFilter filter = entry.getValue();
+            if (filter.dirty.getAndSet(false)) {
+                try {
+                    persist(entry.getKey(), filter);
+                } catch (RuntimeException e) {
+                    filter.dirty.set(true); // 다음 주기에 재시도
+                    log.warn("사용된 토큰 필터 저장 실패: bucket={}", entry.getKey(), e);
+                }
+            }
+        }
+    }
+
+    private void merge(long bucket, byte[] bits) {
+        long[] words = toWords(bits);
+        if (words.length == wordCount) {
+            buckets.computeIfAbsent(bucket, key -> new BucketFilter(wordCount)).merge(words);
+        }
+    }
+
+    private void advanceWatermark(Timestamp updatedAt) {
+        if (watermark == null || updatedAt.after(watermark)) {
+            watermark = updatedAt;
+        }
+    }
+
+    /**
+     * 버킷 행을 잠그고 저장된 비트와 OR 병합 후 기록 (병합 결과를 로컬에도 반영)
+     * 기록한 updated_at을 남겨 다음 동기화에서 자기 기록을 다시 읽지 않음
+     */
+    private void persist(long bucket, BucketFilter filter) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<byte[]> stored = jdbcTemplate.queryForList(SELECT_FOR_UPDATE_SQL, byte[].class, bucket);
+                if (stored.isEmpty()) {
+                    jdbcTemplate.update(INSERT_SQL, bucket, toBytes(filter.snapshot()));
+                } else {
+                    long[] words = toWords(stored.get(0));
+                    if (words.length == wordCount) {
+                        filter.merge(words);
+                    } else {
+                        log.warn("사용된 토큰 필터 크기 변경으로 저장된 비트를 덮어씀: bucket={}", bucket);
+                    }
+                    jdbcTemplate.update(UPDATE_SQL, toBytes(filter.snapshot()), bucket);
+                }
+                filter.lastWritten = jdbcTemplate.queryForObject(SELECT_UPDATED_AT_SQL, Timestamp.class, bucket);
+            });
+        } catch (DuplicateKeyException e) {
+            // 다른 노드가 같은 버킷 행을 먼저 생성 → 행잠금 병합으로 재시도
+            persist(bucket, filter);
+        }
+    }
+
+    /**
+     * 종료 전 로컬 추가분 기록
+     */
+    @Override
+    public void destroy() {
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            log.warn("종료 시 사용된 토큰 필터 저장 실패", e);
+        }
+    }
+
+    private static byte[] toBytes(long[] words) {
+        ByteBuffer buffer = ByteBuffer.allocate(words.length * Long.BYTES);
+        buffer.asLongBuffer().put(words);
+        return buffer.array();
+    }
+
+    private static long[] toWords(byte[] bytes) {
+        long[] words = new long[bytes.length / Long.BYTES];
+        ByteBuffer.wrap(bytes).asLongBuffer().get(words);
+        return words;
+    }
+
+    /**
+     * 버킷 하나의 비트 배열 (요청 스레드에서 잠금 없이 기록)
+     */
+    private static final class BucketFilter {
+
+        private final AtomicLongArray words;
+        private final AtomicLong insertions = new AtomicLong(); // 이 노드에서 추가한 건수
+        private final AtomicBoolean dirty = new AtomicBoolean();
+        private final AtomicBoolean saturationLogged = new AtomicBoolean();
+        private Timestamp lastWritten; // 이 노드가 마지막으로 기록한 updated_at (sync 안에서만 접근)
+
+        BucketFilter(int wordCount) {
+            this.words = new AtomicLongArray(wordCount);
+        }
+
+        void set(int bit) {
+            words.getAndAccumulate(bit >>> 6, 1L << bit, (current, mask) -> current | mask);
+        }
+
+        boolean get(int bit) {
+            return (words.get(bit >>> 6) & (1L << bit)) != 0;
+        }
+
+        void merge(long[] other) {
+            for (int i = 0; i < other.length; i++) {
+                if (other[i] != 0) {
+                    words.getAndAccumulate(i, other[i], (current, mask) -> current | mask);
+                }
+            }
+        }
+
+        long[] snapshot() {
+            long[] copy = new long[words.length()];
+            for (int i = 0; i < copy.length; i++) {
+                copy[i] = words.get(i);
+            }
+            return copy;
+        }
+    }
+}
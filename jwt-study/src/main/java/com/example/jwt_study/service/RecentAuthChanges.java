@@ -0,0 +1,60 @@
+package com.example.jwt_study.service;
+
+import com.example.jwt_study.config.ReplicaProperties;
+import com.example.jwt_study.domain.AuthChangeLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 최근 인증 상태가 바뀐 사용자 (Replica가 아직 이전 값을 줄 수 있는 사용자는 Primary에서 조회)
+ * 이 노드의 변경은 기록 시점, 다른 노드의 변경은 변경 로그 수신 시점부터 복제 지연 허용치 동안 유지
+ * (지연이 허용치를 넘으면 모든 읽기가 Primary로 우회되므로 그 이후는 Replica도 변경을 반영한 상태)
+ */
+@Component
+@RequiredArgsConstructor
+public class RecentAuthChanges implements AuthChangeListener {
+
+    private final ReplicaProperties replicaProperties;
+
+    private final ConcurrentHashMap<Long, Long> changedAt = new ConcurrentHashMap<>(); // userId -> 시각 (ms)
+
+    /**
+     * 이 노드에서 발생한 변경 기록 (커밋 전에 기록해도 창이 조금 앞당겨질 뿐 안전)
+     */
+    public void record(Long userId) {
+        if (replicaProperties.getUrl() != null) {
+            changedAt.put(userId, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * 다른 노드의 토큰 에포크/사용자 정보 변경 반영
+     */
+    @Override
+    public void onAuthChanges(List<AuthChangeLog> changes) {
+        changes.forEach(change -> record(change.getUserId()));
+    }
+
+    /**
+     * 복제 지연 허용치(+ 지연 확인 주기) 안에 변경된 사용자인지
+     */
+    public boolean isRecent(Long userId) {
+        Long at = changedAt.get(userId);
+        return at != null && System.currentTimeMillis() - at <= windowMillis();
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.max-lag-seconds:5}", timeUnit = TimeUnit.SECONDS)
+    public void prune() {
+        long threshold = System.currentTimeMillis() - windowMillis();
+        changedAt.values().removeIf(at -> at < threshold);
+    }
+
+    private long windowMillis() {
+        return replicaProperties.getMaxLagSeconds() * 1000 + replicaProperties.getLagCheckIntervalMs();
+    }
+}
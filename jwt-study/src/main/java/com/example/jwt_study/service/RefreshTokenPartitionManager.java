@@ -0,0 +1,143 @@
+package com.example.jwt_study.service;
+
+import com.example.jwt_study.config.JwtProperties;
+import com.example.jwt_study.config.RefreshTokenPartitionProperties;
+import com.example.jwt_study.config.RefreshTokenShards;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * refresh_tokens 파티션 관리 (absolute_expires_at 일 단위 RANGE 파티션)
+ * 미래 파티션을 미리 만들고, 상한이 지난(모든 행이 Absolute 만료된) 파티션은 DROP으로 한 번에 제거
+ * 행 단위 DELETE의 undo/redo 및 복제 지연 없이 정리됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenPartitionManager {
+
+    private static final String TABLE = "refresh_tokens";
+    private static final String FUTURE_PARTITION = "p_future";
+    private static final String PAST_PARTITION = "p_past";
+    private static final DateTimeFormatter NAME_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMMdd");
+
+    private final RefreshTokenShards refreshTokenShards;
+    private final RefreshTokenPartitionProperties properties;
+    private final JwtProperties jwtProperties;
+
+    /**
+     * 샤드의 파티션 유지보수 (파티션을 지원하지 않으면 false → 호출 측에서 행 삭제)
+     */
+    public boolean maintain(int shardId) {
+        DataSource dataSource = refreshTokenShards.dataSource(shardId);
+        if (!properties.isEnabled() || !isMySql(dataSource)) {
+            return false;
+        }
+
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        List<Map<String, Object>> partitions = listPartitions(jdbc);
+        if (partitions.isEmpty()) {
+            partitionTable(jdbc);
+            partitions = listPartitions(jdbc);
+        }
+
+        createFuturePartitions(jdbc, partitions);
+        dropExpiredPartitions(jdbc, partitions, shardId);
+        return true;
+    }
+
+    /**
+     * 최초 파티셔닝 (오늘 이전 만료분은 p_past, 이후는 p_future → 일 단위로 분할)
+     */
+    private void partitionTable(JdbcTemplate jdbc) {
+        LocalDate today = LocalDate.now();
+        jdbc.execute("ALTER TABLE " + TABLE + " PARTITION BY RANGE (UNIX_TIMESTAMP(absolute_expires_at)) ("
+                + "PARTITION " + PAST_PARTITION + " VALUES LESS THAN (" + boundOf(today) + "), "
+                + "PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN MAXVALUE)");
+        log.info("refresh_tokens 파티셔닝 완료");
+    }
+
+    /**
+     * 오늘 + Absolute 만료 기간 + 여유 일수까지 일 단위 파티션 생성 (p_future 분할)
+     */
+    private void createFuturePartitions(JdbcTemplate jdbc, List<Map<String, Object>> partitions) {
+        LocalDate lastDay = partitions.stream()
+                .map(partition -> (String) partition.get("name"))
+                .filter(name -> name.matches("p\\d{8}"))
+                .map(name -> LocalDate.parse(name, NAME_FORMAT))
+                .max(LocalDate::compareTo)
+                .orElse(LocalDate.now().minusDays(1));
+
+        long horizonDays = (jwtProperties.getRefreshTokenAbsoluteExpiry() + 86399) / 86400 + properties.getDaysAhead();
+        LocalDate until = LocalDate.now().plusDays(horizonDays);
+        if (!lastDay.isBefore(until)) {
+            return;
+        }
+
+        StringBuilder definitions = new StringBuilder();
+        for (LocalDate day = lastDay.plusDays(1); !day.isAfter(until); day = day.plusDays(1)) {
+            definitions.append("PARTITION ").append(day.format(NAME_FORMAT))
+                    .append(" VALUES LESS THAN (").append(boundOf(day.plusDays(1))).append("), ");
+        }
+        definitions.append("PARTITION ").append(FUTURE_PARTITION).append(" VALUES LESS THAN MAXVALUE");
+
+        jdbc.execute("ALTER TABLE " + TABLE + " REORGANIZE PARTITION " + FUTURE_PARTITION + " INTO (" + definitions + ")");
+        log.info("refresh_tokens 파티션 생성: {} ~ {}", lastDay.plusDays(1), until);
+    }
+
+    /**
+     * 상한이 현재 시각 이전인 파티션 삭제 (모든 행이 Absolute 만료)
+     */
+    private void dropExpiredPartitions(JdbcTemplate jdbc, List<Map<String, Object>> partitions, int shardId) {
+        Long now = jdbc.queryForObject("SELECT UNIX_TIMESTAMP()", Long.class);
+        List<String> expired = partitions.stream()
+                .filter(partition -> !"MAXVALUE".equals(partition.get("bound")))
+                .filter(partition -> Long.parseLong((String) partition.get("bound")) <= now)
+                .map(partition -> (String) partition.get("name"))
+                .toList();
+        if (expired.isEmpty()) {
+            return;
+        }
+
+        jdbc.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + String.join(", ", expired));
+        log.info("만료 파티션 삭제: shardId={}, partitions={}", shardId, expired);
+    }
+
+    private List<Map<String, Object>> listPartitions(JdbcTemplate jdbc) {
+        return jdbc.queryForList("""
+                SELECT PARTITION_NAME AS name, PARTITION_DESCRIPTION AS bound
+                FROM INFORMATION_SCHEMA.PARTITIONS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL
+                ORDER BY PARTITION_ORDINAL_POSITION""", TABLE)
+                .stream()
+                .map(row -> Map.<String, Object>of("name", row.get("name"), "bound", String.valueOf(row.get("bound"))))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 해당 일 00:00의 UNIX_TIMESTAMP (DB 세션 시간대 기준으로 계산)
+     */
+    private String boundOf(LocalDate day) {
+        return "UNIX_TIMESTAMP('" + day + " 00:00:00')";
+    }
+
+    private boolean isMySql(DataSource dataSource) {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, metaData -> metaData.getDatabaseProductName());
+            return "MySQL".equalsIgnoreCase(product);
+        } catch (MetaDataAccessException e) {
+            return false;
+        }
+    }
+}
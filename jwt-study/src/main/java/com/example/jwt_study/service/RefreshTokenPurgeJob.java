@@ -0,0 +1,52 @@
+package com.example.jwt_study.service;
+
+import com.example.jwt_study.config.RefreshTokenShards;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료 리프레시 토큰 정리 스케줄러 (샤드별로 독립 실행, 한 샤드 장애가 다른 샤드 정리를 막지 않음)
+ * 파티션 테이블은 만료 파티션 DROP + 미래 파티션 생성, 그 외(또는 파티션 유지보수 실패 시)는 행 삭제
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenPurgeJob {
+
+    private final TokenService tokenService;
+    private final RefreshTokenPartitionManager partitionManager;
+    private final RefreshTokenShards refreshTokenShards;
+
+    /**
+     * 기동 시 미래 파티션 확보 (첫 스케줄 실행 전 발급 토큰 대비)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        purge();
+    }
+
+    @Scheduled(cron = "${app.refresh-token.purge-cron:0 0 * * * *}")
+    public void purge() {
+        for (int shardId = 0; shardId < refreshTokenShards.count(); shardId++) {
+            boolean partitioned = false;
+            try {
+                partitioned = partitionManager.maintain(shardId);
+            } catch (RuntimeException e) {
+                // 파티셔닝 불가(키 변경 미적용 등)여도 만료 토큰은 계속 정리
+                log.error("파티션 유지보수 실패, 행 삭제로 정리: shardId={}", shardId, e);
+            }
+            if (partitioned) {
+                continue;
+            }
+            try {
+                tokenService.purgeExpired(shardId);
+            } catch (RuntimeException e) {
+                log.error("만료 리프레시 토큰 정리 실패: shardId={}", shardId, e);
+            }
+        }
+    }
+}
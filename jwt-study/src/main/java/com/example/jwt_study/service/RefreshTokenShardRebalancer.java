@@ -0,0 +1,119 @@
+package com.example.jwt_study.service;
+
+import com.example.jwt_study.config.RefreshTokenShards;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 리프레시 토큰 샤드 리밸런싱 도구 (샤드 추가/제거 후 세션을 홈 샤드로 이동)
+ * 실행: java -jar jwt-study.jar --rebalance-refresh-tokens
+ *
+ * 원본 샤드에서 행잠금을 잡은 채 홈 샤드에 복사 후 원본을 삭제하므로,
+ * 이동 중인 토큰의 갱신 요청은 잠금 해제 후 홈 샤드에서 처리됨 (TokenService 홈 샤드 재조회)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenShardRebalancer implements ApplicationRunner {
+
+    private static final String OPTION = "rebalance-refresh-tokens";
+    private static final int BATCH_SIZE = 500;
+
+    private final RefreshTokenShards refreshTokenShards;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!args.containsOption(OPTION)) {
+            return;
+        }
+        for (int shardId = 0; shardId < refreshTokenShards.count(); shardId++) {
+            rebalance(shardId);
+        }
+    }
+
+    /**
+     * 원본 샤드에서 홈 샤드가 다른 세션을 이동 (이동 건수 반환)
+     */
+    public int rebalance(int sourceShard) {
+        DataSource source = refreshTokenShards.dataSource(sourceShard);
+        JdbcTemplate sourceJdbc = new JdbcTemplate(source);
+        TransactionTemplate sourceTx = new TransactionTemplate(new DataSourceTransactionManager(source));
+
+        long lastId = 0;
+        int moved = 0;
+        while (true) {
+            List<Map<String, Object>> page = sourceJdbc.queryForList(
+                    "SELECT id, user_id FROM refresh_tokens WHERE id > ? ORDER BY id LIMIT ?", lastId, BATCH_SIZE);
+            if (page.isEmpty()) {
+                break;
+            }
+            lastId = ((Number) page.get(page.size() - 1).get("id")).longValue();
+
+            List<Long> misplacedIds = page.stream()
+                    .filter(row -> refreshTokenShards.homeShard(((Number) row.get("user_id")).longValue()) != sourceShard)
+                    .map(row -> ((Number) row.get("id")).longValue())
+                    .toList();
+            if (!misplacedIds.isEmpty()) {
+                moved += sourceTx.execute(status -> moveRows(source, misplacedIds));
+            }
+        }
+
+        log.info("리프레시 토큰 리밸런싱 완료: sourceShard={}, moved={}", sourceShard, moved);
+        return moved;
+    }
+
+    /**
+     * 원본 행잠금 → 홈 샤드 복사(커밋) → 원본 삭제 (호출 측 트랜잭션 커밋 시 확정)
+     */
+    private int moveRows(DataSource source, List<Long> ids) {
+        NamedParameterJdbcTemplate sourceJdbc = new NamedParameterJdbcTemplate(source);
+        List<Map<String, Object>> rows = sourceJdbc.queryForList(
+                "SELECT * FROM refresh_tokens WHERE id IN (:ids) FOR UPDATE",
+                new MapSqlParameterSource("ids", ids));
+
+        Map<Integer, List<Map<String, Object>>> byTarget = rows.stream()
+                .collect(Collectors.groupingBy(row -> refreshTokenShards.homeShard(((Number) row.get("user_id")).longValue())));
+        byTarget.forEach(this::copyRows);
+
+        List<Long> lockedIds = rows.stream().map(row -> ((Number) row.get("id")).longValue()).toList();
+        if (!lockedIds.isEmpty()) {
+            sourceJdbc.update("DELETE FROM refresh_tokens WHERE id IN (:ids)", new MapSqlParameterSource("ids", lockedIds));
+        }
+        return lockedIds.size();
+    }
+
+    private void copyRows(int targetShard, List<Map<String, Object>> rows) {
+        DataSource target = refreshTokenShards.dataSource(targetShard);
+        JdbcTemplate targetJdbc = new JdbcTemplate(target);
+        new TransactionTemplate(new DataSourceTransactionManager(target)).executeWithoutResult(status -> {
+            for (Map<String, Object> row : rows) {
+                try {
+                    targetJdbc.update("""
+                                    INSERT INTO refresh_tokens
+                                        (user_id, token_hash, expires_at, absolute_expires_at, used_at, revoked, created_at)
+                                    VALUES (?, ?, ?, ?, ?, ?, ?)""",
+                            row.get("user_id"), row.get("token_hash"),
+                            row.get("expires_at"), row.get("absolute_expires_at"),
+                            row.get("used_at"), row.get("revoked"), row.get("created_at"));
+                } catch (DuplicateKeyException e) {
+                    // 이전 실행에서 복사만 되고 원본 삭제 전 중단된 행
+                    log.debug("이미 복사된 리프레시 토큰: targetShard={}", targetShard);
+                }
+            }
+        });
+    }
+}
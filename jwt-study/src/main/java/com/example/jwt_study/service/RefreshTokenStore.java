@@ -0,0 +1,154 @@
+package com.example.jwt_study.service;
+
+import com.example.jwt_study.domain.RefreshToken;
+import com.example.jwt_study.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 리프레시 토큰 저장소 (샤드 단위 트랜잭션)
+ * 호출 측에서 RefreshTokenShards.callOn()으로 샤드를 지정한 뒤 호출
+ * 만료 버킷이 주어지면 해당 일 범위로 조회 (파티션 프루닝), 없으면 전체 조회 (버킷 도입 이전 토큰)
+ * 행잠금 대기 시간과 결과별 RTR 소요 시간을 기록 (잠금/회전 전략 변경 시 비교용)
+ * 사용된 토큰은 ConsumedTokenFilter에 기록하고 행은 바로 삭제 (필터 비활성화 시 사용 마킹 후 보존)
+ */
+@Service
+public class RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final ConsumedTokenFilter consumedTokenFilter;
+    private final Timer lockWaitTimer;
+    private final Map<RotationStatus, Timer> rotationTimers = new EnumMap<>(RotationStatus.class);
+
+    public RefreshTokenStore(
+            RefreshTokenRepository refreshTokenRepository,
+            ConsumedTokenFilter consumedTokenFilter,
+            MeterRegistry meterRegistry
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.consumedTokenFilter = consumedTokenFilter;
+        this.lockWaitTimer = Timer.builder("refresh.token.rotation.lock.wait")
+                .description("RTR 행잠금 조회(SELECT FOR UPDATE) 소요 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        for (RotationStatus status : RotationStatus.values()) {
+            rotationTimers.put(status, Timer.builder("refresh.token.rotation")
+                    .description("RTR 트랜잭션 내 처리 시간")
+                    .tag("status", status.name())
+                    .publishPercentiles(0.5, 0.95, 0.99)
+                    .register(meterRegistry));
+        }
+    }
+
+    public enum RotationStatus {
+        ROTATED,    // 기존 토큰 삭제(또는 사용 마킹) + 후속 토큰 저장
+        NOT_FOUND,  // 이미 삭제되었거나 다른 샤드의 토큰 (사용 여부는 ConsumedTokenFilter로 판별)
+        REUSED,     // 사용 마킹된 토큰 (재사용 탐지)
+        EXPIRED,    // 만료 (삭제됨)
+        REVOKED     // 처리 대기 중인 폐기 요청 이전에 시작된 세션 (삭제됨)
+    }
+
+    @Transactional
+    public void save(RefreshToken refreshToken) {
+        refreshTokenRepository.save(refreshToken);
+    }
+
+    /**
+     * RTR (SELECT FOR UPDATE 행잠금, Absolute 만료는 기존 값 유지)
+     * 잠금 모드가 SKIP_LOCKED면 동시 갱신 중인 토큰은 NOT_FOUND (대기했을 때의 REUSED와 같은 처리)
+     * sessionCutoff: 폐기 대기 중인 세션의 Absolute 만료 상한 (없으면 null) → 워커 처리 전에도 해당 세션은 갱신 불가
+     */
+    @Transactional
+    public RotationStatus rotate(String tokenHash, Long expiryBucket, String newTokenHash, LocalDateTime newExpiresAt,
+                                 LocalDateTime sessionCutoff) {
+        long start = System.nanoTime();
+        RotationStatus status = doRotate(tokenHash, expiryBucket, newTokenHash, newExpiresAt, sessionCutoff, start);
+        rotationTimers.get(status).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return status;
+    }
+
+    private RotationStatus doRotate(String tokenHash, Long expiryBucket, String newTokenHash, LocalDateTime newExpiresAt,
+                                    LocalDateTime sessionCutoff, long start) {
+        Optional<RefreshToken> found = refreshTokenRepository.findForRotation(tokenHash, expiryBucket);
+        lockWaitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        if (found.isEmpty()) {
+            return RotationStatus.NOT_FOUND;
+        }
+
+        RefreshToken storedToken = found.get();
+        if (storedToken.isUsed()) { // 필터 도입 이전에 사용 마킹된 행
+            return RotationStatus.REUSED;
+        }
+        if (storedToken.isExpired()) {
+            refreshTokenRepository.delete(storedToken);
+            return RotationStatus.EXPIRED;
+        }
+        if (sessionCutoff != null && !storedToken.getAbsoluteExpiresAt().isAfter(sessionCutoff)) {
+            refreshTokenRepository.delete(storedToken);
+            return RotationStatus.REVOKED;
+        }
+
+        if (consumedTokenFilter.isEnabled()) {
+            consumedTokenFilter.add(tokenHash, storedToken.getExpiryBucket());
+            refreshTokenRepository.delete(storedToken);
+        } else {
+            storedToken.markAsUsed();
+            refreshTokenRepository.save(storedToken);
+        }
+
+        RefreshToken newToken = RefreshToken.builder()
+                .userId(storedToken.getUserId())
+                .tokenHash(newTokenHash)
+                .expiresAt(newExpiresAt)
+                .absoluteExpiresAt(storedToken.getAbsoluteExpiresAt())
+                .build();
+        refreshTokenRepository.save(newToken);
+
+        return RotationStatus.ROTATED;
+    }
+
+    /**
+     * 토큰 삭제 (삭제된 토큰의 사용자 ID 반환)
+     */
+    @Transactional
+    public Optional<Long> delete(String tokenHash, Long expiryBucket) {
+        Optional<RefreshToken> found = expiryBucket == null
+                ? refreshTokenRepository.findByTokenHash(tokenHash)
+                : refreshTokenRepository.findByTokenHashInRange(
+                        tokenHash, RefreshToken.bucketStart(expiryBucket), RefreshToken.bucketStart(expiryBucket + 1));
+        return found.map(token -> {
+                    refreshTokenRepository.delete(token);
+                    return token.getUserId();
+                });
+    }
+
+    @Transactional
+    public void deleteAllByUserId(Long userId) {
+        refreshTokenRepository.deleteAllByUserId(userId);
+    }
+
+    /**
+     * 사용자별 폐기 대상 세션 삭제 (값은 세션 Absolute 만료 상한, 한 트랜잭션)
+     */
+    @Transactional
+    public int deleteSessionsUpTo(Map<Long, LocalDateTime> sessionCutoffByUserId) {
+        int deleted = 0;
+        for (Map.Entry<Long, LocalDateTime> entry : sessionCutoffByUserId.entrySet()) {
+            deleted += refreshTokenRepository.deleteAllByUserIdStartedUpTo(entry.getKey(), entry.getValue());
+        }
+        return deleted;
+    }
+
+    @Transactional
+    public void deleteExpired(LocalDateTime now) {
+        refreshTokenRepository.deleteExpiredTokens(now);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.jwt_study.service;
+
+import com.example.jwt_study.config.JwtProperties;
+import com.example.jwt_study.domain.PendingRevocation;
+import com.example.jwt_study.repository.PendingRevocationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 세션 폐기 요청 (요청 경로에서는 작은 트랜잭션으로 기록만, 리프레시 토큰 삭제는 RevocationWorker)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RevocationService {
+
+    private final PendingRevocationRepository pendingRevocationRepository;
+    private final TokenEpochService tokenEpochService;
+    private final JwtProperties jwtProperties;
+
+    /**
+     * 폐기 대기 기록 + 토큰 에포크 갱신 (한 트랜잭션으로 커밋되어 유실 없음)
+     * 액세스 토큰은 에포크로 즉시 거부되고, 리프레시 토큰 행은 워커가 다음 주기에 삭제
+     */
+    @Transactional
+    public void requestRevocation(Long userId, String reason) {
+        pendingRevocationRepository.save(new PendingRevocation(userId, reason));
+        tokenEpochService.revokeAccessTokens(userId);
+        log.info("세션 폐기 요청: userId={}, reason={}", userId, reason);
+    }
+
+    /**
+     * 처리 대기 중인 폐기 요청이 덮는 세션의 Absolute 만료 상한 (대기 건이 없으면 empty)
+     * 복제 지연 없이 봐야 하므로 Primary 트랜잭션에서 조회
+     */
+    @Transactional
+    public Optional<LocalDateTime> pendingSessionCutoff(Long userId) {
+        return pendingRevocationRepository.findLatestRequestedAt(userId).map(this::sessionCutoff);
+    }
+
+    /**
+     * 폐기 요청 시각까지 로그인한 세션의 Absolute 만료 상한
+     * Absolute 만료는 로그인 시각 + 고정 기간이고 RTR 후속 토큰도 같은 값을 물려받으므로 세션(패밀리) 단위로 판별
+     * (행 생성 시각과 달리 요청 이후의 갱신이나 노드 간 시계 차이에 영향받지 않음)
+     */
+    public LocalDateTime sessionCutoff(LocalDateTime requestedAt) {
+        return requestedAt.plusSeconds(jwtProperties.getRefreshTokenAbsoluteExpiry());
+    }
+}
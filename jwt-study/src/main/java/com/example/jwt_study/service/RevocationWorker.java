@@ -0,0 +1,61 @@
+package com.example.jwt_study.service;
+
+import com.example.jwt_study.config.RefreshTokenShards;
+import com.example.jwt_study.domain.PendingRevocation;
+import com.example.jwt_study.repository.PendingRevocationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BinaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * 세션 폐기 워커 (대기 건을 모아 샤드별 한 트랜잭션으로 처리)
+ * 폐기 요청 시각(created_at)까지 로그인한 세션만 삭제 → 샤드 장애로 처리가 밀려도 요청 이후 재로그인 세션은 유지
+ * 세션은 행 생성 시각이 아닌 Absolute 만료로 판별 → 요청 이후 RTR로 만들어진 후속 토큰도 함께 삭제
+ * (처리 전 갱신 자체는 TokenService가 대기 건을 확인해 거부, MySQL TIMESTAMP 초 단위 반올림은 같은 초의 세션을 함께 삭제)
+ * 모든 샤드 삭제가 끝난 뒤에만 대기 건을 지우므로 실패 시 다음 주기에 재시도 (삭제는 멱등)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RevocationWorker {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final PendingRevocationRepository pendingRevocationRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final RefreshTokenShards refreshTokenShards;
+    private final RevocationService revocationService;
+
+    @Scheduled(fixedDelayString = "${app.revocation.worker-interval-ms:500}")
+    public void processPending() {
+        List<PendingRevocation> batch;
+        do {
+            batch = pendingRevocationRepository.findAllByOrderByIdAsc(Limit.of(BATCH_SIZE));
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            // 같은 사용자의 요청이 여러 건이면 가장 늦은 요청 시각 기준
+            Map<Long, LocalDateTime> sessionCutoffByUserId = batch.stream().collect(Collectors.toMap(
+                    PendingRevocation::getUserId,
+                    revocation -> revocationService.sessionCutoff(revocation.getCreatedAt()),
+                    BinaryOperator.maxBy(Comparator.<LocalDateTime>naturalOrder())));
+            int deleted = 0;
+            for (int shardId = 0; shardId < refreshTokenShards.count(); shardId++) {
+                deleted += refreshTokenShards.callOn(shardId, () -> refreshTokenStore.deleteSessionsUpTo(sessionCutoffByUserId));
+            }
+
+            pendingRevocationRepository.deleteAllInBatch(batch);
+            log.info("세션 폐기 처리: users={}, deletedTokens={}", sessionCutoffByUserId.size(), deleted);
+        } while (batch.size() == BATCH_SIZE);
+    }
+}
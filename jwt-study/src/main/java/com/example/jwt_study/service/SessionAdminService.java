@@ -0,0 +1,171 @@
+package com.example.jwt_study.service;
+
+import com.example.jwt_study.config.RefreshTokenShards;
+import com.example.jwt_study.config.SessionAdminProperties;
+import com.example.jwt_study.dto.SessionPageResponse;
+import com.example.jwt_study.dto.SessionResponse;
+import com.example.jwt_study.exception.InvalidRequestException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 관리자용 활성 리프레시 세션 조회 (샤드 순서대로 (user_id, id) keyset 페이지네이션)
+ * OFFSET 없이 idx_user_id (user_id, id) 범위 스캔만 하며, 잠금 없는 일반 SELECT
+ * 내보내기는 fetch size 단위로 읽어 한 행씩 NDJSON으로 바로 기록 (메모리 사용량 일정)
+ */
+@Service
+public class SessionAdminService {
+
+    private static final String ACTIVE = "revoked = FALSE AND expires_at > ? AND absolute_expires_at > ?";
+    private static final String COLUMNS = "SELECT id, user_id, created_at, expires_at, absolute_expires_at FROM refresh_tokens";
+
+    private static final String PAGE_SQL = COLUMNS + " WHERE " + ACTIVE +
+            " AND (user_id > ? OR (user_id = ? AND id > ?)) ORDER BY user_id, id LIMIT ?";
+    private static final String USER_PAGE_SQL = COLUMNS + " WHERE " + ACTIVE +
+            " AND user_id = ? AND id > ? ORDER BY id LIMIT ?";
+    private static final String EXPORT_SQL = COLUMNS + " WHERE " + ACTIVE + " ORDER BY user_id, id";
+    private static final String USER_EXPORT_SQL = COLUMNS + " WHERE " + ACTIVE + " AND user_id = ? ORDER BY id";
+
+    private final RefreshTokenShards refreshTokenShards;
+    private final SessionAdminProperties properties;
+    private final ObjectMapper objectMapper;
+    private final List<JdbcTemplate> pageTemplates = new ArrayList<>();
+    private final List<JdbcTemplate> exportTemplates = new ArrayList<>();
+
+    public SessionAdminService(
+            RefreshTokenShards refreshTokenShards,
+            SessionAdminProperties properties,
+            ObjectMapper objectMapper
+    ) {
+        this.refreshTokenShards = refreshTokenShards;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        for (int shardId = 0; shardId < refreshTokenShards.count(); shardId++) {
+            pageTemplates.add(new JdbcTemplate(refreshTokenShards.dataSource(shardId)));
+            JdbcTemplate exportTemplate = new JdbcTemplate(refreshTokenShards.dataSource(shardId));
+            exportTemplate.setFetchSize(properties.getExportFetchSize());
+            exportTemplates.add(exportTemplate);
+        }
+    }
+
+    /**
+     * 세션 목록 한 페이지 (userId 지정 시 해당 사용자만)
+     */
+    public SessionPageResponse page(String cursor, Integer size, Long userId) {
+        int limit = size == null ? properties.getDefaultPageSize() : size;
+        if (limit < 1 || limit > properties.getMaxPageSize()) {
+            throw new InvalidRequestException("size는 1~" + properties.getMaxPageSize() + " 범위여야 합니다");
+        }
+
+        Cursor position = cursor == null ? Cursor.START : Cursor.decode(cursor);
+        if (position.shard() < 0 || position.shard() >= refreshTokenShards.count()) {
+            throw new InvalidRequestException("cursor가 가리키는 샤드가 없습니다");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<SessionResponse> sessions = new ArrayList<>(limit);
+
+        while (position != null && sessions.size() < limit) {
+            int shardId = position.shard();
+            int remaining = limit - sessions.size();
+            List<SessionResponse> rows = userId == null
+                    ? pageTemplates.get(shardId).query(PAGE_SQL, rowMapper(shardId), now, now,
+                    position.userId(), position.userId(), position.id(), remaining)
+                    : pageTemplates.get(shardId).query(USER_PAGE_SQL, rowMapper(shardId), now, now,
+                    userId, position.id(), remaining);
+            sessions.addAll(rows);
+
+            if (rows.size() < remaining) {
+                position = shardId + 1 < refreshTokenShards.count() ? new Cursor(shardId + 1, 0, 0) : null;
+            } else {
+                SessionResponse last = rows.get(rows.size() - 1);
+                position = new Cursor(shardId, last.getUserId(), last.getId());
+            }
+        }
+
+        return new SessionPageResponse(sessions, position == null ? null : position.encode());
+    }
+
+    /**
+     * 전체 활성 세션 NDJSON 내보내기 (한 줄에 세션 하나, 내보낸 행 수 반환)
+     */
+    public long export(Long userId, OutputStream out) throws IOException {
+        LocalDateTime now = LocalDateTime.now();
+        AtomicLong written = new AtomicLong();
+
+        try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            for (int shardId = 0; shardId < refreshTokenShards.count(); shardId++) {
+                RowMapper<SessionResponse> mapper = rowMapper(shardId);
+                try {
+                    exportTemplates.get(shardId).query(userId == null ? EXPORT_SQL : USER_EXPORT_SQL, rs -> {
+                        try {
+                            generator.writeObject(mapper.mapRow(rs, 0));
+                            generator.writeRaw('\n');
+                            if (written.incrementAndGet() % properties.getExportFlushRows() == 0) {
+                                generator.flush();
+                            }
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e); // 클라이언트 연결 종료 시 조회 중단
+                        }
+                    }, userId == null ? new Object[]{now, now} : new Object[]{now, now, userId});
+                } catch (UncheckedIOException e) {
+                    throw e.getCause();
+                }
+            }
+        }
+        return written.get();
+    }
+
+    private static RowMapper<SessionResponse> rowMapper(int shardId) {
+        return (rs, rowNum) -> new SessionResponse(
+                shardId,
+                rs.getLong("id"),
+                rs.getLong("user_id"),
+                toLocalDateTime(rs.getTimestamp("created_at")),
+                toLocalDateTime(rs.getTimestamp("expires_at")),
+                toLocalDateTime(rs.getTimestamp("absolute_expires_at"))
+        );
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+    /**
+     * 페이지 위치 (샤드, 마지막 user_id, 마지막 id), Base64URL로 감싼 불투명 문자열
+     */
+    private record Cursor(int shard, long userId, long id) {
+
+        static final Cursor START = new Cursor(0, 0, 0);
+
+        String encode() {
+            String raw = shard + ":" + userId + ":" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+        }
+
+        static Cursor decode(String value) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.US_ASCII).split(":");
+                return new Cursor(Integer.parseInt(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+            } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+                throw new InvalidRequestException("cursor 형식이 올바르지 않습니다");
+            }
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.jwt_study.service;
+
+import com.example.jwt_study.domain.AuthChangeLog.ChangeType;
+import com.example.jwt_study.repository.UserRepository;
+import com.example.jwt_study.security.TokenEpochCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+
+/**
+ * 액세스 토큰 무효화 서비스 (사용자별 토큰 에포크 갱신)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenEpochService {
+
+    private final UserRepository userRepository;
+    private final TokenEpochCache tokenEpochCache;
+    private final AuthChangeLogService authChangeLogService;
+
+    /**
+     * 사용자의 기존 액세스 토큰 전체 무효화
+     * 호출 측 트랜잭션(폐기 요청 기록, 비밀번호 변경)에 참여하며, 변경 로그도 같은 트랜잭션에 기록하여 다른 노드에 전파
+     */
+    @Transactional
+    public void revokeAccessTokens(Long userId) {
+        long epoch = Instant.now().getEpochSecond();
+        userRepository.updateTokenEpoch(userId, epoch);
+        authChangeLogService.record(userId, ChangeType.TOKEN_EPOCH);
+        tokenEpochCache.update(userId, epoch);
+        log.info("액세스 토큰 무효화: userId={}, epoch={}", userId, epoch);
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.jwt_study.service;
+
+import com.example.jwt_study.config.IntrospectionProperties;
+import com.example.jwt_study.dto.IntrospectionResponse.Result;
+import com.example.jwt_study.exception.InvalidClientException;
+import com.example.jwt_study.exception.InvalidRequestException;
+import com.example.jwt_study.security.TokenEpochCache;
+import com.example.jwt_study.util.AccessTokenClaims;
+import com.example.jwt_study.util.JwtUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 토큰 인트로스펙션 (RFC 7662, 게이트웨이용 배치)
+ * 액세스 토큰만 활성으로 판정하며, 서명 검증 결과는 토큰 만료 시각까지 캐시
+ * 캐시 적중 시에도 토큰 에포크는 매번 확인하므로 로그아웃/재사용 탐지 즉시 비활성
+ */
+@Slf4j
+@Service
+public class TokenIntrospectionService implements DisposableBean {
+
+    private static final String BASIC_PREFIX = "Basic ";
+
+    private final JwtUtil jwtUtil;
+    private final TokenEpochCache tokenEpochCache;
+    private final IntrospectionProperties properties;
+    private final ConcurrentHashMap<String, CachedResult> cache = new ConcurrentHashMap<>();
+    private final ExecutorService executor;
+    private final Counter cacheHitCounter;
+    private final Counter cacheMissCounter;
+
+    public TokenIntrospectionService(
+            JwtUtil jwtUtil,
+            TokenEpochCache tokenEpochCache,
+            IntrospectionProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.jwtUtil = jwtUtil;
+        this.tokenEpochCache = tokenEpochCache;
+        this.properties = properties;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+            Thread thread = new Thread(runnable, "introspection-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.cacheHitCounter = Counter.builder("token.introspection.cache")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.cacheMissCounter = Counter.builder("token.introspection.cache")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("token.introspection.cache.size", cache, ConcurrentHashMap::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 클라이언트 인증 (HTTP Basic, 공유 비밀, 상수 시간 비교)
+     */
+    public void authenticateClient(String authorization) {
+        if (authorization == null || !authorization.startsWith(BASIC_PREFIX)) {
+            throw new InvalidClientException("클라이언트 인증이 필요합니다");
+        }
+
+        String credentials;
+        try {
+            credentials = new String(Base64.getDecoder().decode(authorization.substring(BASIC_PREFIX.length())), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidClientException("클라이언트 인증에 실패했습니다");
+        }
+        int separator = credentials.indexOf(':');
+        if (separator < 0) {
+            throw new InvalidClientException("클라이언트 인증에 실패했습니다");
+        }
+        byte[] id = credentials.substring(0, separator).getBytes(StandardCharsets.UTF_8);
+        byte[] secret = credentials.substring(separator + 1).getBytes(StandardCharsets.UTF_8);
+
+        boolean matched = false;
+        for (IntrospectionProperties.Client client : properties.getClients()) {
+            matched |= MessageDigest.isEqual(id, client.getId().getBytes(StandardCharsets.UTF_8))
+                    & MessageDigest.isEqual(secret, client.getSecret().getBytes(StandardCharsets.UTF_8));
+        }
+        if (!matched) {
+            throw new InvalidClientException("클라이언트 인증에 실패했습니다");
+        }
+    }
+
+    /**
+     * 토큰 목록 검증 (요청 순서대로 결과 반환, parallelThreshold 이상이면 병렬)
+     */
+    public List<Result> introspect(List<String> tokens) {
+        if (tokens.size() > properties.getMaxTokens()) {
+            throw new InvalidRequestException("한 번에 최대 " + properties.getMaxTokens() + "개의 토큰만 확인할 수 있습니다");
+        }
+
+        if (tokens.size() < properties.getParallelThreshold()) {
+            return tokens.stream().map(this::introspectOne).toList();
+        }
+        List<CompletableFuture<Result>> futures = tokens.stream()
+                .map(token -> CompletableFuture.supplyAsync(() -> introspectOne(token), executor))
+                .toList();
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private Result introspectOne(String token) {
+        if (token == null || token.isBlank()) {
+            return Result.INACTIVE;
+        }
+
+        long now = System.currentTimeMillis();
+        CachedResult cached = cache.get(token);
+        if (cached != null) {
+            if (cached.expiresAtMillis() > now) {
+                cacheHitCounter.increment();
+                return tokenEpochCache.isRevoked(cached.userId(), cached.issuedAt()) ? Result.INACTIVE : cached.result();
+            }
+            cache.remove(token, cached);
+        }
+        cacheMissCounter.increment();
+
+        AccessTokenClaims claims;
+        try {
+            claims = jwtUtil.parseAccessToken(token);
+        } catch (RuntimeException e) {
+            return Result.INACTIVE; // 서명/만료/타입 오류는 캐시하지 않음
+        }
+
+        Result result = new Result(true, claims.userId().toString(), claims.username(), "access",
+                claims.issuedAt().getTime() / 1000, claims.expiresAt().getTime() / 1000);
+        if (cache.size() < properties.getCacheMaxEntries()) {
+            cache.put(token, new CachedResult(result, claims.userId(), claims.issuedAt(), claims.expiresAt().getTime()));
+        }
+        return tokenEpochCache.isRevoked(claims.userId(), claims.issuedAt()) ? Result.INACTIVE : result;
+    }
+
+    /**
+     * 만료된 캐시 정리
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        cache.values().removeIf(cached -> cached.expiresAtMillis() <= now);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private record CachedResult(Result result, Long userId, Date issuedAt, long expiresAtMillis) {
+    }
+}
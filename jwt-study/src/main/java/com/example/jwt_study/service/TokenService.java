@@ -1,32 +1,49 @@
 package com.example.jwt_study.service;
 
 import com.example.jwt_study.config.JwtProperties;
+import com.example.jwt_study.config.RefreshTokenShards;
 import com.example.jwt_study.domain.RefreshToken;
+import com.example.jwt_study.event.SecurityEventPublisher;
+import com.example.jwt_study.event.SecurityEventType;
+import com.example.jwt_study.exception.InvalidTokenException;
 import com.example.jwt_study.exception.TokenExpiredException;
 import com.example.jwt_study.exception.TokenReuseDetectedException;
-import com.example.jwt_study.repository.RefreshTokenRepository;
+import com.example.jwt_study.security.AccessTokenRefreshHint;
+import com.example.jwt_study.service.RefreshTokenStore.RotationStatus;
 import com.example.jwt_study.util.JwtUtil;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
- * 토큰 관리 서비스 (SHA-256 해싱, RTR with 행잠금)
+ * 토큰 관리 서비스 (SHA-256 해싱, RTR with 행잠금, user_id 해시 샤딩)
+ * 샤드를 먼저 결정한 뒤 RefreshTokenStore의 샤드 단위 트랜잭션을 호출
+ * 토큰의 만료 버킷(bkt)으로 refresh_tokens 단일 파티션만 조회
+ * 사용된 행은 RTR 시 삭제되므로 저장소에 없는 토큰의 재사용 여부는 ConsumedTokenFilter로 판별
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TokenService {
 
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final RefreshTokenShards refreshTokenShards;
     private final JwtUtil jwtUtil;
     private final JwtProperties jwtProperties;
+    private final TokenEpochService tokenEpochService;
+    private final RevocationService revocationService;
+    private final TokenStoreGuard tokenStoreGuard;
+    private final ConsumedTokenFilter consumedTokenFilter;
+    private final AccessTokenRefreshHint accessTokenRefreshHint;
+    private final SecurityEventPublisher securityEventPublisher;
 
     /**
      * SHA-256 단방향 해싱
@@ -52,96 +69,150 @@ public class TokenService {
     }
 
     /**
-     * 리프레시 토큰 저장 (로그인 시)
+     * 리프레시 토큰 발급 + 홈 샤드에 저장 (로그인 시)
      */
-    @Transactional
-    public void saveRefreshToken(Long userId, String refreshToken) {
-        String tokenHash = hashToken(refreshToken);
-
+    public String issueRefreshToken(Long userId) {
+        int shardId = refreshTokenShards.homeShard(userId);
         LocalDateTime now = LocalDateTime.now();
-        LocalDateTime expiresAt = now.plusSeconds(jwtProperties.getRefreshTokenExpiry());
         LocalDateTime absoluteExpiresAt = now.plusSeconds(jwtProperties.getRefreshTokenAbsoluteExpiry());
+        String refreshToken = jwtUtil.generateRefreshToken(
+                userId, shardId, RefreshToken.expiryBucketOf(absoluteExpiresAt));
 
         RefreshToken entity = RefreshToken.builder()
                 .userId(userId)
-                .tokenHash(tokenHash)
-                .expiresAt(expiresAt)
+                .tokenHash(hashToken(refreshToken))
+                .expiresAt(now.plusSeconds(jwtProperties.getRefreshTokenExpiry()))
                 .absoluteExpiresAt(absoluteExpiresAt)
                 .build();
 
-        refreshTokenRepository.save(entity);
-        log.info("리프레시 토큰 저장 완료: userId={}", userId);
+        onShard(shardId, () -> {
+            refreshTokenStore.save(entity);
+            return null;
+        });
+        log.info("리프레시 토큰 저장 완료: userId={}, shardId={}", userId, shardId);
+
+        return refreshToken;
     }
 
     /**
      * 리프레시 토큰 갱신 (RTR with 행잠금)
      * RFC 6749 - Refresh Token Rotation
      */
-    @Transactional
     public String rotateRefreshToken(String oldRefreshToken) {
         // 1. JWT 서명 검증
-        jwtUtil.validateTokenType(oldRefreshToken, "refresh");
-        Long userId = jwtUtil.getUserId(oldRefreshToken);
-
-        // 2. DB 조회 (SELECT FOR UPDATE - 행잠금)
+        Claims claims = jwtUtil.parseClaims(oldRefreshToken);
+        jwtUtil.validateTokenType(claims, "refresh");
+        Long userId = Long.parseLong(claims.getSubject());
+        int shardId = refreshTokenShards.resolve(jwtUtil.getShardId(claims), userId);
+        Long expiryBucket = jwtUtil.getExpiryBucket(claims); // Absolute 만료 불변 → 후속 토큰도 같은 버킷
         String tokenHash = hashToken(oldRefreshToken);
-        RefreshToken storedToken = refreshTokenRepository.findByTokenHashWithLock(tokenHash)
-                .orElseThrow(() -> {
-                    // 재사용 탐지: 이미 삭제되었거나 사용된 토큰
-                    log.warn("리프레시 토큰 재사용 탐지: userId={}, tokenHash={}", userId, tokenHash.substring(0, 8) + "...");
-                    refreshTokenRepository.deleteAllByUserId(userId);
-                    return new TokenReuseDetectedException("리프레시 토큰 재사용이 감지되었습니다");
-                });
-
-        // 3. 이미 사용된 토큰 확인 (경쟁 조건 방지)
-        if (storedToken.isUsed()) {
-            log.warn("이미 사용된 리프레시 토큰: userId={}", userId);
-            refreshTokenRepository.deleteAllByUserId(userId);
-            throw new TokenReuseDetectedException("이미 사용된 리프레시 토큰입니다");
-        }
 
-        // 4. 만료 확인 (Absolute 우선)
-        if (storedToken.isExpired()) {
-            refreshTokenRepository.delete(storedToken);
-            throw new TokenExpiredException("리프레시 토큰이 만료되었습니다");
-        }
+        // 2. 워커가 아직 처리하지 않은 폐기 요청 (요청 이전에 시작된 세션은 후속 토큰도 갱신 불가)
+        LocalDateTime sessionCutoff = revocationService.pendingSessionCutoff(userId).orElse(null);
 
-        // 5. 기존 토큰 사용 마킹 (Soft Delete)
-        storedToken.markAsUsed();
-        refreshTokenRepository.save(storedToken);
+        // 3. 토큰이 저장된 샤드/파티션에서 RTR (SELECT FOR UPDATE - 행잠금)
+        String newRefreshToken = jwtUtil.generateRefreshToken(userId, shardId, expiryBucket);
+        RotationStatus status = rotateOnShard(shardId, tokenHash, expiryBucket, newRefreshToken, sessionCutoff);
 
-        // 6. 새 리프레시 토큰 발급
-        String newRefreshToken = jwtUtil.generateRefreshToken(userId);
-        String newTokenHash = hashToken(newRefreshToken);
+        // 4. 삭제된 행 중 RTR로 사용된 토큰 (오탐이어도 NOT_FOUND와 같은 폐기 처리)
+        // 홈 샤드 확인보다 먼저: 리밸런싱 중 원본 삭제가 실패해 남은 복사본으로 재사용이 갱신되지 않도록
+        if (status == RotationStatus.NOT_FOUND && consumedTokenFilter.mightContain(tokenHash, expiryBucket)) {
+            status = RotationStatus.REUSED;
+        }
 
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime newExpiresAt = now.plusSeconds(jwtProperties.getRefreshTokenExpiry());
-        // Absolute는 기존 값 유지
-        LocalDateTime absoluteExpiresAt = storedToken.getAbsoluteExpiresAt();
+        // 5. 리밸런싱으로 홈 샤드로 옮겨진 세션
+        int homeShard = refreshTokenShards.homeShard(userId);
+        if (status == RotationStatus.NOT_FOUND && homeShard != shardId) {
+            newRefreshToken = jwtUtil.generateRefreshToken(userId, homeShard, expiryBucket);
+            status = rotateOnShard(homeShard, tokenHash, expiryBucket, newRefreshToken, sessionCutoff);
+        }
 
-        RefreshToken newToken = RefreshToken.builder()
-                .userId(userId)
-                .tokenHash(newTokenHash)
-                .expiresAt(newExpiresAt)
-                .absoluteExpiresAt(absoluteExpiresAt)
-                .build();
+        switch (status) {
+            case NOT_FOUND -> {
+                // 재사용 탐지: 로그아웃/폐기로 삭제되었거나 필터에 아직 반영되지 않은 다른 노드의 사용 토큰
+                log.warn("리프레시 토큰 재사용 탐지: userId={}, tokenHash={}", userId, tokenHash.substring(0, 8) + "...");
+                securityEventPublisher.publish(SecurityEventType.REFRESH_TOKEN_REUSE, userId, null, "not_found");
+                revokeAll(userId, SecurityEventType.REFRESH_TOKEN_REUSE.name());
+                throw new TokenReuseDetectedException("리프레시 토큰 재사용이 감지되었습니다");
+            }
+            case REUSED -> {
+                log.warn("이미 사용된 리프레시 토큰: userId={}", userId);
+                securityEventPublisher.publish(SecurityEventType.REFRESH_TOKEN_REUSE, userId, null, "already_used");
+                revokeAll(userId, SecurityEventType.REFRESH_TOKEN_REUSE.name());
+                throw new TokenReuseDetectedException("이미 사용된 리프레시 토큰입니다");
+            }
+            case REVOKED -> {
+                // 이미 폐기 요청된 세션 (대기 건이 있으므로 추가 요청 없이 거부)
+                log.warn("폐기 대기 중인 세션의 갱신 시도: userId={}", userId);
+                securityEventPublisher.publish(SecurityEventType.REFRESH_TOKEN_REUSE, userId, null, "revoked");
+                throw new TokenReuseDetectedException("폐기된 세션의 리프레시 토큰입니다");
+            }
+            case EXPIRED -> {
+                securityEventPublisher.publish(SecurityEventType.REFRESH_TOKEN_EXPIRED, userId, null, null);
+                throw new TokenExpiredException("리프레시 토큰이 만료되었습니다");
+            }
+            default -> {
+                accessTokenRefreshHint.recordRefresh(claims.getIssuedAt()); // 선제/사후 갱신 집계
+                log.info("리프레시 토큰 갱신 완료: userId={}", userId);
+                return newRefreshToken;
+            }
+        }
+    }
+
+    private RotationStatus rotateOnShard(int shardId, String tokenHash, Long expiryBucket, String newRefreshToken,
+                                         LocalDateTime sessionCutoff) {
+        LocalDateTime newExpiresAt = LocalDateTime.now().plusSeconds(jwtProperties.getRefreshTokenExpiry());
+        return onShard(shardId, () -> refreshTokenStore.rotate(
+                tokenHash, expiryBucket, hashToken(newRefreshToken), newExpiresAt, sessionCutoff));
+    }
 
-        refreshTokenRepository.save(newToken);
-        log.info("리프레시 토큰 갱신 완료: userId={}", userId);
+    /**
+     * 샤드 지정 후 저장소 호출 (샤드별 서킷 브레이커 적용, 장애 시 TokenStoreUnavailableException)
+     */
+    private <T> T onShard(int shardId, Supplier<T> action) {
+        return tokenStoreGuard.call(shardId, () -> refreshTokenShards.callOn(shardId, action));
+    }
 
-        return newRefreshToken;
+    /**
+     * 사용자의 모든 세션 폐기 요청 (액세스 토큰 즉시 무효화, 전체 샤드 리프레시 토큰 삭제는 RevocationWorker)
+     */
+    public void revokeAll(Long userId, String reason) {
+        revocationService.requestRevocation(userId, reason);
     }
 
     /**
-     * 리프레시 토큰 삭제 (로그아웃 시)
+     * 리프레시 토큰 삭제 + 액세스 토큰 무효화 (로그아웃 시)
+     * 서명이 유효하지 않은 토큰은 저장된 샤드를 알 수 없으므로 무시 (만료 시 정리됨)
      */
-    @Transactional
     public void deleteRefreshToken(String refreshToken) {
+        Claims claims;
+        try {
+            claims = jwtUtil.parseClaims(refreshToken);
+        } catch (InvalidTokenException e) {
+            return;
+        }
+        Long userId = Long.parseLong(claims.getSubject());
+        int shardId = refreshTokenShards.resolve(jwtUtil.getShardId(claims), userId);
+        int homeShard = refreshTokenShards.homeShard(userId);
+        Long expiryBucket = jwtUtil.getExpiryBucket(claims);
         String tokenHash = hashToken(refreshToken);
-        refreshTokenRepository.findByTokenHash(tokenHash)
-                .ifPresent(token -> {
-                    refreshTokenRepository.delete(token);
-                    log.info("리프레시 토큰 삭제 완료: userId={}", token.getUserId());
-                });
+
+        Optional<Long> deleted = onShard(shardId, () -> refreshTokenStore.delete(tokenHash, expiryBucket));
+        if (deleted.isEmpty() && homeShard != shardId) {
+            deleted = onShard(homeShard, () -> refreshTokenStore.delete(tokenHash, expiryBucket));
+        }
+
+        deleted.ifPresent(tokenUserId -> {
+            tokenEpochService.revokeAccessTokens(tokenUserId);
+            securityEventPublisher.publish(SecurityEventType.LOGOUT, tokenUserId, null, null);
+            log.info("리프레시 토큰 삭제 완료: userId={}", tokenUserId);
+        });
+    }
+
+    /**
+     * 만료된 토큰 정리 (샤드별 행 삭제, 파티션 미지원 DB용)
+     */
+    public void purgeExpired(int shardId) {
+        refreshTokenShards.runOn(shardId, () -> refreshTokenStore.deleteExpired(LocalDateTime.now()));
     }
-}
\ No newline at end of file
+}
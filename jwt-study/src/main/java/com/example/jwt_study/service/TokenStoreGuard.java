@@ -0,0 +1,88 @@
+package com.example.jwt_study.service;
+
+import com.example.jwt_study.config.RefreshTokenShards;
+import com.example.jwt_study.config.RefreshTokenStoreProperties;
+import com.example.jwt_study.exception.TokenStoreUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 샤드별 토큰 저장소 서킷 브레이커
+ * 잠금/쿼리 타임아웃, 커넥션 획득 실패 등 일시 장애가 몰리면 해당 샤드 호출을 즉시 실패 (503, 재시도 가능)
+ */
+@Slf4j
+@Component
+public class TokenStoreGuard {
+
+    private final RefreshTokenStoreProperties properties;
+    private final List<CircuitBreaker> breakers = new ArrayList<>();
+    private final List<Counter> rejectedCounters = new ArrayList<>();
+
+    public TokenStoreGuard(RefreshTokenStoreProperties properties, RefreshTokenShards refreshTokenShards, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        for (int shardId = 0; shardId < refreshTokenShards.count(); shardId++) {
+            CircuitBreaker breaker = new CircuitBreaker(properties.getCircuit());
+            breakers.add(breaker);
+            Gauge.builder("token.store.circuit.state", breaker, b -> b.getState().ordinal())
+                    .description("토큰 저장소 서킷 상태 (0 = CLOSED, 1 = HALF_OPEN, 2 = OPEN)")
+                    .tag("shard", String.valueOf(shardId))
+                    .register(meterRegistry);
+            rejectedCounters.add(Counter.builder("token.store.circuit.rejected")
+                    .description("서킷이 열려 즉시 거부된 호출 수")
+                    .tag("shard", String.valueOf(shardId))
+                    .register(meterRegistry));
+        }
+    }
+
+    public <T> T call(int shardId, Supplier<T> action) {
+        if (!properties.getCircuit().isEnabled()) {
+            return action.get();
+        }
+
+        CircuitBreaker breaker = breakers.get(shardId);
+        if (!breaker.tryAcquirePermission()) {
+            rejectedCounters.get(shardId).increment();
+            throw new TokenStoreUnavailableException(
+                    "토큰 저장소가 일시적으로 응답하지 않습니다", breaker.remainingOpenSeconds(), null);
+        }
+
+        try {
+            T result = action.get();
+            breaker.onSuccess();
+            return result;
+        } catch (RuntimeException e) {
+            if (!isStoreFailure(e)) {
+                breaker.onSuccess(); // 저장소는 정상 응답 (비즈니스 예외)
+                throw e;
+            }
+            breaker.onFailure();
+            log.warn("토큰 저장소 오류: shardId={}, state={}, error={}", shardId, breaker.getState(), e.getMessage());
+            throw new TokenStoreUnavailableException("토큰 저장소가 일시적으로 응답하지 않습니다", 1, e);
+        }
+    }
+
+    public CircuitBreaker.State state(int shardId) {
+        return breakers.get(shardId).getState();
+    }
+
+    /**
+     * 재시도하면 성공할 수 있는 저장소 장애 (잠금/쿼리 타임아웃, 커넥션/트랜잭션 획득 실패)
+     */
+    private static boolean isStoreFailure(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof TransactionException;
+    }
+}
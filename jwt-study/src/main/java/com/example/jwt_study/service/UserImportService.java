@@ -0,0 +1,344 @@
+package com.example.jwt_study.service;
+
+import com.example.jwt_study.config.UserImportProperties;
+import com.example.jwt_study.dto.UserImportError;
+import com.example.jwt_study.dto.UserImportResponse;
+import com.example.jwt_study.exception.InvalidRequestException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 관리자용 사용자 일괄 가져오기 (NDJSON 또는 CSV 스트리밍)
+ * 청크 단위로 사용자명 중복을 IN 조회 1회로 확인하고, BCrypt는 전용 ForkJoinPool에서 병렬 해싱, 저장은 JDBC 배치 INSERT
+ * 행 오류(형식, 검증, 중복, 해싱/저장 실패)는 해당 행만 제외하고 계속 진행
+ * 확인과 저장 사이에 같은 사용자명이 가입되어 배치가 실패하면 그 청크만 행 단위로 다시 저장
+ */
+@Slf4j
+@Service
+public class UserImportService implements DisposableBean {
+
+    private static final String EXISTING_SQL = "SELECT username FROM users WHERE username IN (:usernames)";
+    private static final String INSERT_SQL = "INSERT INTO users (username, password) VALUES (?, ?)";
+    private static final String CSV_HEADER = "username,password";
+
+    // RegisterRequest와 같은 규칙
+    private static final int USERNAME_MIN_LENGTH = 3;
+    private static final int USERNAME_MAX_LENGTH = 50;
+    private static final int PASSWORD_MIN_LENGTH = 8;
+    private static final int PASSWORD_MAX_BYTES = 72; // BCrypt 입력 상한 (초과 시 encode가 예외)
+
+    public enum Format {
+        NDJSON,
+        CSV
+    }
+
+    private final UserImportProperties properties;
+    private final PasswordEncoder passwordEncoder;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ForkJoinPool hashPool;
+    private final Counter importedCounter;
+    private final Counter failedCounter;
+
+    public UserImportService(
+            UserImportProperties properties,
+            PasswordEncoder passwordEncoder,
+            ObjectMapper objectMapper,
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.passwordEncoder = passwordEncoder;
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        int parallelism = properties.getHashParallelism() > 0
+                ? properties.getHashParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        this.hashPool = new ForkJoinPool(parallelism); // 공용 풀을 점유하지 않도록 분리
+        this.importedCounter = Counter.builder("user.import.rows")
+                .description("일괄 가져오기로 저장된 사용자 수")
+                .tag("result", "imported")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("user.import.rows")
+                .description("일괄 가져오기에서 제외된 행 수")
+                .tag("result", "failed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 입력을 한 줄씩 읽어 청크 단위로 저장 (CSV는 첫 줄이 username,password 헤더)
+     */
+    public UserImportResponse importUsers(InputStream in, Format format) throws IOException {
+        ImportRun run = new ImportRun(properties.getMaxReportedErrors());
+        Set<String> seen = new HashSet<>();
+        List<ImportRow> chunk = new ArrayList<>(properties.getChunkSize());
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            long lineNumber = 0;
+            boolean expectHeader = format == Format.CSV;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber == 1 && line.startsWith("\uFEFF")) {
+                    line = line.substring(1); // UTF-8 BOM
+                }
+                if (line.isBlank()) {
+                    continue;
+                }
+                if (expectHeader) {
+                    if (!CSV_HEADER.equalsIgnoreCase(line.strip().replace(" ", ""))) {
+                        throw new InvalidRequestException("CSV 첫 줄은 " + CSV_HEADER + " 헤더여야 합니다");
+                    }
+                    expectHeader = false;
+                    continue;
+                }
+                if (run.total == properties.getMaxRows()) {
+                    run.total++;
+                    run.reject(lineNumber, null, "too_many_rows", "요청당 최대 " + properties.getMaxRows() + "행까지 가져올 수 있습니다");
+                    break;
+                }
+                run.total++;
+
+                ImportRow row = format == Format.CSV ? parseCsv(lineNumber, line, run) : parseNdjson(lineNumber, line, run);
+                if (row == null || !validate(row, run)) {
+                    continue;
+                }
+                if (!seen.add(row.username())) {
+                    run.reject(row, "duplicate_username", "파일 안에서 중복된 사용자명입니다");
+                    continue;
+                }
+
+                chunk.add(row);
+                if (chunk.size() == properties.getChunkSize()) {
+                    flush(chunk, run);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            flush(chunk, run);
+        }
+
+        importedCounter.increment(run.imported);
+        failedCounter.increment(run.failed);
+        log.info("사용자 일괄 가져오기 완료: total={}, imported={}, failed={}", run.total, run.imported, run.failed);
+        return new UserImportResponse(run.total, run.imported, run.failed, run.errors, run.errorsTruncated);
+    }
+
+    /**
+     * 청크 저장: 기존 사용자명 IN 조회 → 병렬 해싱 → 배치 INSERT (Primary, 청크 단위 트랜잭션)
+     */
+    private void flush(List<ImportRow> chunk, ImportRun run) {
+        List<String> usernames = chunk.stream().map(ImportRow::username).toList();
+        Set<String> existing = new HashSet<>(
+                namedJdbcTemplate.queryForList(EXISTING_SQL, Map.of("usernames", usernames), String.class));
+
+        List<ImportRow> candidates = new ArrayList<>(chunk.size());
+        for (ImportRow row : chunk) {
+            if (existing.contains(row.username())) {
+                run.reject(row, "duplicate_username", "이미 사용 중인 사용자명입니다");
+            } else {
+                candidates.add(row);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        // 병렬 스트림은 자신을 실행한 ForkJoinPool 안에서 분할 실행 (해싱 실패 행은 null, 요청 스레드에서 집계)
+        List<String> hashes = hashPool.submit(() -> candidates.parallelStream()
+                        .map(this::hashOrNull)
+                        .toList())
+                .join();
+
+        List<ImportRow> rows = new ArrayList<>(candidates.size());
+        List<Object[]> batchArgs = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            if (hashes.get(i) == null) {
+                run.reject(candidates.get(i), "validation_failed", "비밀번호를 해싱할 수 없습니다");
+                continue;
+            }
+            rows.add(candidates.get(i));
+            batchArgs.add(new Object[]{candidates.get(i).username(), hashes.get(i)});
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs));
+            run.imported += batchArgs.size();
+        } catch (DataIntegrityViolationException e) { // 배치 실패 시 드라이버마다 예외 변환이 달라 상위 타입으로 처리
+            insertOneByOne(rows, batchArgs, run);
+        }
+    }
+
+    private String hashOrNull(ImportRow row) {
+        try {
+            return passwordEncoder.encode(row.password());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private void insertOneByOne(List<ImportRow> rows, List<Object[]> batchArgs, ImportRun run) {
+        for (int i = 0; i < rows.size(); i++) {
+            try {
+                jdbcTemplate.update(INSERT_SQL, batchArgs.get(i));
+                run.imported++;
+            } catch (DuplicateKeyException e) {
+                run.reject(rows.get(i), "duplicate_username", "이미 사용 중인 사용자명입니다");
+            } catch (DataAccessException e) {
+                log.warn("사용자 가져오기 행 저장 실패: line={}", rows.get(i).line(), e);
+                run.reject(rows.get(i), "insert_failed", "저장할 수 없는 행입니다");
+            }
+        }
+    }
+
+    private ImportRow parseNdjson(long lineNumber, String line, ImportRun run) {
+        try {
+            JsonNode node = objectMapper.readTree(line);
+            JsonNode username = node.path("username");
+            JsonNode password = node.path("password");
+            if (!node.isObject() || !username.isTextual() || !password.isTextual()) {
+                run.reject(lineNumber, null, "invalid_format", "username, password 문자열 필드가 필요합니다");
+                return null;
+            }
+            return new ImportRow(lineNumber, username.asText(), password.asText());
+        } catch (JsonProcessingException e) {
+            run.reject(lineNumber, null, "invalid_format", "JSON 형식이 올바르지 않습니다");
+            return null;
+        }
+    }
+
+    private ImportRow parseCsv(long lineNumber, String line, ImportRun run) {
+        List<String> fields = splitCsvLine(line);
+        if (fields == null || fields.size() != 2) {
+            run.reject(lineNumber, null, "invalid_format", "username,password 두 필드가 필요합니다");
+            return null;
+        }
+        return new ImportRow(lineNumber, fields.get(0), fields.get(1));
+    }
+
+    /**
+     * RFC 4180 한 줄 분리 (큰따옴표 필드, "" 이스케이프), 닫히지 않은 따옴표는 null
+     * 필드 안의 줄바꿈은 지원하지 않음
+     */
+    static List<String> splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>(2);
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static boolean validate(ImportRow row, ImportRun run) {
+        String username = row.username();
+        if (username.isBlank() || username.length() < USERNAME_MIN_LENGTH || username.length() > USERNAME_MAX_LENGTH) {
+            run.reject(row, "validation_failed", "사용자명은 3-50자여야 합니다");
+            return false;
+        }
+        if (row.password().isBlank() || row.password().length() < PASSWORD_MIN_LENGTH) {
+            run.reject(row, "validation_failed", "비밀번호는 최소 8자 이상이어야 합니다");
+            return false;
+        }
+        if (row.password().getBytes(StandardCharsets.UTF_8).length > PASSWORD_MAX_BYTES) {
+            run.reject(row, "validation_failed", "비밀번호는 UTF-8 기준 " + PASSWORD_MAX_BYTES + "바이트 이하여야 합니다");
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void destroy() {
+        hashPool.shutdown();
+    }
+
+    private record ImportRow(long line, String username, String password) {
+    }
+
+    /**
+     * 요청 1회의 집계 (요청 스레드에서만 접근)
+     */
+    private static final class ImportRun {
+
+        private final int maxReportedErrors;
+        private final List<UserImportError> errors = new ArrayList<>();
+        private long total;
+        private long imported;
+        private long failed;
+        private boolean errorsTruncated;
+
+        ImportRun(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        void reject(ImportRow row, String error, String message) {
+            reject(row.line(), row.username(), error, message);
+        }
+
+        void reject(long line, String username, String error, String message) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new UserImportError(line, username, error, message));
+            } else {
+                errorsTruncated = true;
+            }
+        }
+    }
+}
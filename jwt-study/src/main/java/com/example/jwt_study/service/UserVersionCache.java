@@ -0,0 +1,68 @@
+package com.example.jwt_study.service;
+
+import com.example.jwt_study.domain.AuthChangeLog;
+import com.example.jwt_study.domain.AuthChangeLog.ChangeType;
+import com.example.jwt_study.domain.User;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자별 엔티티 버전 메모리 캐시 (/api/users/me 조건부 GET 판정용)
+ * 버전이 캐시에 있으면 엔티티 조회 없이 ETag 비교
+ * 이 노드의 변경은 커밋 후 새 버전으로 갱신, 다른 노드의 변경(USER_UPDATED)은 제거
+ * 버전은 증가만 하므로 커밋 전 행을 읽은 동시 조회가 늦게 기록해도 이전 버전으로 되돌아가지 않음
+ */
+@Component
+public class UserVersionCache implements AuthChangeListener {
+
+    private static final int MAX_ENTRIES = 100_000;
+
+    private final ConcurrentHashMap<Long, Long> versions = new ConcurrentHashMap<>();
+
+    public Long get(Long userId) {
+        return versions.get(userId);
+    }
+
+    /**
+     * 조회한 엔티티 버전 기록 (상한 초과 시 기록하지 않고 매번 조회)
+     */
+    public void put(Long userId, long version) {
+        if (versions.size() < MAX_ENTRIES || versions.containsKey(userId)) {
+            versions.merge(userId, version, Math::max);
+        }
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 후 변경된 버전 기록 (커밋 전에 갱신하면 동시 조회가 커밋 전 버전을 다시 기록)
+     */
+    public void putAfterCommit(User user) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(user.getId(), user.getVersion());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(user.getId(), user.getVersion()); // 커밋 시 flush로 증가한 버전
+            }
+        });
+    }
+
+    public void evict(Long userId) {
+        versions.remove(userId);
+    }
+
+    /**
+     * 다른 노드의 사용자 정보 변경 반영
+     */
+    @Override
+    public void onAuthChanges(List<AuthChangeLog> changes) {
+        changes.stream()
+                .filter(change -> change.getChangeType() == ChangeType.USER_UPDATED)
+                .forEach(change -> evict(change.getUserId()));
+    }
+}
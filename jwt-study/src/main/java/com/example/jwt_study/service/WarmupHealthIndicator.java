@@ -0,0 +1,27 @@
+package com.example.jwt_study.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 워밍업 완료 여부 (readiness 그룹에 포함, 완료 전에는 트래픽을 받지 않음)
+ */
+@Component("warmup")
+@RequiredArgsConstructor
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    private final WarmupRunner warmupRunner;
+
+    @Override
+    public Health health() {
+        if (!warmupRunner.isCompleted()) {
+            return Health.outOfService().build();
+        }
+        return Health.up()
+                .withDetail("iterations", warmupRunner.getIterations())
+                .withDetail("elapsedMs", warmupRunner.getElapsedMs())
+                .build();
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.jwt_study.service;
+
+import com.example.jwt_study.config.WarmupProperties;
+import com.example.jwt_study.domain.Authority;
+import com.example.jwt_study.domain.RefreshToken;
+import com.example.jwt_study.dto.ErrorResponse;
+import com.example.jwt_study.dto.LoginRequest;
+import com.example.jwt_study.dto.TokenResponse;
+import com.example.jwt_study.repository.RefreshTokenRepository;
+import com.example.jwt_study.repository.UserRepository;
+import com.example.jwt_study.util.JwtUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 기동 직후 워밍업 (배포 직후 첫 요청들이 느린 경로를 합성 호출로 미리 실행)
+ * JWT 서명/검증, SHA-256, Jackson 직렬화, 읽기 전용 리포지토리 조회, BCrypt 순서로 시간 예산 안에서 반복
+ * 완료 여부는 WarmupHealthIndicator로 readiness 그룹에 노출
+ */
+@Slf4j
+@Component
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final long WARMUP_USER_ID = -1L;
+    private static final String WARMUP_USERNAME = "__warmup__";
+    private static final String WARMUP_PASSWORD = "warmup-password";
+
+    private final WarmupProperties properties;
+    private final JwtUtil jwtUtil;
+    private final PasswordEncoder passwordEncoder;
+    private final ObjectMapper objectMapper;
+    private final UserRepository userRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final MeterRegistry meterRegistry;
+    private final Counter failureCounter;
+    private final AtomicInteger iterations = new AtomicInteger();
+
+    private volatile boolean completed;
+    private volatile long elapsedMs;
+
+    public WarmupRunner(
+            WarmupProperties properties,
+            JwtUtil jwtUtil,
+            PasswordEncoder passwordEncoder,
+            ObjectMapper objectMapper,
+            UserRepository userRepository,
+            RefreshTokenRepository refreshTokenRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry
+    ) {
+        this.properties = properties;
+        this.jwtUtil = jwtUtil;
+        this.passwordEncoder = passwordEncoder;
+        this.objectMapper = objectMapper;
+        this.userRepository = userRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.meterRegistry = meterRegistry;
+        this.failureCounter = Counter.builder("app.warmup.failures")
+                .description("워밍업 중 실패한 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("app.warmup.iterations", iterations, AtomicInteger::get)
+                .description("워밍업 반복 횟수")
+                .register(meterRegistry);
+        Gauge.builder("app.warmup.completed", this, runner -> runner.completed ? 1 : 0)
+                .description("워밍업 완료 여부 (1 = 완료)")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.isEnabled()) {
+            completed = true;
+            return;
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(properties.getTimeBudgetMs());
+        try {
+            String passwordHash = passwordEncoder.encode(WARMUP_PASSWORD);
+
+            runTask("jwt", properties.getIterations(), deadline, this::warmJwt);
+            runTask("sha256", properties.getIterations(), deadline, this::warmHash);
+            runTask("json", properties.getIterations(), deadline, this::warmJson);
+            runTask("repository", properties.getRepositoryIterations(), deadline, this::warmRepository);
+            runTask("bcrypt", properties.getBcryptIterations(), deadline,
+                    () -> passwordEncoder.matches(WARMUP_PASSWORD, passwordHash));
+        } finally {
+            long elapsedNanos = System.nanoTime() - start;
+            elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+            Timer.builder("app.warmup.duration")
+                    .description("워밍업 전체 소요 시간")
+                    .register(meterRegistry)
+                    .record(elapsedNanos, TimeUnit.NANOSECONDS);
+            completed = true;
+            log.info("워밍업 완료: iterations={}, elapsedMs={}, budgetExceeded={}",
+                    iterations.get(), elapsedMs, System.nanoTime() > deadline);
+        }
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public int getIterations() {
+        return iterations.get();
+    }
+
+    public long getElapsedMs() {
+        return elapsedMs;
+    }
+
+    /**
+     * 작업 하나를 반복 (시간 예산 초과 또는 실패 시 중단, 다음 작업으로 진행)
+     */
+    private void runTask(String name, int count, long deadline, Runnable task) {
+        long start = System.nanoTime();
+        int done = 0;
+        try {
+            while (done < count && System.nanoTime() < deadline) {
+                task.run();
+                done++;
+            }
+        } catch (RuntimeException e) {
+            failureCounter.increment();
+            log.warn("워밍업 작업 실패: task={}, error={}", name, e.getMessage());
+        } finally {
+            iterations.addAndGet(done);
+            Timer.builder("app.warmup.task")
+                    .description("워밍업 작업별 소요 시간")
+                    .tag("task", name)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void warmJwt() {
+        String accessToken = jwtUtil.generateAccessToken(WARMUP_USER_ID, WARMUP_USERNAME, Authority.DEFAULT_BITS);
+        jwtUtil.parseAccessToken(accessToken);
+        jwtUtil.parseAccessToken(jwtUtil.generateCompactAccessToken(WARMUP_USER_ID, Authority.DEFAULT_BITS));
+
+        Long expiryBucket = RefreshToken.expiryBucketOf(LocalDateTime.now().plusDays(30));
+        String refreshToken = jwtUtil.generateRefreshToken(WARMUP_USER_ID, 0, expiryBucket);
+        jwtUtil.validateTokenType(jwtUtil.parseClaims(refreshToken), "refresh");
+    }
+
+    private void warmHash() {
+        try {
+            MessageDigest.getInstance("SHA-256").digest(WARMUP_USERNAME.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void warmJson() {
+        try {
+            objectMapper.writeValueAsBytes(new TokenResponse(WARMUP_USERNAME, "Bearer", 900));
+            objectMapper.writeValueAsBytes(new ErrorResponse("warmup", WARMUP_USERNAME));
+            objectMapper.readValue("{\"username\":\"" + WARMUP_USERNAME + "\",\"password\":\"" + WARMUP_PASSWORD + "\"}",
+                    LoginRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 읽기 전용 조회 (로그인/갱신 쿼리 계획과 커넥션 경로 예열, 존재하지 않는 키라 부작용 없음)
+     */
+    private void warmRepository() {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            userRepository.findByUsername(WARMUP_USERNAME);
+            LocalDateTime from = RefreshToken.bucketStart(RefreshToken.expiryBucketOf(LocalDateTime.now()));
+            refreshTokenRepository.findByTokenHashInRange(WARMUP_USERNAME, from, from.plusDays(1));
+        });
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.jwt_study.util;
+
+import java.util.Date;
+
+/**
+ * 검증된 액세스 토큰 정보 (JWT/압축 형식 공통)
+ * username은 JWT 로그인 토큰에만 포함 (그 외 null), authorities는 Authority 비트셋
+ */
+public record AccessTokenClaims(Long userId, String username, int authorities, Date issuedAt, Date expiresAt) {
+}
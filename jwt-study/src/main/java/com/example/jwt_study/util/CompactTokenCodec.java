@@ -0,0 +1,130 @@
+package com.example.jwt_study.util;
+
+import com.example.jwt_study.config.JwtProperties;
+import com.example.jwt_study.domain.Authority;
+import com.example.jwt_study.exception.InvalidTokenException;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * 바이너리 압축 액세스 토큰 ("ct2." + Base64URL(본문 23바이트 + MAC 32바이트), 총 78자)
+ * 본문: 버전(1) | 타입(1, 1=access) | 키 id(1) | 사용자 id(8) | 권한 비트셋(4) | iat(4, 초) | exp(4, 초)
+ * MAC: JWT와 같은 키/알고리즘의 HMAC을 접두어+본문에 적용 후 앞 32바이트 사용
+ * 본문 구조가 바뀌면 버전과 접두어를 함께 올림 (배포 중 이전 버전 토큰은 계속 검증)
+ * v1 ("ct1.", 본문 19바이트): 권한 비트셋 없음 → 기본 권한으로 간주
+ */
+@Component
+public class CompactTokenCodec {
+
+    public static final String PREFIX = "ct2.";
+    static final String PREFIX_V1 = "ct1.";
+
+    private static final byte VERSION = 2;
+    private static final byte VERSION_V1 = 1;
+    private static final byte TYPE_ACCESS = 1;
+    private static final int BODY_LENGTH = 23;
+    private static final int BODY_LENGTH_V1 = 19;
+    private static final int TAG_LENGTH = 32;
+    private static final byte[] PREFIX_BYTES = PREFIX.getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] PREFIX_V1_BYTES = PREFIX_V1.getBytes(StandardCharsets.US_ASCII);
+
+    private final SecretKey signingKey;
+    private final byte keyId;
+    private final ThreadLocal<Mac> macs;
+
+    public CompactTokenCodec(JwtProperties jwtProperties) {
+        this.signingKey = Keys.hmacShaKeyFor(jwtProperties.getSecretKey().getBytes(StandardCharsets.UTF_8));
+        int configuredKeyId = jwtProperties.getCompactToken().getKeyId();
+        if (configuredKeyId < 0 || configuredKeyId > 255) {
+            throw new IllegalStateException("jwt.compact-token.key-id는 0~255 범위여야 합니다");
+        }
+        this.keyId = (byte) configuredKeyId;
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    public static boolean isCompact(String token) {
+        return token.startsWith(PREFIX) || token.startsWith(PREFIX_V1);
+    }
+
+    /**
+     * 액세스 토큰 발급 (iat/exp는 초 단위)
+     */
+    public String encodeAccessToken(long userId, int authorities, long issuedAt, long expiresAt) {
+        byte[] raw = new byte[BODY_LENGTH + TAG_LENGTH];
+        ByteBuffer.wrap(raw)
+                .put(VERSION)
+                .put(TYPE_ACCESS)
+                .put(keyId)
+                .putLong(userId)
+                .putInt(authorities)
+                .putInt((int) issuedAt)
+                .putInt((int) expiresAt);
+        System.arraycopy(mac(PREFIX_BYTES, raw, BODY_LENGTH), 0, raw, BODY_LENGTH, TAG_LENGTH);
+        return PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    /**
+     * 액세스 토큰 검증 (접두어로 버전 구분, 형식/키 id/MAC/만료)
+     */
+    public AccessTokenClaims decodeAccessToken(String token) {
+        boolean v1 = token.startsWith(PREFIX_V1);
+        byte version = v1 ? VERSION_V1 : VERSION;
+        int bodyLength = v1 ? BODY_LENGTH_V1 : BODY_LENGTH;
+        byte[] raw;
+        try {
+            raw = Base64.getUrlDecoder().decode(token.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidTokenException("유효하지 않은 토큰입니다", e);
+        }
+        if (raw.length != bodyLength + TAG_LENGTH || raw[0] != version) {
+            throw new InvalidTokenException("유효하지 않은 토큰입니다");
+        }
+
+        byte[] expected = mac(v1 ? PREFIX_V1_BYTES : PREFIX_BYTES, raw, bodyLength);
+        int diff = 0;
+        for (int i = 0; i < TAG_LENGTH; i++) {
+            diff |= expected[i] ^ raw[bodyLength + i]; // 상수 시간 비교
+        }
+        if (diff != 0 || raw[2] != keyId) {
+            throw new InvalidTokenException("유효하지 않은 토큰입니다");
+        }
+        if (raw[1] != TYPE_ACCESS) {
+            throw new InvalidTokenException("토큰 타입이 일치하지 않습니다");
+        }
+
+        ByteBuffer body = ByteBuffer.wrap(raw, 3, bodyLength - 3);
+        long userId = body.getLong();
+        int authorities = v1 ? Authority.DEFAULT_BITS : body.getInt();
+        long issuedAt = Integer.toUnsignedLong(body.getInt());
+        long expiresAt = Integer.toUnsignedLong(body.getInt());
+        if (expiresAt * 1000 <= System.currentTimeMillis()) {
+            throw new InvalidTokenException("토큰이 만료되었습니다");
+        }
+        return new AccessTokenClaims(userId, null, authorities, new Date(issuedAt * 1000), new Date(expiresAt * 1000));
+    }
+
+    private byte[] mac(byte[] prefix, byte[] raw, int bodyLength) {
+        Mac mac = macs.get();
+        mac.update(prefix);
+        mac.update(raw, 0, bodyLength);
+        return mac.doFinal();
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(signingKey.getAlgorithm());
+            mac.init(signingKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("압축 토큰 Mac을 초기화할 수 없습니다", e);
+        }
+    }
+}
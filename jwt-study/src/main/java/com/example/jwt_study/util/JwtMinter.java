@@ -0,0 +1,288 @@
+package com.example.jwt_study.util;
+
+import com.example.jwt_study.config.JwtProperties;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * 템플릿 기반 JWT 발급 (jjwt 빌더 대신 고정된 헤더/클레임 형태를 직접 직렬화)
+ * - 헤더 세그먼트는 키에 맞는 알고리즘(HS256/384/512, jjwt와 같은 기준)으로 미리 Base64URL 인코딩
+ * - 클레임 JSON과 토큰은 스레드별로 재사용하는 버퍼에 기록, Mac도 스레드별로 한 번만 초기화
+ * 결과 토큰은 기존 jjwt 파서로 그대로 검증 가능
+ */
+@Component
+public class JwtMinter {
+
+    private static final byte[] BASE64_URL = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_"
+            .getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private final SecretKey signingKey;
+    private final byte[] headerSegment; // Base64URL(header) + '.'
+    private final ThreadLocal<Encoder> encoders;
+
+    public JwtMinter(JwtProperties jwtProperties) {
+        this.signingKey = Keys.hmacShaKeyFor(jwtProperties.getSecretKey().getBytes(StandardCharsets.UTF_8));
+        String header = "{\"alg\":\"" + algorithmOf(signingKey) + "\"}";
+        Encoder encoder = new Encoder(null);
+        encoder.appendBase64Url(header.getBytes(StandardCharsets.US_ASCII), header.length());
+        encoder.append((byte) '.');
+        this.headerSegment = Arrays.copyOf(encoder.token, encoder.tokenLength);
+        this.encoders = ThreadLocal.withInitial(() -> new Encoder(newMac()));
+    }
+
+    /**
+     * 액세스 토큰 {"sub","username","auth","type":"access","iat","exp"} (username이 null이면 생략)
+     */
+    public String mintAccessToken(long userId, String username, int authorities, long issuedAt, long expiresAt) {
+        Encoder encoder = encoders.get();
+        encoder.beginObject();
+        encoder.field("sub").quotedNumber(userId);
+        if (username != null) {
+            encoder.field("username").string(username);
+        }
+        encoder.field("auth").number(authorities);
+        encoder.field("type").string("access");
+        encoder.field("iat").number(issuedAt);
+        encoder.field("exp").number(expiresAt);
+        return encoder.sign(headerSegment);
+    }
+
+    /**
+     * 리프레시 토큰 {"jti","sub","type":"refresh","sid","bkt","iat","exp"} (bkt가 null이면 생략)
+     */
+    public String mintRefreshToken(UUID id, long userId, int shardId, Long expiryBucket, long issuedAt, long expiresAt) {
+        Encoder encoder = encoders.get();
+        encoder.beginObject();
+        encoder.field("jti").uuid(id);
+        encoder.field("sub").quotedNumber(userId);
+        encoder.field("type").string("refresh");
+        encoder.field("sid").number(shardId);
+        if (expiryBucket != null) {
+            encoder.field("bkt").number(expiryBucket);
+        }
+        encoder.field("iat").number(issuedAt);
+        encoder.field("exp").number(expiresAt);
+        return encoder.sign(headerSegment);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(signingKey.getAlgorithm());
+            mac.init(signingKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("JWT 서명 Mac을 초기화할 수 없습니다", e);
+        }
+    }
+
+    private static String algorithmOf(SecretKey key) {
+        return switch (key.getAlgorithm()) {
+            case "HmacSHA256" -> "HS256";
+            case "HmacSHA384" -> "HS384";
+            case "HmacSHA512" -> "HS512";
+            default -> throw new IllegalStateException("지원하지 않는 서명 알고리즘: " + key.getAlgorithm());
+        };
+    }
+
+    /**
+     * 스레드별 직렬화/서명 상태 (JSON 버퍼, 토큰 버퍼, Mac, 서명 버퍼)
+     */
+    private static final class Encoder {
+
+        private final Mac mac;
+        private final byte[] signature;
+        private byte[] json = new byte[256];
+        private int jsonLength;
+        private byte[] token = new byte[512];
+        private int tokenLength;
+        private boolean firstField;
+
+        Encoder(Mac mac) {
+            this.mac = mac;
+            this.signature = mac != null ? new byte[mac.getMacLength()] : null;
+        }
+
+        void beginObject() {
+            jsonLength = 0;
+            firstField = true;
+            put((byte) '{');
+        }
+
+        Encoder field(String name) {
+            if (!firstField) {
+                put((byte) ',');
+            }
+            firstField = false;
+            put((byte) '"');
+            for (int i = 0; i < name.length(); i++) {
+                put((byte) name.charAt(i));
+            }
+            put((byte) '"');
+            put((byte) ':');
+            return this;
+        }
+
+        void number(long value) {
+            if (value < 0) {
+                put((byte) '-');
+                value = -value;
+            }
+            int start = jsonLength;
+            do {
+                put((byte) ('0' + value % 10));
+                value /= 10;
+            } while (value > 0);
+            reverse(start, jsonLength - 1);
+        }
+
+        void quotedNumber(long value) {
+            put((byte) '"');
+            number(value);
+            put((byte) '"');
+        }
+
+        void uuid(UUID id) {
+            put((byte) '"');
+            hex(id.getMostSignificantBits() >>> 32, 8);
+            put((byte) '-');
+            hex(id.getMostSignificantBits() >>> 16, 4);
+            put((byte) '-');
+            hex(id.getMostSignificantBits(), 4);
+            put((byte) '-');
+            hex(id.getLeastSignificantBits() >>> 48, 4);
+            put((byte) '-');
+            hex(id.getLeastSignificantBits(), 12);
+            put((byte) '"');
+        }
+
+        /**
+         * JSON 문자열 (따옴표/역슬래시/제어 문자 이스케이프, 그 외는 UTF-8)
+         */
+        void string(String value) {
+            put((byte) '"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"' || c == '\\') {
+                    put((byte) '\\');
+                    put((byte) c);
+                } else if (c < 0x20) {
+                    escapeUnicode(c);
+                } else if (c < 0x80) {
+                    put((byte) c);
+                } else if (c < 0x800) {
+                    put((byte) (0xC0 | (c >> 6)));
+                    put((byte) (0x80 | (c & 0x3F)));
+                } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    put((byte) (0xF0 | (codePoint >> 18)));
+                    put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                    put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                    put((byte) (0x80 | (codePoint & 0x3F)));
+                } else if (Character.isSurrogate(c)) {
+                    escapeUnicode(c); // 짝이 없는 서로게이트
+                } else {
+                    put((byte) (0xE0 | (c >> 12)));
+                    put((byte) (0x80 | ((c >> 6) & 0x3F)));
+                    put((byte) (0x80 | (c & 0x3F)));
+                }
+            }
+            put((byte) '"');
+        }
+
+        /**
+         * header.payload 서명 후 토큰 문자열 생성 (최종 String 외 할당 없음)
+         */
+        String sign(byte[] headerSegment) {
+            put((byte) '}');
+            tokenLength = 0;
+            ensureTokenCapacity(headerSegment.length + (jsonLength + 2) / 3 * 4 + 1 + (signature.length + 2) / 3 * 4);
+            System.arraycopy(headerSegment, 0, token, 0, headerSegment.length);
+            tokenLength = headerSegment.length;
+            appendBase64Url(json, jsonLength);
+
+            mac.update(token, 0, tokenLength);
+            try {
+                mac.doFinal(signature, 0);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("JWT 서명에 실패했습니다", e);
+            }
+
+            append((byte) '.');
+            appendBase64Url(signature, signature.length);
+            return new String(token, 0, tokenLength, StandardCharsets.US_ASCII);
+        }
+
+        void append(byte b) {
+            ensureTokenCapacity(tokenLength + 1);
+            token[tokenLength++] = b;
+        }
+
+        /**
+         * Base64URL (패딩 없음)
+         */
+        void appendBase64Url(byte[] source, int length) {
+            ensureTokenCapacity(tokenLength + (length + 2) / 3 * 4);
+            int i = 0;
+            for (; i + 2 < length; i += 3) {
+                int bits = (source[i] & 0xFF) << 16 | (source[i + 1] & 0xFF) << 8 | (source[i + 2] & 0xFF);
+                token[tokenLength++] = BASE64_URL[bits >>> 18];
+                token[tokenLength++] = BASE64_URL[(bits >>> 12) & 0x3F];
+                token[tokenLength++] = BASE64_URL[(bits >>> 6) & 0x3F];
+                token[tokenLength++] = BASE64_URL[bits & 0x3F];
+            }
+            int remaining = length - i;
+            if (remaining == 1) {
+                int bits = (source[i] & 0xFF) << 16;
+                token[tokenLength++] = BASE64_URL[bits >>> 18];
+                token[tokenLength++] = BASE64_URL[(bits >>> 12) & 0x3F];
+            } else if (remaining == 2) {
+                int bits = (source[i] & 0xFF) << 16 | (source[i + 1] & 0xFF) << 8;
+                token[tokenLength++] = BASE64_URL[bits >>> 18];
+                token[tokenLength++] = BASE64_URL[(bits >>> 12) & 0x3F];
+                token[tokenLength++] = BASE64_URL[(bits >>> 6) & 0x3F];
+            }
+        }
+
+        private void hex(long value, int digits) {
+            for (int shift = (digits - 1) * 4; shift >= 0; shift -= 4) {
+                put(HEX[(int) (value >>> shift) & 0xF]);
+            }
+        }
+
+        private void escapeUnicode(char c) {
+            put((byte) '\\');
+            put((byte) 'u');
+            hex(c, 4);
+        }
+
+        private void put(byte b) {
+            if (jsonLength == json.length) {
+                json = Arrays.copyOf(json, json.length * 2);
+            }
+            json[jsonLength++] = b;
+        }
+
+        private void reverse(int from, int to) {
+            while (from < to) {
+                byte tmp = json[from];
+                json[from++] = json[to];
+                json[to--] = tmp;
+            }
+        }
+
+        private void ensureTokenCapacity(int capacity) {
+            if (capacity > token.length) {
+                token = Arrays.copyOf(token, Math.max(capacity, token.length * 2));
+            }
+        }
+    }
+}
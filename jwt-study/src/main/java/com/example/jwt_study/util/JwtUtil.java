@@ -1,6 +1,7 @@
 package com.example.jwt_study.util;
 
 import com.example.jwt_study.config.JwtProperties;
+import com.example.jwt_study.domain.Authority;
 import com.example.jwt_study.exception.InvalidTokenException;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
@@ -9,52 +10,61 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
-import java.util.Date;
+import java.util.UUID;
 
 /**
- * JWT 생성/파싱 유틸리티
+ * JWT 생성/파싱 유틸리티 (발급은 JwtMinter 템플릿 사용, 압축 액세스 토큰은 CompactTokenCodec)
  */
 @Component
 @RequiredArgsConstructor
 public class JwtUtil {
 
     private final JwtProperties jwtProperties;
+    private final JwtMinter jwtMinter;
+    private final CompactTokenCodec compactTokenCodec;
 
     private SecretKey getSigningKey() {
         return Keys.hmacShaKeyFor(jwtProperties.getSecretKey().getBytes(StandardCharsets.UTF_8));
     }
 
     /**
-     * 액세스 토큰 생성 (15분)
+     * 액세스 토큰 생성 (15분, 권한 비트셋은 auth 클레임)
      */
-    public String generateAccessToken(Long userId, String username) {
-        Date now = new Date();
-        Date expiry = new Date(now.getTime() + jwtProperties.getAccessTokenExpiry() * 1000);
-
-        return Jwts.builder()
-                .subject(userId.toString())
-                .claim("username", username)
-                .claim("type", "access")
-                .issuedAt(now)
-                .expiration(expiry)
-                .signWith(getSigningKey())
-                .compact();
+    public String generateAccessToken(Long userId, String username, int authorities) {
+        return generateAccessToken(userId, username, authorities, 0);
     }
 
     /**
-     * 리프레시 토큰 생성 (7일 Idle, 30일 Absolute)
+     * 액세스 토큰 생성 (iat는 minIssuedAt 이상, 같은 초에 무효화된 사용자의 새 토큰용 / 만료는 현재 시각 기준)
      */
-    public String generateRefreshToken(Long userId) {
-        Date now = new Date();
-        Date expiry = new Date(now.getTime() + jwtProperties.getRefreshTokenExpiry() * 1000);
-
-        return Jwts.builder()
-                .subject(userId.toString())
-                .claim("type", "refresh")
-                .issuedAt(now)
-                .expiration(expiry)
-                .signWith(getSigningKey())
-                .compact();
+    public String generateAccessToken(Long userId, String username, int authorities, long minIssuedAt) {
+        long now = System.currentTimeMillis() / 1000;
+        return jwtMinter.mintAccessToken(userId, username, authorities,
+                Math.max(now, minIssuedAt), now + jwtProperties.getAccessTokenExpiry());
+    }
+
+    /**
+     * 압축 형식 액세스 토큰 생성 (username 미포함, 만료는 JWT와 동일)
+     */
+    public String generateCompactAccessToken(Long userId, int authorities) {
+        return generateCompactAccessToken(userId, authorities, 0);
+    }
+
+    public String generateCompactAccessToken(Long userId, int authorities, long minIssuedAt) {
+        long now = System.currentTimeMillis() / 1000;
+        return compactTokenCodec.encodeAccessToken(userId, authorities,
+                Math.max(now, minIssuedAt), now + jwtProperties.getAccessTokenExpiry());
+    }
+
+    /**
+     * 리프레시 토큰 생성 (7일 Idle, 30일 Absolute, 저장된 샤드 id와 만료 버킷 포함)
+     * 만료 버킷이 null이면 클레임 생략 (버킷 도입 이전 세션의 후속 토큰)
+     * jti는 같은 초에 발급된 토큰의 해시 충돌 방지용
+     */
+    public String generateRefreshToken(Long userId, int shardId, Long expiryBucket) {
+        long now = System.currentTimeMillis() / 1000;
+        return jwtMinter.mintRefreshToken(UUID.randomUUID(), userId, shardId, expiryBucket,
+                now, now + jwtProperties.getRefreshTokenExpiry());
     }
 
     /**
@@ -74,6 +84,20 @@ public class JwtUtil {
         }
     }
 
+    /**
+     * 액세스 토큰 검증 (접두어로 JWT/압축 형식 구분, 타입까지 확인)
+     */
+    public AccessTokenClaims parseAccessToken(String token) {
+        if (CompactTokenCodec.isCompact(token)) {
+            return compactTokenCodec.decodeAccessToken(token);
+        }
+        Claims claims = parseClaims(token);
+        validateTokenType(claims, "access");
+        Integer authorities = claims.get("auth", Integer.class); // 권한 도입 이전 토큰은 기본 권한
+        return new AccessTokenClaims(Long.parseLong(claims.getSubject()), claims.get("username", String.class),
+                authorities == null ? Authority.DEFAULT_BITS : authorities, claims.getIssuedAt(), claims.getExpiration());
+    }
+
     /**
      * 토큰에서 사용자 ID 추출
      */
@@ -82,11 +106,32 @@ public class JwtUtil {
         return Long.parseLong(claims.getSubject());
     }
 
+    /**
+     * 리프레시 토큰의 샤드 id (샤딩 이전 발급 토큰은 0)
+     */
+    public int getShardId(Claims claims) {
+        Integer shardId = claims.get("sid", Integer.class);
+        return shardId == null ? 0 : shardId;
+    }
+
+    /**
+     * 리프레시 토큰의 만료 버킷 (버킷 도입 이전 발급 토큰은 null)
+     */
+    public Long getExpiryBucket(Claims claims) {
+        return claims.get("bkt", Long.class);
+    }
+
     /**
      * 토큰 타입 검증
      */
     public void validateTokenType(String token, String expectedType) {
-        Claims claims = parseClaims(token);
+        validateTokenType(parseClaims(token), expectedType);
+    }
+
+    /**
+     * 토큰 타입 검증 (파싱된 클레임 재사용)
+     */
+    public void validateTokenType(Claims claims, String expectedType) {
         String type = claims.get("type", String.class);
         if (!expectedType.equals(type)) {
             throw new InvalidTokenException("토큰 타입이 일치하지 않습니다");
@@ -0,0 +1,22 @@
+-- 리프레시 토큰 샤드 테이블 (샤드 1번 이상, users 테이블이 없으므로 FK 없음)
+-- schema.sql의 refresh_tokens와 컬럼/인덱스를 동일하게 유지
+-- absolute_expires_at 일 단위 RANGE 파티션 (MySQL에서 RefreshTokenPartitionManager가 관리)
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    token_hash CHAR(64) NOT NULL COMMENT 'SHA-256 hex',
+    expires_at TIMESTAMP NOT NULL COMMENT 'Idle expiration (renewable)',
+    absolute_expires_at TIMESTAMP NOT NULL COMMENT 'Absolute expiration (fixed)',
+
+    -- RTR 경쟁 조건 방지
+    used_at TIMESTAMP NULL COMMENT 'Marked when used in RTR',
+    revoked BOOLEAN DEFAULT FALSE COMMENT 'Revoked flag for reuse detection',
+
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (id, absolute_expires_at),
+    UNIQUE KEY uk_token_hash (token_hash, absolute_expires_at),
+    INDEX idx_user_id (user_id, id), -- 관리자 세션 목록 keyset (InnoDB는 (user_id)만으로도 PK가 포함됨)
+    INDEX idx_expires_at (expires_at),
+    INDEX idx_revoked_used (revoked, used_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
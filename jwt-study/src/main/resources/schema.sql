@@ -3,12 +3,17 @@ CREATE TABLE IF NOT EXISTS users (
     id BIGINT PRIMARY KEY AUTO_INCREMENT,
     username VARCHAR(50) UNIQUE NOT NULL,
     password VARCHAR(255) NOT NULL COMMENT 'BCrypt hash',
+    token_epoch BIGINT NOT NULL DEFAULT 0 COMMENT 'Access token not-before (epoch seconds)',
+    authorities INT NOT NULL DEFAULT 1 COMMENT 'Authority bitset (bit 0 = ROLE_USER)',
+    version BIGINT NOT NULL DEFAULT 0 COMMENT 'Entity version (ETag for /api/users/me)',
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
 
 -- 리프레시 토큰 테이블 (RTR + 경쟁 조건 방지)
+-- absolute_expires_at 일 단위 RANGE 파티션 (MySQL에서 RefreshTokenPartitionManager가 파티셔닝/생성/삭제)
+-- 파티션 테이블 제약: PK/UNIQUE 키에 파티션 컬럼 포함, FK 불가
 CREATE TABLE IF NOT EXISTS refresh_tokens (
-    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    id BIGINT NOT NULL AUTO_INCREMENT,
     user_id BIGINT NOT NULL,
     token_hash CHAR(64) NOT NULL COMMENT 'SHA-256 hex',
     expires_at TIMESTAMP NOT NULL COMMENT 'Idle expiration (renewable)',
@@ -20,9 +25,61 @@ CREATE TABLE IF NOT EXISTS refresh_tokens (
 
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
 
-    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
-    UNIQUE KEY uk_token_hash (token_hash),
-    INDEX idx_user_id (user_id),
+    PRIMARY KEY (id, absolute_expires_at),
+    UNIQUE KEY uk_token_hash (token_hash, absolute_expires_at),
+    INDEX idx_user_id (user_id, id), -- 관리자 세션 목록 keyset (InnoDB는 (user_id)만으로도 PK가 포함됨)
     INDEX idx_expires_at (expires_at),
     INDEX idx_revoked_used (revoked, used_at)
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
\ No newline at end of file
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- 사용된 리프레시 토큰 Bloom 필터 (절대 만료일 버킷별, 노드가 행잠금 후 OR 병합, Primary에만 존재)
+-- 사용된 refresh_tokens 행은 RTR 시 바로 삭제하고 재사용 탐지는 이 필터로 판별
+CREATE TABLE IF NOT EXISTS consumed_token_filters (
+    bucket BIGINT PRIMARY KEY COMMENT 'Absolute expiry epoch day (bkt claim)',
+    bits MEDIUMBLOB NOT NULL COMMENT 'Bloom filter bitset (big-endian longs)',
+    updated_at TIMESTAMP(3) NOT NULL,
+
+    INDEX idx_updated_at (updated_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- 인증 상태 변경 로그 (노드 간 캐시 무효화 전파, 각 노드가 마지막 id 이후를 폴링)
+CREATE TABLE IF NOT EXISTS auth_change_log (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    change_type VARCHAR(32) NOT NULL COMMENT 'TOKEN_EPOCH, USER_UPDATED',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+
+    INDEX idx_created_at (created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+
+-- 보안 이벤트 감사 로그 (링 버퍼 → 백그라운드 다중 행 INSERT)
+CREATE TABLE IF NOT EXISTS auth_events (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    event_type VARCHAR(32) NOT NULL COMMENT 'LOGIN_SUCCESS, LOGIN_FAILURE, REFRESH_TOKEN_REUSE, ...',
+    user_id BIGINT NULL,
+    username VARCHAR(50) NULL,
+    client_ip VARCHAR(45) NULL,
+    detail VARCHAR(255) NULL,
+    occurred_at TIMESTAMP(3) NOT NULL,
+
+    INDEX idx_user_occurred (user_id, occurred_at),
+    INDEX idx_type_occurred (event_type, occurred_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+
+-- 리프레시 토큰 일괄 폐기 대기열 (요청 경로에서 기록, RevocationWorker가 샤드별 배치 삭제)
+CREATE TABLE IF NOT EXISTS pending_revocations (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    user_id BIGINT NOT NULL,
+    reason VARCHAR(32) NOT NULL COMMENT 'REFRESH_TOKEN_REUSE, ...',
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+
+-- 스키마 버전 (schema.sql 체크섬, 같으면 기동 시 초기화 생략)
+CREATE TABLE IF NOT EXISTS schema_version (
+    id INT PRIMARY KEY,
+    checksum CHAR(64) NOT NULL,
+    applied_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
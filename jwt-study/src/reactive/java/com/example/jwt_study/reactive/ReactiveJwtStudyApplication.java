@@ -0,0 +1,28 @@
+package com.example.jwt_study.reactive;
+
+import com.example.jwt_study.config.AuthChangeLogProperties;
+import com.example.jwt_study.config.JwtProperties;
+import com.example.jwt_study.security.GrantedAuthorityCache;
+import com.example.jwt_study.util.CompactTokenCodec;
+import com.example.jwt_study.util.JwtMinter;
+import com.example.jwt_study.util.JwtUtil;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+
+/**
+ * WebFlux + R2DBC 구성 (서블릿 앱과 같은 DB/토큰 형식, 토큰 발급/검증 클래스는 공유)
+ * 스캔 범위를 reactive 패키지로 제한하고 공유 클래스만 직접 등록
+ */
+@SpringBootApplication
+@Import({JwtProperties.class, AuthChangeLogProperties.class, JwtMinter.class, CompactTokenCodec.class,
+		JwtUtil.class, GrantedAuthorityCache.class})
+public class ReactiveJwtStudyApplication {
+
+	public static void main(String[] args) {
+		SpringApplication application = new SpringApplication(ReactiveJwtStudyApplication.class);
+		application.setAdditionalProfiles("reactive");
+		application.run(args);
+	}
+
+}
@@ -0,0 +1,27 @@
+package com.example.jwt_study.reactive.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * reactive 구성 설정값
+ */
+@Component
+@ConfigurationProperties(prefix = "app.reactive")
+@Getter
+@Setter
+public class ReactiveProperties {
+    private Bcrypt bcrypt = new Bcrypt();
+
+    /**
+     * BCrypt 전용 스케줄러 (이벤트 루프에서 해싱하지 않음)
+     */
+    @Getter
+    @Setter
+    public static class Bcrypt {
+        private int threads = 0; // 0이면 CPU 코어 수
+        private int queueCapacity = 1000; // 대기 작업 상한 (초과 시 503)
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.jwt_study.reactive.controller;
+
+import com.example.jwt_study.config.JwtProperties;
+import com.example.jwt_study.dto.LoginRequest;
+import com.example.jwt_study.dto.RegisterRequest;
+import com.example.jwt_study.dto.TokenResponse;
+import com.example.jwt_study.dto.UserResponse;
+import com.example.jwt_study.reactive.security.ReactiveTokenEpochCache;
+import com.example.jwt_study.reactive.service.ReactiveAuthService;
+import com.example.jwt_study.reactive.service.ReactiveTokenService;
+import com.example.jwt_study.util.JwtUtil;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * 인증 API 컨트롤러 (서블릿 AuthController와 같은 요청/응답)
+ */
+@RestController
+@RequestMapping("/api/auth")
+@RequiredArgsConstructor
+public class ReactiveAuthController {
+
+    private static final String TOKEN_FORMAT_HEADER = "X-Token-Format";
+
+    private final ReactiveAuthService authService;
+    private final ReactiveTokenService tokenService;
+    private final JwtUtil jwtUtil;
+    private final JwtProperties jwtProperties;
+    private final ReactiveTokenEpochCache tokenEpochCache;
+
+    /**
+     * 회원가입
+     */
+    @PostMapping("/register")
+    public Mono<ResponseEntity<UserResponse>> register(@Valid @RequestBody RegisterRequest request) {
+        return authService.register(request.getUsername(), request.getPassword())
+                .map(user -> ResponseEntity.status(201)
+                        .body(new UserResponse(user.id(), user.username(), user.createdAt())));
+    }
+
+    /**
+     * 로그인 (액세스 토큰: JSON, 리프레시 토큰: HttpOnly 쿠키)
+     */
+    @PostMapping("/login")
+    public Mono<ResponseEntity<TokenResponse>> login(
+            @Valid @RequestBody LoginRequest request,
+            @RequestHeader(name = TOKEN_FORMAT_HEADER, required = false) String tokenFormat
+    ) {
+        return authService.authenticate(request.getUsername(), request.getPassword())
+                .flatMap(user -> tokenService.issueRefreshToken(user.id())
+                        .map(refreshToken -> tokenResponse(
+                                issueAccessToken(user.id(), user.username(), user.authorities(), tokenFormat),
+                                refreshToken)));
+    }
+
+    /**
+     * 토큰 갱신 (RTR with 행잠금)
+     */
+    @PostMapping("/refresh")
+    public Mono<ResponseEntity<TokenResponse>> refresh(
+            @CookieValue(name = "refreshToken", required = false) String refreshToken,
+            @RequestHeader(name = TOKEN_FORMAT_HEADER, required = false) String tokenFormat
+    ) {
+        if (refreshToken == null) {
+            return Mono.just(ResponseEntity.status(401).<TokenResponse>build());
+        }
+
+        return tokenService.rotateRefreshToken(refreshToken)
+                .flatMap(newRefreshToken -> {
+                    Long userId = jwtUtil.getUserId(newRefreshToken);
+                    return authService.getAuthorities(userId) // 권한은 최신 값으로
+                            .map(authorities -> tokenResponse(
+                                    issueAccessToken(userId, null, authorities, tokenFormat), newRefreshToken));
+                });
+    }
+
+    /**
+     * 로그아웃
+     */
+    @PostMapping("/logout")
+    public Mono<ResponseEntity<Void>> logout(@CookieValue(name = "refreshToken", required = false) String refreshToken) {
+        Mono<Void> deletion = refreshToken == null ? Mono.empty() : tokenService.deleteRefreshToken(refreshToken);
+        return deletion.then(Mono.fromSupplier(() -> ResponseEntity.noContent()
+                .header(HttpHeaders.SET_COOKIE, refreshTokenCookie("", 0).toString())
+                .<Void>build()));
+    }
+
+    /**
+     * 액세스 토큰 발급 (압축 형식이 허용되고 클라이언트가 요청한 경우에만 압축 형식)
+     */
+    private String issueAccessToken(Long userId, String username, int authorities, String tokenFormat) {
+        long minIssuedAt = tokenEpochCache.minIssuedAt(userId);
+        if ("compact".equalsIgnoreCase(tokenFormat) && jwtProperties.getCompactToken().isEnabled()) {
+            return jwtUtil.generateCompactAccessToken(userId, authorities, minIssuedAt);
+        }
+        return jwtUtil.generateAccessToken(userId, username, authorities, minIssuedAt);
+    }
+
+    private ResponseEntity<TokenResponse> tokenResponse(String accessToken, String refreshToken) {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.SET_COOKIE, refreshTokenCookie(refreshToken, jwtProperties.getRefreshTokenExpiry()).toString())
+                .body(new TokenResponse(accessToken, "Bearer", jwtProperties.getAccessTokenExpiry()));
+    }
+
+    /**
+     * 리프레시 토큰 쿠키 (maxAge 0이면 삭제)
+     */
+    private ResponseCookie refreshTokenCookie(String refreshToken, long maxAge) {
+        return ResponseCookie.from("refreshToken", refreshToken)
+                .httpOnly(true)
+                .secure(true) // HTTPS only
+                .sameSite("Strict")
+                .path("/api/auth")
+                .maxAge(maxAge)
+                .build();
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.jwt_study.reactive.controller;
+
+import com.example.jwt_study.dto.ChangePasswordRequest;
+import com.example.jwt_study.dto.UserResponse;
+import com.example.jwt_study.reactive.repository.ReactiveUserRepository;
+import com.example.jwt_study.reactive.service.ReactiveAuthService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 보호된 리소스 API (인증 필요)
+ */
+@RestController
+@RequestMapping("/api/users")
+@RequiredArgsConstructor
+public class ReactiveUserController {
+
+    private static final CacheControl ME_CACHE_CONTROL = CacheControl.noCache().cachePrivate(); // 항상 재검증
+
+    private final ReactiveUserRepository userRepository;
+    private final ReactiveAuthService authService;
+
+    /**
+     * 현재 인증된 사용자 정보 조회 (ETag: 사용자 id + 엔티티 버전)
+     * 버전 캐시 없이 행 1건 조회 후 비교 (일치하면 본문 없이 304)
+     */
+    @GetMapping("/me")
+    public Mono<ResponseEntity<UserResponse>> getCurrentUser(@AuthenticationPrincipal Long userId, ServerWebExchange exchange) {
+        return userRepository.findById(userId)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("사용자를 찾을 수 없습니다")))
+                .flatMap(user -> {
+                    String etag = etagOf(userId, user.version());
+                    if (exchange.checkNotModified(etag)) {
+                        return Mono.empty(); // 304 상태와 ETag 헤더는 checkNotModified가 설정
+                    }
+                    return Mono.just(ResponseEntity.ok()
+                            .eTag(etag)
+                            .cacheControl(ME_CACHE_CONTROL)
+                            .body(new UserResponse(user.id(), user.username(), user.createdAt())));
+                });
+    }
+
+    /**
+     * 비밀번호 변경 (기존 액세스 토큰 즉시 무효화)
+     */
+    @PatchMapping("/me/password")
+    public Mono<ResponseEntity<Void>> changePassword(
+            @AuthenticationPrincipal Long userId,
+            @Valid @RequestBody ChangePasswordRequest request
+    ) {
+        return authService.changePassword(userId, request.getCurrentPassword(), request.getNewPassword())
+                .then(Mono.fromSupplier(() -> ResponseEntity.noContent().<Void>build()));
+    }
+
+    private static String etagOf(Long userId, long version) {
+        return "\"" + userId + "-" + version + "\"";
+    }
+}
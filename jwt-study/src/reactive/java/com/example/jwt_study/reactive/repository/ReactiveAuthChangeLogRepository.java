@@ -0,0 +1,48 @@
+package com.example.jwt_study.reactive.repository;
+
+import com.example.jwt_study.domain.AuthChangeLog.ChangeType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * auth_change_log R2DBC 접근 (서블릿 노드와 같은 로그를 기록/폴링하여 캐시 무효화 상호 전파)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveAuthChangeLogRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public record ChangeRow(Long id, Long userId, String changeType) {
+    }
+
+    /**
+     * 변경 기록 (호출 측 트랜잭션에 참여)
+     */
+    public Mono<Void> record(Long userId, ChangeType changeType) {
+        return databaseClient.sql("INSERT INTO auth_change_log (user_id, change_type) VALUES (:userId, :changeType)")
+                .bind("userId", userId)
+                .bind("changeType", changeType.name())
+                .then();
+    }
+
+    public Mono<Long> findMaxId() {
+        return databaseClient.sql("SELECT COALESCE(MAX(id), 0) AS max_id FROM auth_change_log")
+                .map(row -> row.get("max_id", Long.class))
+                .one();
+    }
+
+    public Flux<ChangeRow> findAfter(long lastId, int limit) {
+        return databaseClient.sql("SELECT id, user_id, change_type FROM auth_change_log WHERE id > :lastId ORDER BY id LIMIT :limit")
+                .bind("lastId", lastId)
+                .bind("limit", limit)
+                .map(row -> new ChangeRow(
+                        row.get("id", Long.class),
+                        row.get("user_id", Long.class),
+                        row.get("change_type", String.class)))
+                .all();
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.jwt_study.reactive.repository;
+
+import com.example.jwt_study.domain.RefreshToken;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * refresh_tokens R2DBC 접근 (만료 버킷이 주어지면 해당 일 범위만 조회 - 파티션 프루닝)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveRefreshTokenRepository {
+
+    private static final String TOKEN_COLUMNS = "id, user_id, expires_at, absolute_expires_at, used_at, revoked";
+
+    private final DatabaseClient databaseClient;
+
+    public record StoredToken(Long id, Long userId, LocalDateTime expiresAt, LocalDateTime absoluteExpiresAt,
+                              LocalDateTime usedAt, boolean revoked) {
+
+        public boolean isUsed() {
+            return revoked || usedAt != null;
+        }
+
+        public boolean isExpired() {
+            LocalDateTime now = LocalDateTime.now();
+            return expiresAt.isBefore(now) || absoluteExpiresAt.isBefore(now);
+        }
+    }
+
+    public Mono<Void> insert(Long userId, String tokenHash, LocalDateTime expiresAt, LocalDateTime absoluteExpiresAt) {
+        return databaseClient.sql("INSERT INTO refresh_tokens (user_id, token_hash, expires_at, absolute_expires_at) " +
+                        "VALUES (:userId, :tokenHash, :expiresAt, :absoluteExpiresAt)")
+                .bind("userId", userId)
+                .bind("tokenHash", tokenHash)
+                .bind("expiresAt", expiresAt)
+                .bind("absoluteExpiresAt", absoluteExpiresAt)
+                .then();
+    }
+
+    /**
+     * RTR 대상 조회 (SELECT FOR UPDATE 행잠금, 트랜잭션 안에서 호출)
+     */
+    public Mono<StoredToken> findForUpdate(String tokenHash, Long expiryBucket) {
+        String sql = "SELECT " + TOKEN_COLUMNS + " FROM refresh_tokens WHERE token_hash = :tokenHash";
+        if (expiryBucket != null) {
+            sql += " AND absolute_expires_at >= :start AND absolute_expires_at < :end";
+        }
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql + " FOR UPDATE")
+                .bind("tokenHash", tokenHash);
+        if (expiryBucket != null) {
+            spec = spec.bind("start", RefreshToken.bucketStart(expiryBucket))
+                    .bind("end", RefreshToken.bucketStart(expiryBucket + 1));
+        }
+        return spec.map(ReactiveRefreshTokenRepository::toToken).one();
+    }
+
+    /**
+     * 사용 마킹 (PK에 파티션 컬럼 포함)
+     */
+    public Mono<Long> markAsUsed(StoredToken token) {
+        return databaseClient.sql("UPDATE refresh_tokens SET used_at = :usedAt " +
+                        "WHERE id = :id AND absolute_expires_at = :absoluteExpiresAt")
+                .bind("usedAt", LocalDateTime.now())
+                .bind("id", token.id())
+                .bind("absoluteExpiresAt", token.absoluteExpiresAt())
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Long> delete(StoredToken token) {
+        return databaseClient.sql("DELETE FROM refresh_tokens WHERE id = :id AND absolute_expires_at = :absoluteExpiresAt")
+                .bind("id", token.id())
+                .bind("absoluteExpiresAt", token.absoluteExpiresAt())
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Long> deleteAllByUserId(Long userId) {
+        return databaseClient.sql("DELETE FROM refresh_tokens WHERE user_id = :userId")
+                .bind("userId", userId)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private static StoredToken toToken(Readable row) {
+        Boolean revoked = row.get("revoked", Boolean.class);
+        return new StoredToken(
+                row.get("id", Long.class),
+                row.get("user_id", Long.class),
+                row.get("expires_at", LocalDateTime.class),
+                row.get("absolute_expires_at", LocalDateTime.class),
+                row.get("used_at", LocalDateTime.class),
+                Boolean.TRUE.equals(revoked)
+        );
+    }
+}
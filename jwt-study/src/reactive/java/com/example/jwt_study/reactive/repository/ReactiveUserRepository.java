@@ -0,0 +1,118 @@
+package com.example.jwt_study.reactive.repository;
+
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * users 테이블 R2DBC 접근 (서블릿 UserRepository와 같은 쿼리)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReactiveUserRepository {
+
+    private static final String USER_COLUMNS = "id, username, password, authorities, version, created_at";
+
+    private final DatabaseClient databaseClient;
+
+    public record UserRow(Long id, String username, String password, int authorities, long version, LocalDateTime createdAt) {
+    }
+
+    public record TokenEpochRow(Long id, long tokenEpoch) {
+    }
+
+    public Mono<UserRow> findById(Long id) {
+        return databaseClient.sql("SELECT " + USER_COLUMNS + " FROM users WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveUserRepository::toUser)
+                .one();
+    }
+
+    public Mono<UserRow> findByUsername(String username) {
+        return databaseClient.sql("SELECT " + USER_COLUMNS + " FROM users WHERE username = :username")
+                .bind("username", username)
+                .map(ReactiveUserRepository::toUser)
+                .one();
+    }
+
+    public Mono<Boolean> existsByUsername(String username) {
+        return databaseClient.sql("SELECT 1 FROM users WHERE username = :username")
+                .bind("username", username)
+                .map(row -> Boolean.TRUE)
+                .first()
+                .defaultIfEmpty(Boolean.FALSE);
+    }
+
+    public Mono<Integer> findAuthoritiesById(Long id) {
+        return databaseClient.sql("SELECT authorities FROM users WHERE id = :id")
+                .bind("id", id)
+                .map(row -> row.get("authorities", Integer.class))
+                .one();
+    }
+
+    /**
+     * 사용자 저장 (생성된 id 반환)
+     */
+    public Mono<Long> insert(String username, String passwordHash) {
+        return databaseClient.sql("INSERT INTO users (username, password) VALUES (:username, :password)")
+                .bind("username", username)
+                .bind("password", passwordHash)
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .map(row -> row.get("id", Long.class))
+                .one();
+    }
+
+    /**
+     * 비밀번호 변경 (엔티티 버전 증가 - /me ETag 갱신)
+     */
+    public Mono<Long> updatePassword(Long id, String passwordHash) {
+        return databaseClient.sql("UPDATE users SET password = :password, version = version + 1 WHERE id = :id")
+                .bind("password", passwordHash)
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Mono<Long> updateTokenEpoch(Long id, long epoch) {
+        return databaseClient.sql("UPDATE users SET token_epoch = :epoch WHERE id = :id")
+                .bind("epoch", epoch)
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    public Flux<TokenEpochRow> findTokenEpochsAfter(long threshold) {
+        return databaseClient.sql("SELECT id, token_epoch FROM users WHERE token_epoch > :threshold")
+                .bind("threshold", threshold)
+                .map(ReactiveUserRepository::toTokenEpoch)
+                .all();
+    }
+
+    public Flux<TokenEpochRow> findTokenEpochsByIdIn(Collection<Long> ids) {
+        return databaseClient.sql("SELECT id, token_epoch FROM users WHERE id IN (:ids)")
+                .bind("ids", ids)
+                .map(ReactiveUserRepository::toTokenEpoch)
+                .all();
+    }
+
+    private static UserRow toUser(Readable row) {
+        return new UserRow(
+                row.get("id", Long.class),
+                row.get("username", String.class),
+                row.get("password", String.class),
+                row.get("authorities", Integer.class),
+                row.get("version", Long.class),
+                row.get("created_at", LocalDateTime.class)
+        );
+    }
+
+    private static TokenEpochRow toTokenEpoch(Readable row) {
+        return new TokenEpochRow(row.get("id", Long.class), row.get("token_epoch", Long.class));
+    }
+}
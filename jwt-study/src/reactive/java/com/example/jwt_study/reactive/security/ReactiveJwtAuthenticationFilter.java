@@ -0,0 +1,50 @@
+package com.example.jwt_study.reactive.security;
+
+import com.example.jwt_study.security.AccessTokenAuthentication;
+import com.example.jwt_study.security.GrantedAuthorityCache;
+import com.example.jwt_study.util.AccessTokenClaims;
+import com.example.jwt_study.util.JwtUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * JWT 인증 필터 (액세스 토큰 검증, "ct1." 접두어는 압축 형식)
+ * 검증은 CPU 작업뿐이므로 이벤트 루프에서 바로 처리, 인증 정보는 Reactor 컨텍스트로 전달
+ */
+@RequiredArgsConstructor
+public class ReactiveJwtAuthenticationFilter implements WebFilter {
+
+    private final JwtUtil jwtUtil;
+    private final ReactiveTokenEpochCache tokenEpochCache;
+    private final GrantedAuthorityCache grantedAuthorityCache;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return chain.filter(exchange);
+        }
+
+        AccessTokenAuthentication authentication;
+        try {
+            AccessTokenClaims claims = jwtUtil.parseAccessToken(authHeader.substring(7));
+
+            // 토큰 에포크 확인 (로그아웃/재사용 탐지/비밀번호 변경 이전 발급 토큰 거부)
+            if (tokenEpochCache.isRevoked(claims.userId(), claims.issuedAt())) {
+                return chain.filter(exchange);
+            }
+            authentication = new AccessTokenAuthentication(claims.userId(), grantedAuthorityCache.get(claims.authorities()));
+        } catch (Exception e) {
+            // 토큰 검증 실패 시 인증 정보 없이 진행 (Security에서 거부)
+            return chain.filter(exchange);
+        }
+
+        return chain.filter(exchange)
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication));
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.jwt_study.reactive.security;
+
+import com.example.jwt_study.config.AuthChangeLogProperties;
+import com.example.jwt_study.config.JwtProperties;
+import com.example.jwt_study.domain.AuthChangeLog.ChangeType;
+import com.example.jwt_study.reactive.repository.ReactiveAuthChangeLogRepository;
+import com.example.jwt_study.reactive.repository.ReactiveAuthChangeLogRepository.ChangeRow;
+import com.example.jwt_study.reactive.repository.ReactiveUserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 토큰 에포크 메모리 캐시 (서블릿 TokenEpochCache와 같은 규칙, iat <= epoch 이면 무효)
+ * 다른 노드(서블릿 포함)의 변경은 auth_change_log 폴링으로 반영
+ * 롤백된 id의 공백 재확인은 하지 않음 (커밋 지연으로 늦게 보이는 변경은 다음 액세스 토큰 만료까지 누락될 수 있음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReactiveTokenEpochCache implements DisposableBean {
+
+    private final ReactiveUserRepository userRepository;
+    private final ReactiveAuthChangeLogRepository authChangeLogRepository;
+    private final JwtProperties jwtProperties;
+    private final AuthChangeLogProperties authChangeLogProperties;
+
+    private final ConcurrentHashMap<Long, Long> epochs = new ConcurrentHashMap<>();
+    private volatile long lastChangeId;
+    private volatile Disposable polling;
+
+    /**
+     * 기동 시 아직 만료되지 않은 액세스 토큰에 영향을 주는 에포크만 적재 후 폴링 시작
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        lastChangeId = authChangeLogRepository.findMaxId().blockOptional().orElse(0L);
+        userRepository.findTokenEpochsAfter(oldestRelevantEpoch())
+                .doOnNext(row -> update(row.id(), row.tokenEpoch()))
+                .blockLast();
+        log.info("토큰 에포크 캐시 적재 완료: size={}", epochs.size());
+
+        Duration pruneInterval = Duration.ofSeconds(jwtProperties.getAccessTokenExpiry());
+        polling = Flux.merge(
+                        Flux.interval(Duration.ofMillis(authChangeLogProperties.getPollIntervalMs()))
+                                .concatMap(tick -> poll()),
+                        Flux.interval(pruneInterval)
+                                .doOnNext(tick -> prune())
+                                .then())
+                .subscribe();
+    }
+
+    /**
+     * 에포크 반영 (더 큰 값만 유지)
+     */
+    public void update(Long userId, long epoch) {
+        epochs.merge(userId, epoch, Math::max);
+    }
+
+    /**
+     * 액세스 토큰 무효화 여부 (해시맵 조회 1회)
+     */
+    public boolean isRevoked(Long userId, Date issuedAt) {
+        Long epoch = epochs.get(userId);
+        if (epoch == null) {
+            return false;
+        }
+        return issuedAt == null || issuedAt.getTime() / 1000 <= epoch;
+    }
+
+    /**
+     * 새로 발급할 액세스 토큰의 최소 iat (서블릿 TokenEpochCache와 같은 규칙)
+     */
+    public long minIssuedAt(Long userId) {
+        Long epoch = epochs.get(userId);
+        return epoch == null ? 0 : epoch + 1;
+    }
+
+    /**
+     * 마지막 id 이후 변경 로그 조회 → TOKEN_EPOCH 대상 사용자의 에포크 재조회
+     */
+    Mono<Void> poll() {
+        return authChangeLogRepository.findAfter(lastChangeId, authChangeLogProperties.getBatchSize())
+                .collectList()
+                .flatMap(this::apply)
+                .onErrorResume(e -> {
+                    log.warn("변경 로그 폴링 실패: {}", e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    private Mono<Void> apply(List<ChangeRow> changes) {
+        if (changes.isEmpty()) {
+            return Mono.empty();
+        }
+        Set<Long> userIds = changes.stream()
+                .filter(change -> ChangeType.TOKEN_EPOCH.name().equals(change.changeType()))
+                .map(ChangeRow::userId)
+                .collect(Collectors.toSet());
+        long maxId = changes.get(changes.size() - 1).id();
+        Mono<Void> refresh = userIds.isEmpty()
+                ? Mono.empty()
+                : userRepository.findTokenEpochsByIdIn(userIds)
+                        .doOnNext(row -> update(row.id(), row.tokenEpoch()))
+                        .then();
+        return refresh.doOnSuccess(ignored -> lastChangeId = maxId);
+    }
+
+    /**
+     * 액세스 토큰 수명이 지난 에포크 정리 (해당 시점 이전 토큰은 이미 만료)
+     */
+    void prune() {
+        long threshold = oldestRelevantEpoch();
+        epochs.values().removeIf(epoch -> epoch <= threshold);
+    }
+
+    private long oldestRelevantEpoch() {
+        return Instant.now().getEpochSecond() - jwtProperties.getAccessTokenExpiry();
+    }
+
+    @Override
+    public void destroy() {
+        if (polling != null) {
+            polling.dispose();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.jwt_study.reactive.service;
+
+import com.example.jwt_study.reactive.config.ReactiveProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * BCrypt 해싱/검증 (CPU 바운드 작업을 이벤트 루프 밖의 제한된 스케줄러에서 실행)
+ * 스레드 수는 코어 수로, 대기열이 가득 차면 RejectedExecutionException (503)
+ */
+@Component
+public class PasswordHasher implements DisposableBean {
+
+    private final PasswordEncoder passwordEncoder;
+    private final Scheduler scheduler;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder, ReactiveProperties reactiveProperties) {
+        ReactiveProperties.Bcrypt bcrypt = reactiveProperties.getBcrypt();
+        int threads = bcrypt.getThreads() > 0 ? bcrypt.getThreads() : Runtime.getRuntime().availableProcessors();
+        this.passwordEncoder = passwordEncoder;
+        this.scheduler = Schedulers.newBoundedElastic(threads, bcrypt.getQueueCapacity(), "bcrypt");
+    }
+
+    public Mono<String> encode(String rawPassword) {
+        return Mono.fromCallable(() -> passwordEncoder.encode(rawPassword))
+                .subscribeOn(scheduler);
+    }
+
+    public Mono<Boolean> matches(String rawPassword, String encodedPassword) {
+        return Mono.fromCallable(() -> passwordEncoder.matches(rawPassword, encodedPassword))
+                .subscribeOn(scheduler);
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.dispose();
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.jwt_study.reactive.service;
+
+import com.example.jwt_study.domain.AuthChangeLog.ChangeType;
+import com.example.jwt_study.exception.DuplicateUsernameException;
+import com.example.jwt_study.reactive.repository.ReactiveAuthChangeLogRepository;
+import com.example.jwt_study.reactive.repository.ReactiveUserRepository;
+import com.example.jwt_study.reactive.repository.ReactiveUserRepository.UserRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+/**
+ * 인증 서비스 (회원가입, 로그인, 비밀번호 변경 - BCrypt는 PasswordHasher 스케줄러에서)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactiveAuthService {
+
+    private final ReactiveUserRepository userRepository;
+    private final ReactiveAuthChangeLogRepository authChangeLogRepository;
+    private final ReactiveTokenEpochService tokenEpochService;
+    private final PasswordHasher passwordHasher;
+    private final TransactionalOperator transactionalOperator;
+
+    /**
+     * 회원가입 (동시 가입으로 UNIQUE 제약에 걸려도 같은 409 응답)
+     */
+    public Mono<UserRow> register(String username, String password) {
+        return userRepository.existsByUsername(username)
+                .flatMap(exists -> exists
+                        ? Mono.<String>error(new DuplicateUsernameException("이미 사용 중인 사용자명입니다"))
+                        : passwordHasher.encode(password))
+                .flatMap(hashedPassword -> userRepository.insert(username, hashedPassword))
+                .onErrorMap(DuplicateKeyException.class, e -> new DuplicateUsernameException("이미 사용 중인 사용자명입니다"))
+                .flatMap(userRepository::findById)
+                .doOnNext(user -> log.info("회원가입 완료: userId={}, username={}", user.id(), user.username()));
+    }
+
+    /**
+     * 로그인 (비밀번호 검증)
+     */
+    public Mono<UserRow> authenticate(String username, String password) {
+        return userRepository.findByUsername(username)
+                .switchIfEmpty(Mono.error(() -> new BadCredentialsException("사용자명 또는 비밀번호가 올바르지 않습니다")))
+                .flatMap(user -> passwordHasher.matches(password, user.password())
+                        .flatMap(matches -> matches
+                                ? Mono.just(user)
+                                : Mono.<UserRow>error(new BadCredentialsException("사용자명 또는 비밀번호가 올바르지 않습니다"))))
+                .doOnNext(user -> log.info("로그인 성공: userId={}, username={}", user.id(), user.username()));
+    }
+
+    /**
+     * 권한 비트셋 조회 (토큰 갱신용)
+     */
+    public Mono<Integer> getAuthorities(Long userId) {
+        return userRepository.findAuthoritiesById(userId)
+                .switchIfEmpty(Mono.error(() -> new BadCredentialsException("사용자를 찾을 수 없습니다")));
+    }
+
+    /**
+     * 비밀번호 변경 (기존 액세스 토큰 무효화, 해싱은 트랜잭션 밖에서)
+     */
+    public Mono<Void> changePassword(Long userId, String currentPassword, String newPassword) {
+        return userRepository.findById(userId)
+                .switchIfEmpty(Mono.error(() -> new BadCredentialsException("사용자명 또는 비밀번호가 올바르지 않습니다")))
+                .flatMap(user -> passwordHasher.matches(currentPassword, user.password()))
+                .flatMap(matches -> matches
+                        ? passwordHasher.encode(newPassword)
+                        : Mono.<String>error(new BadCredentialsException("사용자명 또는 비밀번호가 올바르지 않습니다")))
+                .flatMap(hashedPassword -> userRepository.updatePassword(userId, hashedPassword)
+                        .then(authChangeLogRepository.record(userId, ChangeType.USER_UPDATED))
+                        .then(tokenEpochService.revokeAccessTokens(userId))
+                        .as(transactionalOperator::transactional))
+                .doOnSuccess(ignored -> log.info("비밀번호 변경 완료: userId={}", userId));
+    }
+}
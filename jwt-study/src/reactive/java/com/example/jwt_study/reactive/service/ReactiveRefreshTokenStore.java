@@ -0,0 +1,66 @@
+package com.example.jwt_study.reactive.service;
+
+import com.example.jwt_study.reactive.repository.ReactiveRefreshTokenRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리프레시 토큰 저장소 (R2DBC 트랜잭션, 서블릿 RefreshTokenStore와 같은 RTR 규칙)
+ * 행잠금은 트랜잭션 커넥션을 점유할 뿐 스레드를 점유하지 않음
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveRefreshTokenStore {
+
+    private final ReactiveRefreshTokenRepository refreshTokenRepository;
+    private final TransactionalOperator transactionalOperator;
+
+    public enum RotationStatus {
+        ROTATED,    // 기존 토큰 사용 마킹 + 후속 토큰 저장
+        NOT_FOUND,  // 이미 삭제된 토큰
+        REUSED,     // 이미 사용된 토큰 (재사용 탐지)
+        EXPIRED     // 만료 (삭제됨)
+    }
+
+    public Mono<Void> save(Long userId, String tokenHash, LocalDateTime expiresAt, LocalDateTime absoluteExpiresAt) {
+        return refreshTokenRepository.insert(userId, tokenHash, expiresAt, absoluteExpiresAt);
+    }
+
+    /**
+     * RTR (SELECT FOR UPDATE 행잠금, Absolute 만료는 기존 값 유지)
+     */
+    public Mono<RotationStatus> rotate(String tokenHash, Long expiryBucket, String newTokenHash, LocalDateTime newExpiresAt) {
+        return refreshTokenRepository.findForUpdate(tokenHash, expiryBucket)
+                .flatMap(storedToken -> {
+                    if (storedToken.isUsed()) {
+                        return Mono.just(RotationStatus.REUSED);
+                    }
+                    if (storedToken.isExpired()) {
+                        return refreshTokenRepository.delete(storedToken).thenReturn(RotationStatus.EXPIRED);
+                    }
+                    return refreshTokenRepository.markAsUsed(storedToken)
+                            .then(refreshTokenRepository.insert(
+                                    storedToken.userId(), newTokenHash, newExpiresAt, storedToken.absoluteExpiresAt()))
+                            .thenReturn(RotationStatus.ROTATED);
+                })
+                .defaultIfEmpty(RotationStatus.NOT_FOUND)
+                .as(transactionalOperator::transactional);
+    }
+
+    /**
+     * 토큰 삭제 (삭제된 토큰의 사용자 ID 반환, 없으면 empty)
+     */
+    public Mono<Long> delete(String tokenHash, Long expiryBucket) {
+        return refreshTokenRepository.findForUpdate(tokenHash, expiryBucket)
+                .flatMap(storedToken -> refreshTokenRepository.delete(storedToken).thenReturn(storedToken.userId()))
+                .as(transactionalOperator::transactional);
+    }
+
+    public Mono<Long> deleteAllByUserId(Long userId) {
+        return refreshTokenRepository.deleteAllByUserId(userId);
+    }
+}
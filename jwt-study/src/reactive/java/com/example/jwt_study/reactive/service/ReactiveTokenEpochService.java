@@ -0,0 +1,42 @@
+package com.example.jwt_study.reactive.service;
+
+import com.example.jwt_study.domain.AuthChangeLog.ChangeType;
+import com.example.jwt_study.reactive.repository.ReactiveAuthChangeLogRepository;
+import com.example.jwt_study.reactive.repository.ReactiveUserRepository;
+import com.example.jwt_study.reactive.security.ReactiveTokenEpochCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+/**
+ * 액세스 토큰 무효화 서비스 (사용자별 토큰 에포크 갱신 + 변경 로그 기록)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactiveTokenEpochService {
+
+    private final ReactiveUserRepository userRepository;
+    private final ReactiveAuthChangeLogRepository authChangeLogRepository;
+    private final ReactiveTokenEpochCache tokenEpochCache;
+    private final TransactionalOperator transactionalOperator;
+
+    /**
+     * 사용자의 기존 액세스 토큰 전체 무효화 (호출 측 트랜잭션이 있으면 참여)
+     */
+    public Mono<Void> revokeAccessTokens(Long userId) {
+        return Mono.defer(() -> {
+            long epoch = Instant.now().getEpochSecond();
+            return userRepository.updateTokenEpoch(userId, epoch)
+                    .then(authChangeLogRepository.record(userId, ChangeType.TOKEN_EPOCH))
+                    .doOnSuccess(ignored -> {
+                        tokenEpochCache.update(userId, epoch);
+                        log.info("액세스 토큰 무효화: userId={}, epoch={}", userId, epoch);
+                    });
+        }).as(transactionalOperator::transactional);
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.jwt_study.reactive.service;
+
+import com.example.jwt_study.config.JwtProperties;
+import com.example.jwt_study.domain.RefreshToken;
+import com.example.jwt_study.exception.InvalidTokenException;
+import com.example.jwt_study.exception.TokenExpiredException;
+import com.example.jwt_study.exception.TokenReuseDetectedException;
+import com.example.jwt_study.reactive.service.ReactiveRefreshTokenStore.RotationStatus;
+import com.example.jwt_study.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+/**
+ * 토큰 관리 서비스 (SHA-256 해싱, RTR with 행잠금)
+ * 단일 DB 구성 - 리프레시 토큰은 샤드 0으로 발급 (서블릿 노드와 같은 토큰 형식)
+ * 서블릿 노드가 샤딩(app.refresh-token.sharding.shards)으로 발급한 샤드 0 외의 토큰은 조회할 수 없으므로
+ * 재사용으로 오판해 세션을 폐기하지 않고 401만 반환 (샤딩 구성에서는 갱신을 서블릿 노드로 라우팅)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactiveTokenService {
+
+    private static final int SHARD_ID = 0;
+
+    private final ReactiveRefreshTokenStore refreshTokenStore;
+    private final ReactiveTokenEpochService tokenEpochService;
+    private final JwtUtil jwtUtil;
+    private final JwtProperties jwtProperties;
+    private final TransactionalOperator transactionalOperator;
+
+    /**
+     * SHA-256 단방향 해싱
+     */
+    private String hashToken(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 리프레시 토큰 발급 + 저장 (로그인 시)
+     */
+    public Mono<String> issueRefreshToken(Long userId) {
+        return Mono.defer(() -> {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime absoluteExpiresAt = now.plusSeconds(jwtProperties.getRefreshTokenAbsoluteExpiry());
+            String refreshToken = jwtUtil.generateRefreshToken(
+                    userId, SHARD_ID, RefreshToken.expiryBucketOf(absoluteExpiresAt));
+
+            return refreshTokenStore.save(userId, hashToken(refreshToken),
+                            now.plusSeconds(jwtProperties.getRefreshTokenExpiry()), absoluteExpiresAt)
+                    .thenReturn(refreshToken);
+        });
+    }
+
+    /**
+     * 리프레시 토큰 갱신 (RTR with 행잠금)
+     * RFC 6749 - Refresh Token Rotation
+     */
+    public Mono<String> rotateRefreshToken(String oldRefreshToken) {
+        return Mono.defer(() -> {
+            // 1. JWT 서명 검증
+            Claims claims = jwtUtil.parseClaims(oldRefreshToken);
+            jwtUtil.validateTokenType(claims, "refresh");
+            Long userId = Long.parseLong(claims.getSubject());
+            int shardId = jwtUtil.getShardId(claims);
+            if (shardId != SHARD_ID) {
+                log.warn("다른 샤드의 리프레시 토큰 갱신 거부: userId={}, shardId={}", userId, shardId);
+                return Mono.error(new InvalidTokenException("이 노드에서 갱신할 수 없는 리프레시 토큰입니다"));
+            }
+            Long expiryBucket = jwtUtil.getExpiryBucket(claims); // Absolute 만료 불변 → 후속 토큰도 같은 버킷
+            String tokenHash = hashToken(oldRefreshToken);
+
+            // 2. RTR (SELECT FOR UPDATE - 행잠금)
+            String newRefreshToken = jwtUtil.generateRefreshToken(userId, SHARD_ID, expiryBucket);
+            LocalDateTime newExpiresAt = LocalDateTime.now().plusSeconds(jwtProperties.getRefreshTokenExpiry());
+
+            return refreshTokenStore.rotate(tokenHash, expiryBucket, hashToken(newRefreshToken), newExpiresAt)
+                    .<String>flatMap(status -> switch (status) {
+                        case NOT_FOUND, REUSED -> {
+                            // 재사용 탐지: 이미 삭제되었거나 사용된 토큰
+                            log.warn("리프레시 토큰 재사용 탐지: userId={}, status={}", userId, status);
+                            yield revokeAll(userId).then(Mono.error(new TokenReuseDetectedException(
+                                    status == RotationStatus.REUSED ? "이미 사용된 리프레시 토큰입니다" : "리프레시 토큰 재사용이 감지되었습니다")));
+                        }
+                        case EXPIRED -> Mono.error(new TokenExpiredException("리프레시 토큰이 만료되었습니다"));
+                        case ROTATED -> {
+                            log.info("리프레시 토큰 갱신 완료: userId={}", userId);
+                            yield Mono.just(newRefreshToken);
+                        }
+                    });
+        });
+    }
+
+    /**
+     * 사용자의 모든 세션 폐기 (단일 DB이므로 폐기 대기열 없이 같은 트랜잭션에서 삭제)
+     */
+    public Mono<Void> revokeAll(Long userId) {
+        return refreshTokenStore.deleteAllByUserId(userId)
+                .then(tokenEpochService.revokeAccessTokens(userId))
+                .as(transactionalOperator::transactional);
+    }
+
+    /**
+     * 리프레시 토큰 삭제 + 액세스 토큰 무효화 (로그아웃 시)
+     * 서명이 유효하지 않은 토큰은 무시 (만료 시 정리됨)
+     */
+    public Mono<Void> deleteRefreshToken(String refreshToken) {
+        return Mono.fromCallable(() -> jwtUtil.parseClaims(refreshToken))
+                .onErrorResume(InvalidTokenException.class, e -> Mono.empty())
+                .flatMap(claims -> refreshTokenStore.delete(hashToken(refreshToken), jwtUtil.getExpiryBucket(claims)))
+                .flatMap(userId -> tokenEpochService.revokeAccessTokens(userId)
+                        .doOnSuccess(ignored -> log.info("리프레시 토큰 삭제 완료: userId={}", userId)));
+    }
+}
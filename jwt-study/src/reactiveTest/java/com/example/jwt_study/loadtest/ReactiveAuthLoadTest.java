@@ -0,0 +1,75 @@
+package com.example.jwt_study.loadtest;
+
+import com.example.jwt_study.reactive.ReactiveJwtStudyApplication;
+import com.example.jwt_study.reactive.service.ReactiveAuthService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import reactor.core.publisher.Flux;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * WebFlux + R2DBC 구성 부하 테스트 (./gradlew reactiveLoadTest)
+ * AuthLoadTest와 같은 부하 생성기/요청 비율/설정으로 측정하여 서블릿 스택 결과와 나란히 비교
+ * 높은 동시 연결 비교: ./gradlew loadTest reactiveLoadTest -PloadTest.concurrency=2000 -PloadTest.users=2000
+ * 기준치는 src/reactiveTest/baseline.json (없거나 -PloadTest.updateBaseline=true 이면 이번 결과로 저장)
+ */
+@SpringBootTest(classes = ReactiveJwtStudyApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ReactiveAuthLoadTest {
+
+    private static final String PASSWORD = "load-test-password";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ReactiveAuthService authService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void authEndpointsStayWithinBaseline() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        List<String> usernames = seedUsers(settings.users());
+        LoadGenerator generator = new LoadGenerator(
+                URI.create("http://localhost:" + port), usernames, PASSWORD, settings, objectMapper);
+
+        generator.run(settings.warmup()); // JIT, 커넥션 풀 예열 (집계 제외)
+        Map<Endpoint, EndpointStats> stats = generator.run(settings.duration());
+
+        ObjectNode result = LoadReports.toJson(objectMapper, stats, settings.duration().toMillis() / 1000.0);
+        Files.createDirectories(settings.reportDir());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(settings.reportDir().resolve("result.json").toFile(), result);
+        LoadReports.print("WebFlux + R2DBC", result, settings);
+
+        if (settings.updateBaseline() || !Files.exists(settings.baselineFile())) {
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(settings.baselineFile().toFile(), result);
+            System.out.println("기준치 저장: " + settings.baselineFile());
+            return;
+        }
+
+        JsonNode baseline = objectMapper.readTree(settings.baselineFile().toFile());
+        LoadReports.assertNoRegression(baseline, result, settings.tolerance());
+    }
+
+    /**
+     * ReactiveAuthService.register로 계정 생성 (BCrypt는 PasswordHasher 스케줄러가 병렬 처리)
+     */
+    private List<String> seedUsers(int count) {
+        List<String> usernames = IntStream.range(0, count).mapToObj(i -> "load-user-" + i).toList();
+        Flux.fromIterable(usernames)
+                .flatMap(username -> authService.register(username, PASSWORD), Runtime.getRuntime().availableProcessors())
+                .blockLast();
+        return usernames;
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.jwt_study.reactive;
+
+import com.example.jwt_study.domain.RefreshToken;
+import com.example.jwt_study.util.JwtUtil;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseCookie;
+import org.springframework.test.web.reactive.server.EntityExchangeResult;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * WebFlux + R2DBC 구성 인증 흐름 검증 (서블릿 구성과 같은 응답)
+ * - 가입 → 로그인 → /me(ETag, 304) → 갱신 → 이전 토큰 재사용 시 세션 전체 폐기
+ * - 같은 리프레시 토큰 동시 갱신: 행잠금으로 정확히 하나만 성공
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ReactiveAuthFlowTests {
+
+    private static final String PASSWORD = "password123";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Test
+    void rotatesRefreshTokenAndRevokesSessionsOnReuse() {
+        String username = register();
+        EntityExchangeResult<JsonNode> login = login(username);
+        String accessToken = login.getResponseBody().path("accessToken").asText();
+        String refreshToken = refreshCookie(login);
+
+        String etag = webTestClient.get().uri("/api/users/me")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.CACHE_CONTROL, "no-cache, private")
+                .expectBody().jsonPath("$.username").isEqualTo(username)
+                .returnResult().getResponseHeaders().getETag();
+        webTestClient.get().uri("/api/users/me")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+
+        EntityExchangeResult<JsonNode> refreshed = refresh(refreshToken);
+        assertThat(refreshed.getStatus().value()).isEqualTo(200);
+        String rotatedToken = refreshCookie(refreshed);
+
+        EntityExchangeResult<JsonNode> reused = refresh(refreshToken);
+        assertThat(reused.getStatus().value()).isEqualTo(401);
+        assertThat(reused.getResponseBody().path("error").asText()).isEqualTo("invalid_grant");
+
+        // 재사용 탐지로 후속 토큰도 삭제됨
+        assertThat(refresh(rotatedToken).getStatus().value()).isEqualTo(401);
+    }
+
+    @Test
+    void refusesOtherShardTokenWithoutRevokingSessions() {
+        EntityExchangeResult<JsonNode> login = login(register());
+        String refreshToken = refreshCookie(login);
+        Long userId = jwtUtil.parseAccessToken(login.getResponseBody().path("accessToken").asText()).userId();
+
+        // 샤딩된 서블릿 노드가 발급한 토큰 (sid=1)
+        String otherShardToken = jwtUtil.generateRefreshToken(userId, 1,
+                RefreshToken.expiryBucketOf(LocalDateTime.now().plusDays(30)));
+        EntityExchangeResult<JsonNode> refused = refresh(otherShardToken);
+        assertThat(refused.getStatus().value()).isEqualTo(401);
+        assertThat(refused.getResponseBody().path("error").asText()).isEqualTo("invalid_token");
+
+        // 재사용으로 처리되지 않아 기존 세션 유지
+        assertThat(refresh(refreshToken).getStatus().value()).isEqualTo(200);
+    }
+
+    @Test
+    void rejectsDuplicateUsername() {
+        String username = register();
+        webTestClient.post().uri("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("username", username, "password", PASSWORD))
+                .exchange()
+                .expectStatus().isEqualTo(409)
+                .expectBody().jsonPath("$.error").isEqualTo("duplicate_username");
+    }
+
+    @Test
+    void concurrentRefreshWithSameTokenRotatesOnce() throws Exception {
+        String refreshToken = refreshCookie(login(register()));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> refresh(refreshToken).getStatus().value()));
+            }
+            List<Integer> statuses = new ArrayList<>();
+            for (Future<Integer> future : futures) {
+                statuses.add(future.get());
+            }
+            assertThat(statuses).containsOnlyOnce(200);
+            assertThat(statuses).filteredOn(status -> status != 200).containsOnly(401);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private String register() {
+        String username = "reactive-" + System.nanoTime();
+        webTestClient.post().uri("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("username", username, "password", PASSWORD))
+                .exchange()
+                .expectStatus().isCreated();
+        return username;
+    }
+
+    private EntityExchangeResult<JsonNode> login(String username) {
+        return webTestClient.post().uri("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(Map.of("username", username, "password", PASSWORD))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(JsonNode.class)
+                .returnResult();
+    }
+
+    private EntityExchangeResult<JsonNode> refresh(String refreshToken) {
+        return webTestClient.post().uri("/api/auth/refresh")
+                .cookie("refreshToken", refreshToken)
+                .exchange()
+                .expectBody(JsonNode.class)
+                .returnResult();
+    }
+
+    private static String refreshCookie(EntityExchangeResult<?> result) {
+        ResponseCookie cookie = result.getResponseCookies().getFirst("refreshToken");
+        assertThat(cookie).isNotNull();
+        return cookie.getValue();
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.jwt_study.config;
+
+import com.example.jwt_study.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 개의 임베디드 DB(Primary/Replica)로 읽기/쓰기 라우팅 검증
+ * Replica에만 존재하는 행이 보이는지로 라우팅 대상을 판별
+ */
+@SpringBootTest(properties = {
+        "app.datasource.replica.url=jdbc:h2:mem:jwt_study_replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "app.datasource.replica.username=sa",
+        "app.datasource.replica.lag-query=SELECT lag_seconds FROM replica_lag",
+        "app.datasource.replica.max-lag-seconds=5",
+        "app.datasource.replica.lag-check-interval-ms=600000"
+})
+class ReadWriteRoutingDataSourceTests {
+
+    private static final long REPLICA_ONLY_USER_ID = 900_001L;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setUp() {
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(replicaDataSource);
+
+        replica = new JdbcTemplate(replicaDataSource);
+        replica.execute("CREATE TABLE IF NOT EXISTS replica_lag (lag_seconds BIGINT)");
+        replica.update("DELETE FROM replica_lag");
+        replica.update("INSERT INTO replica_lag VALUES (0)");
+        replica.update("DELETE FROM users WHERE id = ?", REPLICA_ONLY_USER_ID);
+        replica.update("INSERT INTO users (id, username, password) VALUES (?, 'replica-only', 'x')", REPLICA_ONLY_USER_ID);
+
+        replicaLagMonitor.check();
+    }
+
+    @Test
+    void readOnlyTransactionRoutesToReplica() {
+        assertThat(replicaLagMonitor.isReplicaUsable()).isTrue();
+        assertThat(userRepository.findById(REPLICA_ONLY_USER_ID)).isPresent();
+    }
+
+    @Test
+    void readWriteTransactionRoutesToPrimary() {
+        Boolean found = transactionTemplate.execute(status -> userRepository.findById(REPLICA_ONLY_USER_ID).isPresent());
+        assertThat(found).isFalse();
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimary() {
+        replica.update("UPDATE replica_lag SET lag_seconds = 60");
+        replicaLagMonitor.check();
+
+        assertThat(replicaLagMonitor.isReplicaUsable()).isFalse();
+        assertThat(userRepository.findById(REPLICA_ONLY_USER_ID)).isEmpty();
+    }
+}
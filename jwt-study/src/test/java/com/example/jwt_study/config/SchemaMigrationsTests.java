@@ -0,0 +1,30 @@
+package com.example.jwt_study.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기존 테이블 변경이 빠진 컬럼에만 적용되고 다시 실행해도 안전한지 검증
+ */
+class SchemaMigrationsTests {
+
+    @Test
+    void addsMissingColumnOnce() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:schema_migrations;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, username VARCHAR(50) NOT NULL)");
+        jdbcTemplate.update("INSERT INTO users (id, username) VALUES (1, 'legacy')");
+
+        // users 컬럼 추가만 적용 (refresh_tokens 파티션 키 변경은 MySQL 전용)
+        assertThat(SchemaMigrations.apply(dataSource, SchemaMigrations.PRIMARY)).isEqualTo(3);
+        assertThat(SchemaMigrations.apply(dataSource, SchemaMigrations.PRIMARY)).isZero();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT token_epoch FROM users WHERE id = 1", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT authorities FROM users WHERE id = 1", Integer.class)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT version FROM users WHERE id = 1", Long.class)).isZero();
+    }
+}
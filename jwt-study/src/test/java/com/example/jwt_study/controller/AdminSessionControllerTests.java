@@ -0,0 +1,52 @@
+package com.example.jwt_study.controller;
+
+import com.example.jwt_study.domain.Authority;
+import com.example.jwt_study.util.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 관리자 세션 API 권한 검증 (토큰의 권한 비트셋만으로 판정)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class AdminSessionControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Test
+    void requiresAdminRoleAndReadPermission() throws Exception {
+        String user = bearer(Authority.DEFAULT_BITS);
+        String adminWithoutRead = bearer(Authority.bitsOf(Authority.ROLE_USER, Authority.ROLE_ADMIN));
+        String admin = bearer(Authority.bitsOf(Authority.ROLE_USER, Authority.ROLE_ADMIN, Authority.USERS_READ));
+
+        mockMvc.perform(get("/api/admin/sessions").header(HttpHeaders.AUTHORIZATION, user))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/admin/sessions").header(HttpHeaders.AUTHORIZATION, adminWithoutRead))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(get("/api/admin/sessions").param("size", "5").header(HttpHeaders.AUTHORIZATION, admin))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.sessions").isArray());
+        mockMvc.perform(get("/api/admin/sessions/export").header(HttpHeaders.AUTHORIZATION, admin))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"));
+    }
+
+    private String bearer(int authorities) {
+        return "Bearer " + jwtUtil.generateAccessToken(900_000L, "admin-test", authorities);
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.jwt_study.controller;
+
+import com.example.jwt_study.domain.Authority;
+import com.example.jwt_study.util.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 사용자 일괄 가져오기 API 권한/형식 검증
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class AdminUserControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Test
+    void requiresWritePermissionAndAcceptsNdjsonOrCsv() throws Exception {
+        String adminWithReadOnly = bearer(Authority.bitsOf(Authority.ROLE_USER, Authority.ROLE_ADMIN, Authority.USERS_READ));
+        String admin = bearer(Authority.bitsOf(Authority.ROLE_USER, Authority.ROLE_ADMIN, Authority.USERS_WRITE));
+        String username = "bulk-" + System.nanoTime();
+
+        mockMvc.perform(post("/api/admin/users/import")
+                        .header(HttpHeaders.AUTHORIZATION, adminWithReadOnly)
+                        .contentType("application/x-ndjson")
+                        .content("{\"username\": \"" + username + "-x\", \"password\": \"password123\"}"))
+                .andExpect(status().isForbidden());
+
+        mockMvc.perform(post("/api/admin/users/import")
+                        .header(HttpHeaders.AUTHORIZATION, admin)
+                        .contentType("application/x-ndjson")
+                        .content("{\"username\": \"" + username + "-a\", \"password\": \"password123\"}\n{broken"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(2))
+                .andExpect(jsonPath("$.errors[0].error").value("invalid_format"));
+
+        mockMvc.perform(post("/api/admin/users/import")
+                        .header(HttpHeaders.AUTHORIZATION, admin)
+                        .contentType("text/csv")
+                        .content("username,password\n" + username + "-b,password123\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.failed").value(0));
+    }
+
+    private String bearer(int authorities) {
+        return "Bearer " + jwtUtil.generateAccessToken(900_000L, "admin-test", authorities);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.jwt_study.controller;
+
+import com.example.jwt_study.domain.User;
+import com.example.jwt_study.security.TokenEpochCache;
+import com.example.jwt_study.service.AuthService;
+import com.example.jwt_study.service.UserVersionCache;
+import com.example.jwt_study.util.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * /api/users/me 조건부 GET 검증 (ETag 발급, 304, 사용자 변경 후 새 ETag)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class UserControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private TokenEpochCache tokenEpochCache;
+
+    @Autowired
+    private UserVersionCache userVersionCache;
+
+    @Test
+    void answersNotModifiedUntilUserChanges() throws Exception {
+        User user = authService.register("etag-" + System.nanoTime(), "password123");
+        String bearer = "Bearer " + jwtUtil.generateAccessToken(user.getId(), user.getUsername(), user.getAuthorities());
+
+        String etag = mockMvc.perform(get("/api/users/me").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isEqualTo("\"" + user.getId() + "-0\"");
+
+        mockMvc.perform(get("/api/users/me")
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+
+        // 비밀번호 변경으로 버전 증가 (기존 액세스 토큰은 에포크로 무효화, 새 토큰은 에포크 이후 iat로 발급)
+        authService.changePassword(user.getId(), "password123", "newpassword123");
+        mockMvc.perform(get("/api/users/me").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isForbidden());
+        String newBearer = "Bearer " + jwtUtil.generateAccessToken(user.getId(), user.getUsername(),
+                user.getAuthorities(), tokenEpochCache.minIssuedAt(user.getId()));
+
+        String newEtag = mockMvc.perform(get("/api/users/me")
+                        .header(HttpHeaders.AUTHORIZATION, newBearer)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(newEtag).isNotEqualTo(etag);
+    }
+
+    @Test
+    void lateReadOfPreCommitVersionDoesNotRestoreStaleEtag() throws Exception {
+        User user = authService.register("etag-race-" + System.nanoTime(), "password123");
+        String bearer = "Bearer " + jwtUtil.generateAccessToken(user.getId(), user.getUsername(), user.getAuthorities());
+        String etag = mockMvc.perform(get("/api/users/me").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        authService.changePassword(user.getId(), "password123", "newpassword123");
+        assertThat(userVersionCache.get(user.getId())).isEqualTo(1L); // 커밋된 버전으로 갱신
+
+        // 변경 커밋 전에 행을 읽은 동시 조회가 늦게 이전 버전을 기록
+        userVersionCache.put(user.getId(), 0L);
+        assertThat(userVersionCache.get(user.getId())).isEqualTo(1L);
+
+        String newBearer = "Bearer " + jwtUtil.generateAccessToken(user.getId(), user.getUsername(),
+                user.getAuthorities(), tokenEpochCache.minIssuedAt(user.getId()));
+        mockMvc.perform(get("/api/users/me")
+                        .header(HttpHeaders.AUTHORIZATION, newBearer)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.jwt_study.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 링 버퍼 검증 (용량 올림, 가득 찼을 때 거절, 순서/순환, 다중 생산자 유실 없음)
+ */
+class SecurityEventBufferTests {
+
+    @Test
+    void capacityIsRoundedUpToPowerOfTwo() {
+        assertThat(new SecurityEventBuffer(1).capacity()).isEqualTo(2);
+        assertThat(new SecurityEventBuffer(8).capacity()).isEqualTo(8);
+        assertThat(new SecurityEventBuffer(9).capacity()).isEqualTo(16);
+    }
+
+    @Test
+    void rejectsWhenFullAndDrainsInOrderAcrossWrapAround() {
+        SecurityEventBuffer buffer = new SecurityEventBuffer(4);
+        for (long i = 0; i < 4; i++) {
+            assertThat(buffer.offer(event(i))).isTrue();
+        }
+        assertThat(buffer.offer(event(99))).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+
+        List<SecurityEvent> drained = new ArrayList<>();
+        assertThat(buffer.drainTo(drained, 3)).isEqualTo(3);
+        for (long i = 4; i < 7; i++) {
+            assertThat(buffer.offer(event(i))).isTrue(); // 비워진 슬롯 재사용
+        }
+        assertThat(buffer.drainTo(drained, 10)).isEqualTo(4);
+        assertThat(drained).extracting(SecurityEvent::getUserId).containsExactly(0L, 1L, 2L, 3L, 4L, 5L, 6L);
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    void concurrentProducersLoseNothingWhileConsumerDrains() throws InterruptedException {
+        int producers = 8;
+        int perProducer = 10_000;
+        SecurityEventBuffer buffer = new SecurityEventBuffer(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch done = new CountDownLatch(producers);
+        for (int p = 0; p < producers; p++) {
+            long base = (long) p * perProducer;
+            executor.submit(() -> {
+                for (long i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(event(base + i))) {
+                        Thread.onSpinWait(); // 가득 차면 소비자를 기다림
+                    }
+                }
+                done.countDown();
+            });
+        }
+
+        Set<Long> seen = new HashSet<>();
+        List<SecurityEvent> batch = new ArrayList<>();
+        while (seen.size() < producers * perProducer) {
+            batch.clear();
+            buffer.drainTo(batch, 200);
+            for (SecurityEvent event : batch) {
+                assertThat(seen.add(event.getUserId())).isTrue(); // 중복 없음
+            }
+        }
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        assertThat(buffer.size()).isZero();
+    }
+
+    private static SecurityEvent event(long id) {
+        return new SecurityEvent(SecurityEventType.LOGIN_SUCCESS, id, null, null, null, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.jwt_study.event;
+
+import com.example.jwt_study.config.SecurityEventProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 보안 이벤트 기록 검증 (컬럼 길이 초과 입력 절단, 배치 실패 시 문제 행만 유실)
+ * 기동된 기록 스레드와 경합하지 않도록 별도 발행기/기록기를 만들어 직접 비움
+ */
+@SpringBootTest
+class SecurityEventWriterTests {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void resetRequestContext() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void publisherTruncatesValuesToColumnSizes() {
+        SecurityEventPublisher publisher = new SecurityEventPublisher(new SecurityEventProperties(), meterRegistry);
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("x".repeat(100));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        publisher.publish(SecurityEventType.LOGIN_FAILURE, null, "u".repeat(200), "d".repeat(1_000));
+
+        List<SecurityEvent> drained = new ArrayList<>();
+        publisher.buffer().drainTo(drained, 10);
+        assertThat(drained).singleElement().satisfies(event -> {
+            assertThat(event.getUsername()).hasSize(50);
+            assertThat(event.getClientIp()).hasSize(45);
+            assertThat(event.getDetail()).hasSize(255);
+        });
+    }
+
+    @Test
+    void longUsernameDoesNotDropOtherEventsInBatch() {
+        String marker = "writer-" + System.nanoTime();
+        SecurityEventPublisher publisher = new SecurityEventPublisher(new SecurityEventProperties(), meterRegistry);
+        SecurityEventWriter writer = newWriter(publisher);
+
+        publisher.publish(SecurityEventType.LOGIN_FAILURE, null, "a".repeat(51), marker);
+        for (int i = 0; i < 5; i++) {
+            publisher.publish(SecurityEventType.LOGIN_SUCCESS, (long) i, "user" + i, marker);
+        }
+
+        assertThat(writer.drainAndWrite(new ArrayList<>())).isEqualTo(6);
+        assertThat(countRows(marker)).isEqualTo(6);
+        assertThat(meterRegistry.get("security.events.write.failures").counter().count()).isZero();
+    }
+
+    @Test
+    void failedBatchIsRetriedRowByRowAndOnlyBadRowIsLost() {
+        String marker = "writer-" + System.nanoTime();
+        SecurityEventPublisher publisher = new SecurityEventPublisher(new SecurityEventProperties(), meterRegistry);
+        SecurityEventWriter writer = newWriter(publisher);
+
+        publisher.publish(SecurityEventType.LOGIN_SUCCESS, 1L, "before", marker);
+        // 발행기를 거치지 않은 (절단되지 않은) 행 → 다중 행 INSERT 실패
+        publisher.buffer().offer(new SecurityEvent(SecurityEventType.LOGIN_FAILURE, null, "b".repeat(51),
+                null, marker, LocalDateTime.now()));
+        publisher.publish(SecurityEventType.LOGIN_SUCCESS, 2L, "after", marker);
+
+        assertThat(writer.drainAndWrite(new ArrayList<>())).isEqualTo(3);
+        assertThat(countRows(marker)).isEqualTo(2);
+        assertThat(meterRegistry.get("security.events.written").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("security.events.write.failures").counter().count()).isEqualTo(1);
+    }
+
+    private SecurityEventWriter newWriter(SecurityEventPublisher publisher) {
+        return new SecurityEventWriter(publisher, new SecurityEventProperties(), dataSource, meterRegistry);
+    }
+
+    private int countRows(String marker) {
+        Integer rows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM auth_events WHERE detail = ?", Integer.class, marker);
+        return rows == null ? 0 : rows;
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.jwt_study.security;
+
+import com.example.jwt_study.config.JwtProperties;
+import com.example.jwt_study.util.AccessTokenClaims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 선제 갱신 힌트 창/지터와 선제·사후 갱신 집계 검증 (가짜 시계 사용)
+ */
+class AccessTokenRefreshHintTests {
+
+    private final AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void addsHeaderOnlyInsideWindowPlusJitter() {
+        AccessTokenRefreshHint hint = newHint(60, 30);
+        AccessTokenClaims claims = claimsExpiringIn(900);
+        long threshold = 60 + AccessTokenRefreshHint.jitterSeconds(claims, 30);
+
+        MockHttpServletResponse fresh = new MockHttpServletResponse();
+        hint.apply(claims, fresh);
+        assertThat(fresh.getHeader(AccessTokenRefreshHint.HEADER)).isNull();
+
+        clock.addAndGet((900 - threshold - 1) * 1000);
+        MockHttpServletResponse beforeWindow = new MockHttpServletResponse();
+        hint.apply(claims, beforeWindow);
+        assertThat(beforeWindow.getHeader(AccessTokenRefreshHint.HEADER)).isNull();
+
+        clock.addAndGet(1_000);
+        MockHttpServletResponse inWindow = new MockHttpServletResponse();
+        hint.apply(claims, inWindow);
+        assertThat(inWindow.getHeader(AccessTokenRefreshHint.HEADER)).isEqualTo(String.valueOf(threshold));
+        assertThat(meterRegistry.get("access.token.refresh.hints").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void jitterIsStablePerTokenAndBounded() {
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (long userId = 1; userId <= 1_000; userId++) {
+            AccessTokenClaims claims = new AccessTokenClaims(userId, null, 1, new Date(clock.get()), new Date(clock.get() + 900_000));
+            long jitter = AccessTokenRefreshHint.jitterSeconds(claims, 60);
+            assertThat(AccessTokenRefreshHint.jitterSeconds(claims, 60)).isEqualTo(jitter);
+            min = Math.min(min, jitter);
+            max = Math.max(max, jitter);
+        }
+        assertThat(min).isGreaterThanOrEqualTo(0);
+        assertThat(max).isLessThanOrEqualTo(60);
+        assertThat(max - min).isGreaterThan(30); // 한 시점에 몰리지 않고 분산
+    }
+
+    @Test
+    void countsRefreshesBeforeAccessTokenExpiryAsProactive() {
+        AccessTokenRefreshHint hint = newHint(60, 0);
+        Date issuedAt = new Date(clock.get());
+
+        clock.addAndGet(850_000);
+        hint.recordRefresh(issuedAt);
+        clock.addAndGet(100_000);
+        hint.recordRefresh(issuedAt);
+        hint.recordRefresh(null);
+
+        assertThat(meterRegistry.get("access.token.refreshes").tag("trigger", "proactive").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("access.token.refreshes").tag("trigger", "reactive").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void disabledHintNeverAddsHeader() {
+        JwtProperties properties = new JwtProperties();
+        properties.getRefreshHint().setEnabled(false);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new AccessTokenRefreshHint(properties, new SimpleMeterRegistry(), clock::get).apply(claimsExpiringIn(1), response);
+        assertThat(response.getHeader(AccessTokenRefreshHint.HEADER)).isNull();
+    }
+
+    private AccessTokenRefreshHint newHint(long windowSeconds, long jitterSeconds) {
+        JwtProperties properties = new JwtProperties();
+        properties.setAccessTokenExpiry(900);
+        properties.getRefreshHint().setWindowSeconds(windowSeconds);
+        properties.getRefreshHint().setJitterSeconds(jitterSeconds);
+        return new AccessTokenRefreshHint(properties, meterRegistry, clock::get);
+    }
+
+    private AccessTokenClaims claimsExpiringIn(long seconds) {
+        return new AccessTokenClaims(42L, null, 1, new Date(clock.get()), new Date(clock.get() + seconds * 1000));
+    }
+}
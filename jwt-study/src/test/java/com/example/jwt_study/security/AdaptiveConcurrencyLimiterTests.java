@@ -0,0 +1,83 @@
+package com.example.jwt_study.security;
+
+import com.example.jwt_study.config.ConcurrencyLimitProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 적응형 동시성 한도 검증 (가짜 시계로 구간별 지연 시간 주입)
+ */
+class AdaptiveConcurrencyLimiterTests {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private AdaptiveConcurrencyLimiter limiter(int initialLimit) {
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.setInitialLimit(initialLimit);
+        properties.setMinLimit(4);
+        properties.setMaxLimit(100);
+        properties.setWindowMs(100);
+        properties.setMinWindowSamples(1);
+        return new AdaptiveConcurrencyLimiter(properties, clock::get);
+    }
+
+    @Test
+    void rejectsBeyondLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(2);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        limiter.release(0, false);
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.getInflight()).isEqualTo(2);
+    }
+
+    @Test
+    void growsAtBaselineAndShrinksWhenLatencyRises() {
+        AdaptiveConcurrencyLimiter limiter = limiter(20);
+
+        for (int i = 0; i < 5; i++) {
+            runSaturatedWindow(limiter, 10);
+        }
+        int baselineLimit = limiter.getLimit();
+        assertThat(baselineLimit).isGreaterThan(20);
+
+        for (int i = 0; i < 5; i++) {
+            runSaturatedWindow(limiter, 50);
+        }
+        assertThat(limiter.getLimit()).isLessThan(baselineLimit);
+        assertThat(limiter.getLimit()).isGreaterThanOrEqualTo(4);
+    }
+
+    @Test
+    void keepsLimitWhenMostlyIdle() {
+        AdaptiveConcurrencyLimiter limiter = limiter(20);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+            limiter.release(TimeUnit.MILLISECONDS.toNanos(500), true);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+
+    /**
+     * 한도만큼 요청을 채운 뒤 구간을 넘겨 같은 지연 시간으로 모두 종료
+     */
+    private void runSaturatedWindow(AdaptiveConcurrencyLimiter limiter, long rttMillis) {
+        int acquired = 0;
+        while (limiter.tryAcquire()) {
+            acquired++;
+        }
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+        for (int i = 0; i < acquired; i++) {
+            limiter.release(TimeUnit.MILLISECONDS.toNanos(rttMillis), true);
+        }
+    }
+}
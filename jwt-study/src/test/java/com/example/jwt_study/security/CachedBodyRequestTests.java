@@ -0,0 +1,75 @@
+package com.example.jwt_study.security;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 미리 읽은 본문 래퍼 검증 (동기 재읽기, ReadListener 비동기 읽기, 앞부분만 읽은 큰 본문)
+ */
+class CachedBodyRequestTests {
+
+    private static final byte[] BODY = "{\"username\":\"alice\"}".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void replaysBodyThroughStreamAndReader() throws IOException {
+        CachedBodyRequest request = new CachedBodyRequest(new MockHttpServletRequest(), BODY);
+
+        assertThat(request.getInputStream().readAllBytes()).isEqualTo(BODY);
+        assertThat(request.getReader().readLine()).isEqualTo(new String(BODY, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void continuesWithRemainingStreamAfterPrefix() throws IOException {
+        byte[] large = "x".repeat(10_000).getBytes(StandardCharsets.UTF_8);
+        MockHttpServletRequest original = new MockHttpServletRequest();
+        original.setContent(large);
+        byte[] prefix = original.getInputStream().readNBytes(8 * 1024 + 1); // 필터가 상한까지만 읽은 상태
+
+        ServletInputStream input = new CachedBodyRequest(original, prefix, false).getInputStream();
+
+        assertThat(input.isFinished()).isFalse();
+        assertThat(input.readAllBytes()).isEqualTo(large);
+        assertThat(input.isFinished()).isTrue();
+    }
+
+    @Test
+    void notifiesReadListenerWithCachedBody() throws IOException {
+        ServletInputStream input = new CachedBodyRequest(new MockHttpServletRequest(), BODY).getInputStream();
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        List<String> events = new ArrayList<>();
+
+        input.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                events.add("data");
+                byte[] chunk = new byte[8];
+                while (input.isReady() && !input.isFinished()) {
+                    read.write(chunk, 0, input.read(chunk));
+                }
+            }
+
+            @Override
+            public void onAllDataRead() {
+                events.add("done");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                events.add("error");
+            }
+        });
+
+        assertThat(events).containsExactly("data", "done");
+        assertThat(read.toByteArray()).isEqualTo(BODY);
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.jwt_study.security;
+
+import com.example.jwt_study.config.ConcurrencyLimitProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시성 제한 필터 검증 (한도 소진 중에도 헬스 프로브는 거부하지 않음)
+ */
+class ConcurrencyLimitFilterTests {
+
+    @Test
+    void actuatorProbesBypassExhaustedLimit() throws Exception {
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.setInitialLimit(1);
+        properties.setMinLimit(1);
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(properties, new ObjectMapper(), new SimpleMeterRegistry());
+
+        MockHttpServletResponse nestedApi = new MockHttpServletResponse();
+        MockHttpServletResponse nestedProbe = new MockHttpServletResponse();
+        // 바깥 요청이 유일한 한도를 점유한 상태에서 다른 요청 실행
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/users/me"), new MockHttpServletResponse(),
+                (request, response) -> {
+                    filter.doFilter(new MockHttpServletRequest("GET", "/api/users/me"), nestedApi, (req, res) -> { });
+                    filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health/readiness"), nestedProbe,
+                            (req, res) -> { });
+                });
+
+        assertThat(nestedApi.getStatus()).isEqualTo(503);
+        assertThat(nestedProbe.getStatus()).isEqualTo(200);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.jwt_study.security;
+
+import com.example.jwt_study.domain.Authority;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 권한 비트셋 -> 공유 GrantedAuthority 목록 변환 검증
+ */
+class GrantedAuthorityCacheTests {
+
+    private final GrantedAuthorityCache cache = new GrantedAuthorityCache();
+
+    @Test
+    void decodesBitsIntoSharedLists() {
+        int bits = Authority.bitsOf(Authority.ROLE_USER, Authority.ROLE_ADMIN, Authority.USERS_READ);
+
+        List<GrantedAuthority> authorities = cache.get(bits);
+
+        assertThat(authorities).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_USER", "ROLE_ADMIN", "users:read");
+        assertThat(cache.get(bits)).isSameAs(authorities); // 요청마다 새로 만들지 않음
+        assertThat(cache.get(0)).isEmpty();
+    }
+
+    @Test
+    void ignoresUnknownBits() {
+        int bits = Authority.DEFAULT_BITS | (1 << 30);
+
+        assertThat(cache.get(bits)).isSameAs(cache.get(Authority.DEFAULT_BITS));
+    }
+
+    @Test
+    void authenticationExposesCachedListWithoutCopy() {
+        List<GrantedAuthority> authorities = cache.get(Authority.DEFAULT_BITS);
+
+        AccessTokenAuthentication authentication = new AccessTokenAuthentication(1L, authorities);
+
+        assertThat(authentication.getAuthorities()).isSameAs(authorities);
+        assertThat(authentication.getPrincipal()).isEqualTo(1L);
+        assertThat(authentication.isAuthenticated()).isTrue();
+        assertThat(authentication).isEqualTo(new AccessTokenAuthentication(1L, authorities));
+    }
+}
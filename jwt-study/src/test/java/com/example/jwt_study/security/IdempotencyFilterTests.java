@@ -0,0 +1,113 @@
+package com.example.jwt_study.security;
+
+import com.example.jwt_study.service.AuthService;
+import com.example.jwt_study.service.SessionAdminService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Idempotency-Key 재시도 흡수 검증 (재생, 본문 불일치, 동시 로그인 시 세션 1개)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class IdempotencyFilterTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private SessionAdminService sessionAdminService;
+
+    @Test
+    void replaysRegisterAndRejectsDifferentBody() throws Exception {
+        String key = UUID.randomUUID().toString();
+        String body = "{\"username\":\"idem-" + System.nanoTime() + "\",\"password\":\"password123\"}";
+
+        MockHttpServletResponse first = register(key, body);
+        MockHttpServletResponse retry = register(key, body);
+
+        assertThat(first.getStatus()).isEqualTo(201);
+        assertThat(retry.getStatus()).isEqualTo(201); // 중복 사용자명 409가 아니라 첫 결과 재생
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString());
+
+        MockHttpServletResponse reused = register(key, body.replace("password123", "password456"));
+        assertThat(reused.getStatus()).isEqualTo(422);
+    }
+
+    @Test
+    void concurrentLoginRetriesIssueOneSession() throws Exception {
+        String username = "idem-login-" + System.nanoTime();
+        Long userId = authService.register(username, "password123").getId();
+        String key = UUID.randomUUID().toString();
+        String body = "{\"username\":\"" + username + "\",\"password\":\"password123\"}";
+
+        int attempts = 6;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(attempts);
+        try {
+            Callable<MockHttpServletResponse> login = () -> {
+                start.await();
+                return mockMvc.perform(post("/api/auth/login")
+                                .header(IdempotencyFilter.HEADER, key)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(body))
+                        .andReturn().getResponse();
+            };
+            List<Future<MockHttpServletResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < attempts; i++) {
+                futures.add(executor.submit(login));
+            }
+            start.countDown();
+
+            String cookie = null;
+            for (Future<MockHttpServletResponse> future : futures) {
+                MockHttpServletResponse response = future.get();
+                assertThat(response.getStatus()).isEqualTo(200);
+                String setCookie = response.getHeader(HttpHeaders.SET_COOKIE);
+                assertThat(setCookie).startsWith("refreshToken=");
+                if (cookie == null) {
+                    cookie = setCookie;
+                }
+                assertThat(setCookie).isEqualTo(cookie); // 모두 같은 리프레시 토큰
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        ByteArrayOutputStream sessions = new ByteArrayOutputStream();
+        assertThat(sessionAdminService.export(userId, sessions)).isEqualTo(1);
+        assertThat(sessions.toString(StandardCharsets.UTF_8)).contains("\"userId\":" + userId);
+    }
+
+    private MockHttpServletResponse register(String key, String body) throws Exception {
+        return mockMvc.perform(post("/api/auth/register")
+                        .header(IdempotencyFilter.HEADER, key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andReturn().getResponse();
+    }
+}
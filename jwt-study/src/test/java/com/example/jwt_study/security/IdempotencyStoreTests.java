@@ -0,0 +1,86 @@
+package com.example.jwt_study.security;
+
+import com.example.jwt_study.security.IdempotencyStore.Claim;
+import com.example.jwt_study.security.IdempotencyStore.Status;
+import com.example.jwt_study.security.IdempotencyStore.StoredResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Idempotency-Key 저장소 상태 전이 검증 (가짜 시계 사용)
+ */
+class IdempotencyStoreTests {
+
+    private static final byte[] BODY_A = {1};
+    private static final byte[] BODY_B = {2};
+    private static final String CLIENT = "10.0.0.1";
+
+    private final AtomicLong clock = new AtomicLong(1_000);
+    private final IdempotencyStore store = new IdempotencyStore(2, 10, 1_000, clock::get);
+
+    @Test
+    void followersReceiveLeaderResultUntilExpiry() {
+        Claim leader = store.claim("k", CLIENT, BODY_A);
+        Claim follower = store.claim("k", CLIENT, BODY_A);
+        assertThat(leader.status()).isEqualTo(Status.LEADER);
+        assertThat(follower.status()).isEqualTo(Status.FOLLOWER);
+        assertThat(follower.entry().result()).isNotDone();
+
+        StoredResponse response = new StoredResponse(201, "application/json", List.of(), new byte[]{'{', '}'});
+        store.complete(leader.entry(), response);
+        assertThat(follower.entry().result()).isCompletedWithValue(response);
+        assertThat(store.claim("k", CLIENT, BODY_B).status()).isEqualTo(Status.MISMATCH);
+
+        clock.addAndGet(1_000);
+        assertThat(store.claim("k", CLIENT, BODY_B).status()).isEqualTo(Status.LEADER); // 만료 후 새 요청
+    }
+
+    @Test
+    void abandonedKeyCanBeClaimedAgain() {
+        Claim leader = store.claim("k", CLIENT, BODY_A);
+        Claim follower = store.claim("k", CLIENT, BODY_A);
+
+        store.abandon("k", leader.entry());
+
+        assertThat(follower.entry().result()).isCompletedExceptionally();
+        assertThat(store.claim("k", CLIENT, BODY_A).status()).isEqualTo(Status.LEADER);
+    }
+
+    @Test
+    void boundsEntriesAndEvictsOnlyCompletedExpired() {
+        Claim first = store.claim("a", CLIENT, BODY_A);
+        store.claim("b", CLIENT, BODY_A); // 진행 중
+        assertThat(store.claim("c", CLIENT, BODY_A).status()).isEqualTo(Status.FULL);
+
+        store.complete(first.entry(), new StoredResponse(200, null, List.of(), new byte[0]));
+        clock.addAndGet(1_000);
+        store.evictExpired();
+
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.claim("c", CLIENT, BODY_A).status()).isEqualTo(Status.LEADER);
+    }
+
+    @Test
+    void oneClientCannotExhaustStoreForOthers() {
+        IdempotencyStore perClient = new IdempotencyStore(10, 2, 1_000, clock::get);
+        Claim first = perClient.claim("a", CLIENT, BODY_A);
+        Claim second = perClient.claim("b", CLIENT, BODY_A);
+        assertThat(perClient.claim("c", CLIENT, BODY_A).status()).isEqualTo(Status.FULL);
+        assertThat(perClient.claim("c", "10.0.0.2", BODY_A).status()).isEqualTo(Status.LEADER);
+
+        // 같은 키 재시도는 상한과 무관하게 기존 결과 대기
+        assertThat(perClient.claim("a", CLIENT, BODY_A).status()).isEqualTo(Status.FOLLOWER);
+
+        perClient.abandon("a", first.entry());
+        assertThat(perClient.claim("d", CLIENT, BODY_A).status()).isEqualTo(Status.LEADER);
+
+        perClient.complete(second.entry(), new StoredResponse(200, null, List.of(), new byte[0]));
+        clock.addAndGet(1_000);
+        perClient.evictExpired();
+        assertThat(perClient.claim("e", CLIENT, BODY_A).status()).isEqualTo(Status.LEADER); // 만료로 반환
+    }
+}
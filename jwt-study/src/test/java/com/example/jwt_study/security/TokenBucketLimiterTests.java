@@ -0,0 +1,65 @@
+package com.example.jwt_study.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 토큰 버킷 허용/회복/메모리 상한 검증 (가짜 시계 사용)
+ */
+class TokenBucketLimiterTests {
+
+    private final AtomicLong clock = new AtomicLong(1_000);
+
+    @Test
+    void allowsBurstUpToCapacityThenRefills() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(3, 60, 100, clock::get); // 초당 1개 회복
+
+        assertThat(limiter.tryAcquire("1.2.3.4")).isZero();
+        assertThat(limiter.tryAcquire("1.2.3.4")).isZero();
+        assertThat(limiter.tryAcquire("1.2.3.4")).isZero();
+        assertThat(limiter.tryAcquire("1.2.3.4")).isEqualTo(1_000);
+
+        // 다른 키는 독립적
+        assertThat(limiter.tryAcquire("5.6.7.8")).isZero();
+
+        clock.addAndGet(1_000);
+        assertThat(limiter.tryAcquire("1.2.3.4")).isZero();
+        assertThat(limiter.tryAcquire("1.2.3.4")).isPositive();
+    }
+
+    @Test
+    void evictsOnlyFullBuckets() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(2, 60, 100, clock::get);
+        limiter.tryAcquire("idle");
+        limiter.tryAcquire("busy");
+        limiter.tryAcquire("busy");
+
+        clock.addAndGet(1_000); // idle은 가득 참, busy는 1개만 회복
+        limiter.evictIdle();
+
+        assertThat(limiter.size()).isEqualTo(1);
+        assertThat(limiter.tryAcquire("busy")).isZero();
+        assertThat(limiter.tryAcquire("busy")).isPositive();
+    }
+
+    @Test
+    void keysBeyondLimitShareOverflowBuckets() {
+        TokenBucketLimiter limiter = new TokenBucketLimiter(1, 1, 10, clock::get);
+        for (int i = 0; i < 10; i++) {
+            limiter.tryAcquire("attacker-" + i);
+        }
+
+        // 상한 도달 후 새 키는 공유 버킷으로 제한되며 버킷 수는 무한히 늘지 않음
+        int throttled = 0;
+        for (int i = 10; i < 1_000; i++) {
+            if (limiter.tryAcquire("attacker-" + i) > 0) {
+                throttled++;
+            }
+        }
+        assertThat(throttled).isGreaterThan(900);
+        assertThat(limiter.size()).isLessThanOrEqualTo(10 + 64);
+    }
+}
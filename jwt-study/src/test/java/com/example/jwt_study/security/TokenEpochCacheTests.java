@@ -0,0 +1,68 @@
+package com.example.jwt_study.security;
+
+import com.example.jwt_study.domain.User;
+import com.example.jwt_study.service.AuthService;
+import com.example.jwt_study.service.TokenEpochService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 토큰 에포크 무효화 검증 (같은 초 경계, 무효화 후 발급 토큰, 최댓값 유지, 만료 에포크 정리)
+ */
+@SpringBootTest
+class TokenEpochCacheTests {
+
+    @Autowired
+    private TokenEpochCache tokenEpochCache;
+
+    @Autowired
+    private TokenEpochService tokenEpochService;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void revocationRejectsTokensFromTheSameSecondButNotLaterOnes() {
+        User user = authService.register("epoch-" + System.nanoTime(), "password123");
+        Date issuedBefore = new Date();
+        assertThat(tokenEpochCache.isRevoked(user.getId(), issuedBefore)).isFalse();
+        assertThat(tokenEpochCache.minIssuedAt(user.getId())).isZero();
+
+        tokenEpochService.revokeAccessTokens(user.getId());
+
+        long epoch = jdbcTemplate.queryForObject("SELECT token_epoch FROM users WHERE id = ?", Long.class, user.getId());
+        assertThat(tokenEpochCache.isRevoked(user.getId(), issuedBefore)).isTrue();
+        assertThat(tokenEpochCache.isRevoked(user.getId(), new Date(epoch * 1000 + 999))).isTrue();
+        assertThat(tokenEpochCache.minIssuedAt(user.getId())).isEqualTo(epoch + 1);
+        assertThat(tokenEpochCache.isRevoked(user.getId(), new Date(tokenEpochCache.minIssuedAt(user.getId()) * 1000))).isFalse();
+
+        // 다른 노드 전파용 변경 로그도 같은 트랜잭션에 기록
+        Integer logged = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM auth_change_log WHERE user_id = ? AND change_type = 'TOKEN_EPOCH'",
+                Integer.class, user.getId());
+        assertThat(logged).isEqualTo(1);
+    }
+
+    @Test
+    void keepsLargestEpochAndPrunesExpiredOnes() {
+        long now = Instant.now().getEpochSecond();
+        tokenEpochCache.update(910_001L, now);
+        tokenEpochCache.update(910_001L, now - 10);
+        assertThat(tokenEpochCache.minIssuedAt(910_001L)).isEqualTo(now + 1);
+
+        tokenEpochCache.update(910_002L, now - 3_600); // 액세스 토큰 수명(900초)보다 오래됨
+        tokenEpochCache.prune();
+        assertThat(tokenEpochCache.minIssuedAt(910_002L)).isZero();
+        assertThat(tokenEpochCache.minIssuedAt(910_001L)).isEqualTo(now + 1);
+    }
+}
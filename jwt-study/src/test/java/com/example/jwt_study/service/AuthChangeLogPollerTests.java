@@ -0,0 +1,62 @@
+package com.example.jwt_study.service;
+
+import com.example.jwt_study.JwtStudyApplication;
+import com.example.jwt_study.domain.User;
+import com.example.jwt_study.security.TokenEpochCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 하나의 DB를 공유하는 두 노드(애플리케이션 컨텍스트) 간 캐시 무효화 전파 검증
+ */
+class AuthChangeLogPollerTests {
+
+    private static final String SHARED_DB_URL =
+            "jdbc:h2:mem:change_log_shared;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    private ConfigurableApplicationContext nodeA;
+    private ConfigurableApplicationContext nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = startNode();
+        nodeB = startNode();
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.close();
+        nodeB.close();
+    }
+
+    @Test
+    void tokenEpochChangePropagatesToOtherNode() {
+        User user = nodeA.getBean(AuthService.class).register("change-log-user", "password123");
+        Date issuedAt = new Date(System.currentTimeMillis() - 5000);
+
+        nodeA.getBean(TokenEpochService.class).revokeAccessTokens(user.getId());
+
+        // 노드 A는 즉시 반영, 노드 B는 폴링 전까지 모름
+        assertThat(nodeA.getBean(TokenEpochCache.class).isRevoked(user.getId(), issuedAt)).isTrue();
+        assertThat(nodeB.getBean(TokenEpochCache.class).isRevoked(user.getId(), issuedAt)).isFalse();
+
+        nodeB.getBean(AuthChangeLogPoller.class).poll();
+
+        assertThat(nodeB.getBean(TokenEpochCache.class).isRevoked(user.getId(), issuedAt)).isTrue();
+    }
+
+    private ConfigurableApplicationContext startNode() {
+        return new SpringApplicationBuilder(JwtStudyApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.datasource.url=" + SHARED_DB_URL)
+                .run();
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.jwt_study.service;
+
+import com.example.jwt_study.config.ConsumedTokenFilterProperties;
+import com.example.jwt_study.domain.User;
+import com.example.jwt_study.exception.TokenReuseDetectedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 사용된 리프레시 토큰 Bloom 필터 검증 (오탐률, DB를 통한 노드 간 병합, 행 삭제 후 재사용 탐지)
+ */
+@SpringBootTest
+class ConsumedTokenFilterTests {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Test
+    void neverMissesAddedHashesAndKeepsFalsePositivesNearTarget() {
+        ConsumedTokenFilter filter = newFilter(1_000);
+        long bucket = LocalDate.now().toEpochDay() + 40;
+
+        List<String> added = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            String hash = randomHash();
+            filter.add(hash, bucket);
+            added.add(hash);
+        }
+        assertThat(added).allSatisfy(hash -> assertThat(filter.mightContain(hash, bucket)).isTrue());
+        assertThat(added).allSatisfy(hash -> assertThat(filter.mightContain(hash, null)).isTrue());
+        assertThat(filter.mightContain(added.get(0), bucket + 1)).isFalse();
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain(randomHash(), bucket)) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives).isLessThan(300); // 목표 1%, 여유 3%
+    }
+
+    @Test
+    void nodesShareConsumedHashesThroughDatabase() {
+        ConsumedTokenFilter nodeA = newFilter(1_000);
+        ConsumedTokenFilter nodeB = newFilter(1_000);
+        long bucket = LocalDate.now().toEpochDay() + 41;
+        String hashA = randomHash();
+        String hashB = randomHash();
+
+        nodeA.add(hashA, bucket);
+        nodeA.sync();
+        nodeB.sync();
+        assertThat(nodeB.mightContain(hashA, bucket)).isTrue();
+
+        // 이미 행이 있으면 잠금 후 OR 병합 (A의 비트 유지)
+        nodeB.add(hashB, bucket);
+        nodeB.sync();
+        nodeA.sync();
+        assertThat(nodeA.mightContain(hashB, bucket)).isTrue();
+
+        // 자기 기록만 있는 주기는 비트를 다시 읽지 않아도 다른 노드의 후속 병합은 반영
+        String hashA2 = randomHash();
+        nodeA.add(hashA2, bucket);
+        nodeA.sync();
+        nodeA.sync();
+        nodeB.sync();
+        assertThat(nodeB.mightContain(hashA2, bucket)).isTrue();
+        String hashB2 = randomHash();
+        nodeB.add(hashB2, bucket);
+        nodeB.sync();
+        nodeA.sync();
+        assertThat(nodeA.mightContain(hashB2, bucket)).isTrue();
+
+        ConsumedTokenFilter restarted = newFilter(1_000);
+        restarted.sync();
+        assertThat(restarted.mightContain(hashA, bucket)).isTrue();
+        assertThat(restarted.mightContain(hashB, bucket)).isTrue();
+    }
+
+    @Test
+    void replayOfRotatedTokenIsDetectedAfterRowIsDeleted() {
+        User user = authService.register("consumed-" + System.nanoTime(), "password123");
+        String refreshToken = tokenService.issueRefreshToken(user.getId());
+
+        tokenService.rotateRefreshToken(refreshToken);
+        Integer rows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM refresh_tokens WHERE user_id = ?", Integer.class, user.getId());
+        assertThat(rows).isEqualTo(1); // 후속 토큰만 남음
+
+        assertThatThrownBy(() -> tokenService.rotateRefreshToken(refreshToken))
+                .isInstanceOf(TokenReuseDetectedException.class)
+                .hasMessage("이미 사용된 리프레시 토큰입니다");
+    }
+
+    private ConsumedTokenFilter newFilter(long expectedInsertions) {
+        ConsumedTokenFilterProperties properties = new ConsumedTokenFilterProperties();
+        properties.setExpectedInsertions(expectedInsertions);
+        return new ConsumedTokenFilter(properties, dataSource, transactionManager, new SimpleMeterRegistry());
+    }
+
+    private static String randomHash() {
+        byte[] bytes = new byte[32];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        return HexFormat.of().formatHex(bytes);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.jwt_study.service;
+
+import com.example.jwt_study.config.ReplicaProperties;
+import com.example.jwt_study.domain.AuthChangeLog;
+import com.example.jwt_study.domain.AuthChangeLog.ChangeType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 최근 변경 사용자 판별 검증 (복제 지연 허용치 동안만 Primary 조회 대상)
+ */
+class RecentAuthChangesTests {
+
+    @Test
+    void localAndRemoteChangesAreRecentWithinLagWindow() {
+        RecentAuthChanges recentAuthChanges = new RecentAuthChanges(replica(5, 1000));
+
+        recentAuthChanges.record(1L);
+        recentAuthChanges.onAuthChanges(List.of(new AuthChangeLog(2L, ChangeType.USER_UPDATED)));
+
+        assertThat(recentAuthChanges.isRecent(1L)).isTrue();
+        assertThat(recentAuthChanges.isRecent(2L)).isTrue();
+        assertThat(recentAuthChanges.isRecent(3L)).isFalse();
+    }
+
+    @Test
+    void changeExpiresAfterLagWindow() throws InterruptedException {
+        RecentAuthChanges recentAuthChanges = new RecentAuthChanges(replica(0, 10));
+
+        recentAuthChanges.record(1L);
+        Thread.sleep(50);
+        recentAuthChanges.prune();
+
+        assertThat(recentAuthChanges.isRecent(1L)).isFalse();
+    }
+
+    @Test
+    void nothingIsTrackedWithoutReplica() {
+        RecentAuthChanges recentAuthChanges = new RecentAuthChanges(new ReplicaProperties());
+
+        recentAuthChanges.record(1L);
+
+        assertThat(recentAuthChanges.isRecent(1L)).isFalse();
+    }
+
+    private static ReplicaProperties replica(long maxLagSeconds, long lagCheckIntervalMs) {
+        ReplicaProperties properties = new ReplicaProperties();
+        properties.setUrl("jdbc:h2:mem:replica");
+        properties.setMaxLagSeconds(maxLagSeconds);
+        properties.setLagCheckIntervalMs(lagCheckIntervalMs);
+        return properties;
+    }
+}
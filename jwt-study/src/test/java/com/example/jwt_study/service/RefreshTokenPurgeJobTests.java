@@ -0,0 +1,63 @@
+package com.example.jwt_study.service;
+
+import com.example.jwt_study.config.JwtProperties;
+import com.example.jwt_study.config.RefreshTokenPartitionProperties;
+import com.example.jwt_study.config.RefreshTokenShards;
+import com.example.jwt_study.domain.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 파티션 유지보수가 실패해도 만료 토큰 행 삭제는 계속되는지 검증
+ */
+@SpringBootTest
+class RefreshTokenPurgeJobTests {
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private RefreshTokenShards refreshTokenShards;
+
+    @Autowired
+    private RefreshTokenPartitionProperties partitionProperties;
+
+    @Autowired
+    private JwtProperties jwtProperties;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void fallsBackToRowDeleteWhenPartitionMaintenanceFails() {
+        User user = authService.register("purge-" + System.nanoTime(), "password123");
+        LocalDateTime past = LocalDateTime.now().minusDays(1);
+        jdbcTemplate.update("""
+                INSERT INTO refresh_tokens (user_id, token_hash, expires_at, absolute_expires_at)
+                VALUES (?, ?, ?, ?)""", user.getId(), "e".repeat(64), Timestamp.valueOf(past), Timestamp.valueOf(past));
+        tokenService.issueRefreshToken(user.getId()); // 유효 토큰은 유지
+
+        RefreshTokenPartitionManager failing =
+                new RefreshTokenPartitionManager(refreshTokenShards, partitionProperties, jwtProperties) {
+                    @Override
+                    public boolean maintain(int shardId) {
+                        throw new IllegalStateException("A PRIMARY KEY must include all columns in the table's partitioning function");
+                    }
+                };
+        new RefreshTokenPurgeJob(tokenService, failing, refreshTokenShards).purge();
+
+        Integer remaining = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM refresh_tokens WHERE user_id = ?", Integer.class, user.getId());
+        assertThat(remaining).isEqualTo(1);
+    }
+}
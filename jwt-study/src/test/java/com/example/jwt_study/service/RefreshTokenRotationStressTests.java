@@ -0,0 +1,252 @@
+package com.example.jwt_study.service;
+
+import com.example.jwt_study.domain.User;
+import com.example.jwt_study.exception.TokenReuseDetectedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 리프레시 토큰 RTR 동시성 스트레스 테스트
+ * - 같은 토큰 동시 갱신: 후속 토큰은 정확히 하나, 나머지는 재사용 탐지
+ * - 서로 다른 토큰 동시 갱신: 모두 성공, 토큰마다 후속 토큰 하나
+ * - 재사용 탐지마다 폐기 요청이 빠짐없이 기록되고 워커 처리 후 세션이 남지 않음
+ * - 폐기 요청 후 워커 처리 전 후속 토큰 갱신은 거부되고, 요청 이후 재로그인 세션만 남음
+ * 호출 지연과 행잠금 대기 분포를 로그로 남겨 잠금/회전 전략 변경 시 비교
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:jwt_study_stress;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=30000",
+        "spring.datasource.hikari.maximum-pool-size=16",
+        "app.revocation.worker-interval-ms=3600000" // 테스트에서 직접 processPending() 호출
+})
+class RefreshTokenRotationStressTests {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenRotationStressTests.class);
+
+    private static final int THREADS = 32;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private RevocationWorker revocationWorker;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void concurrentRefreshOfSameTokenYieldsExactlyOneSuccessor() throws Exception {
+        User user = authService.register("stress-same-" + System.nanoTime(), "password123");
+        String refreshToken = tokenService.issueRefreshToken(user.getId());
+
+        List<Outcome> outcomes = runConcurrently(300, i -> () -> tokenService.rotateRefreshToken(refreshToken));
+
+        List<String> successors = outcomes.stream().filter(o -> o.token() != null).map(Outcome::token).toList();
+        assertThat(successors).hasSize(1);
+        assertThat(outcomes).filteredOn(o -> o.error() != null)
+                .allSatisfy(o -> assertThat(o.error()).isInstanceOf(TokenReuseDetectedException.class))
+                .hasSize(299);
+
+        // 사용된 기존 토큰은 삭제되고 후속 토큰 1개만 저장
+        assertThat(countTokens(user.getId(), true)).isZero();
+        assertThat(countTokens(user.getId(), false)).isEqualTo(1);
+
+        // 재사용 탐지마다 폐기 요청 기록 (유실 없음) → 워커 처리 후 후속 토큰까지 삭제
+        assertThat(countPendingRevocations(user.getId())).isEqualTo(299);
+        revocationWorker.processPending();
+        assertThat(countPendingRevocations(user.getId())).isZero();
+        assertThat(countTokens(user.getId(), true) + countTokens(user.getId(), false)).isZero();
+        assertThatThrownBy(() -> tokenService.rotateRefreshToken(successors.get(0)))
+                .isInstanceOf(TokenReuseDetectedException.class);
+
+        logReport("same token x300", outcomes);
+    }
+
+    @Test
+    void concurrentRefreshOfDistinctTokensAllSucceed() throws Exception {
+        List<User> users = new ArrayList<>();
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            User user = authService.register("stress-distinct-" + System.nanoTime() + "-" + i, "password123");
+            users.add(user);
+            for (int session = 0; session < 10; session++) {
+                tokens.add(tokenService.issueRefreshToken(user.getId()));
+            }
+        }
+
+        List<Outcome> outcomes = runConcurrently(tokens.size(), i -> () -> tokenService.rotateRefreshToken(tokens.get(i)));
+
+        assertThat(outcomes).allSatisfy(o -> assertThat(o.error()).isNull());
+        assertThat(outcomes.stream().map(Outcome::token).distinct().count()).isEqualTo(tokens.size());
+        for (User user : users) {
+            assertThat(countTokens(user.getId(), true)).isZero();
+            assertThat(countTokens(user.getId(), false)).isEqualTo(10);
+            assertThat(countPendingRevocations(user.getId())).isZero();
+        }
+
+        logReport("distinct tokens x200", outcomes);
+    }
+
+    @Test
+    void racingRotationChainsNeverLoseRevocations() throws Exception {
+        List<User> users = new ArrayList<>();
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            User user = authService.register("stress-chain-" + System.nanoTime() + "-" + i, "password123");
+            users.add(user);
+            tokens.add(tokenService.issueRefreshToken(user.getId()));
+        }
+
+        // 토큰마다 정상 사용자와 탈취자가 동시에 갱신 (각 토큰 2회)
+        List<Outcome> outcomes = runConcurrently(tokens.size() * 2, i -> () -> tokenService.rotateRefreshToken(tokens.get(i / 2)));
+
+        long reuseDetections = outcomes.stream().filter(o -> o.error() instanceof TokenReuseDetectedException).count();
+        assertThat(reuseDetections).isEqualTo(tokens.size());
+        assertThat(outcomes).filteredOn(o -> o.error() != null)
+                .allSatisfy(o -> assertThat(o.error()).isInstanceOf(TokenReuseDetectedException.class));
+        long pending = users.stream().mapToLong(user -> countPendingRevocations(user.getId())).sum();
+        assertThat(pending).isEqualTo(reuseDetections);
+
+        revocationWorker.processPending();
+        for (User user : users) {
+            assertThat(countTokens(user.getId(), true) + countTokens(user.getId(), false)).isZero();
+        }
+
+        logReport("racing pairs x10", outcomes);
+    }
+
+    @Test
+    void rotationBetweenRevocationRequestAndWorkerIsRejected() throws Exception {
+        List<User> users = new ArrayList<>();
+        List<String> successors = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            User user = authService.register("stress-pending-" + System.nanoTime() + "-" + i, "password123");
+            users.add(user);
+            String refreshToken = tokenService.issueRefreshToken(user.getId());
+            successors.add(tokenService.rotateRefreshToken(refreshToken));
+            // 기존 토큰 재사용 → 폐기 요청만 기록 (워커는 아직 실행 전)
+            assertThatThrownBy(() -> tokenService.rotateRefreshToken(refreshToken))
+                    .isInstanceOf(TokenReuseDetectedException.class);
+        }
+        List<String> relogins = users.stream().map(user -> tokenService.issueRefreshToken(user.getId())).toList();
+
+        // 탈취된 패밀리의 후속 토큰 갱신과 재로그인 세션 갱신을 동시에
+        List<Outcome> outcomes = runConcurrently(users.size() * 2, i -> i % 2 == 0
+                ? () -> tokenService.rotateRefreshToken(successors.get(i / 2))
+                : () -> tokenService.rotateRefreshToken(relogins.get(i / 2)));
+
+        for (int i = 0; i < outcomes.size(); i += 2) {
+            assertThat(outcomes.get(i).error()).isInstanceOf(TokenReuseDetectedException.class);
+            assertThat(outcomes.get(i + 1).error()).isNull();
+        }
+        for (User user : users) {
+            assertThat(countPendingRevocations(user.getId())).isEqualTo(1); // 거부 시 추가 요청 없음
+            assertThat(countTokens(user.getId(), false)).isEqualTo(1);   // 재로그인 세션의 후속 토큰만
+        }
+
+        revocationWorker.processPending();
+        for (int i = 0; i < users.size(); i++) {
+            assertThat(countTokens(users.get(i).getId(), false)).isEqualTo(1);
+            assertThat(tokenService.rotateRefreshToken(outcomes.get(i * 2 + 1).token())).isNotNull();
+        }
+
+        logReport("pending revocation x10", outcomes);
+    }
+
+    /**
+     * 시작 신호에 맞춰 동시에 실행하고 호출별 결과/지연 시간 수집
+     */
+    private List<Outcome> runConcurrently(int calls, TaskFactory factory) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Outcome>> futures = new ArrayList<>();
+            for (int i = 0; i < calls; i++) {
+                Callable<String> task = factory.create(i);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    long begin = System.nanoTime();
+                    try {
+                        String token = task.call();
+                        return new Outcome(token, null, System.nanoTime() - begin);
+                    } catch (Exception e) {
+                        return new Outcome(null, e, System.nanoTime() - begin);
+                    }
+                }));
+            }
+            start.countDown();
+
+            List<Outcome> outcomes = new ArrayList<>();
+            for (Future<Outcome> future : futures) {
+                outcomes.add(future.get(60, TimeUnit.SECONDS));
+            }
+            return outcomes;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int countTokens(Long userId, boolean used) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM refresh_tokens WHERE user_id = ? AND (used_at IS NOT NULL OR revoked) = ?",
+                Integer.class, userId, used);
+    }
+
+    private int countPendingRevocations(Long userId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pending_revocations WHERE user_id = ?", Integer.class, userId);
+    }
+
+    private void logReport(String scenario, List<Outcome> outcomes) {
+        long[] latencies = outcomes.stream().mapToLong(Outcome::latencyNanos).sorted().toArray();
+        log.info("[{}] 호출 지연(ms) p50={} p95={} p99={} max={}", scenario,
+                "%.2f".formatted(percentileMillis(latencies, 50)), "%.2f".formatted(percentileMillis(latencies, 95)),
+                "%.2f".formatted(percentileMillis(latencies, 99)), "%.2f".formatted(latencies[latencies.length - 1] / 1e6));
+
+        // 누적 타이머 (컨텍스트를 공유하는 시나리오 전체)
+        Timer lockWait = meterRegistry.get("refresh.token.rotation.lock.wait").timer();
+        log.info("[{}] 행잠금 대기(ms, 누적) count={} mean={} max={} {}", scenario,
+                lockWait.count(), "%.2f".formatted(lockWait.mean(TimeUnit.MILLISECONDS)),
+                "%.2f".formatted(lockWait.max(TimeUnit.MILLISECONDS)),
+                Arrays.toString(Arrays.stream(lockWait.takeSnapshot().percentileValues())
+                        .map(p -> "p%.0f=%.2f".formatted(p.percentile() * 100, p.value(TimeUnit.MILLISECONDS)))
+                        .toArray()));
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    @FunctionalInterface
+    private interface TaskFactory {
+        Callable<String> create(int index);
+    }
+
+    private record Outcome(String token, Exception error, long latencyNanos) {
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.jwt_study.service;
+
+import com.example.jwt_study.config.RefreshTokenShards;
+import com.example.jwt_study.domain.User;
+import com.example.jwt_study.exception.TokenReuseDetectedException;
+import com.example.jwt_study.util.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 세 개의 임베디드 DB(Primary + 추가 샤드 2개)로 리프레시 토큰 샤딩 검증
+ */
+@SpringBootTest(properties = {
+        "app.refresh-token.sharding.shards[0].url=jdbc:h2:mem:jwt_study_shard1;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "app.refresh-token.sharding.shards[0].username=sa",
+        "app.refresh-token.sharding.shards[1].url=jdbc:h2:mem:jwt_study_shard2;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "app.refresh-token.sharding.shards[1].username=sa"
+})
+class RefreshTokenShardingTests {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private RefreshTokenShards refreshTokenShards;
+
+    @Autowired
+    private RefreshTokenShardRebalancer rebalancer;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private RevocationWorker revocationWorker;
+
+    @Test
+    void sessionsAreStoredOnHomeShardAndRotateInPlace() {
+        List<User> users = registerUsers("shard-user-", 12);
+
+        for (User user : users) {
+            String refreshToken = tokenService.issueRefreshToken(user.getId());
+            int homeShard = refreshTokenShards.homeShard(user.getId());
+
+            assertThat(jwtUtil.getShardId(jwtUtil.parseClaims(refreshToken))).isEqualTo(homeShard);
+            for (int shardId = 0; shardId < refreshTokenShards.count(); shardId++) {
+                assertThat(countTokens(shardId, user.getId())).isEqualTo(shardId == homeShard ? 1 : 0);
+            }
+
+            String rotated = tokenService.rotateRefreshToken(refreshToken);
+            assertThat(jwtUtil.getShardId(jwtUtil.parseClaims(rotated))).isEqualTo(homeShard);
+            assertThat(countTokens(homeShard, user.getId())).isEqualTo(2);
+        }
+
+        // 여러 샤드에 고르게 분산
+        assertThat(users.stream().map(user -> refreshTokenShards.homeShard(user.getId())).distinct().count())
+                .isGreaterThan(1);
+    }
+
+    @Test
+    void revokeAllClearsEveryShard() {
+        User user = registerUsers("shard-revoke-", 1).get(0);
+        tokenService.issueRefreshToken(user.getId());
+        int otherShard = (refreshTokenShards.homeShard(user.getId()) + 1) % refreshTokenShards.count();
+        insertToken(otherShard, user.getId(), "misplaced-revoke");
+
+        tokenService.revokeAll(user.getId(), "TEST");
+        revocationWorker.processPending();
+
+        for (int shardId = 0; shardId < refreshTokenShards.count(); shardId++) {
+            assertThat(countTokens(shardId, user.getId())).isZero();
+        }
+    }
+
+    @Test
+    void rebalancedSessionIsFoundOnHomeShard() {
+        User user = registerUsers("shard-move-", 1).get(0);
+        int homeShard = refreshTokenShards.homeShard(user.getId());
+        int otherShard = (homeShard + 1) % refreshTokenShards.count();
+
+        // 다른 샤드에 발급된 세션 (샤드 수 변경 전 발급 상황)
+        String refreshToken = jwtUtil.generateRefreshToken(user.getId(), otherShard, null);
+        insertToken(otherShard, user.getId(), refreshToken);
+
+        assertThat(rebalancer.rebalance(otherShard)).isGreaterThanOrEqualTo(1);
+        assertThat(countTokens(otherShard, user.getId())).isZero();
+        assertThat(countTokens(homeShard, user.getId())).isEqualTo(1);
+
+        String rotated = tokenService.rotateRefreshToken(refreshToken);
+        assertThat(jwtUtil.getShardId(jwtUtil.parseClaims(rotated))).isEqualTo(homeShard);
+    }
+
+    @Test
+    void consumedTokenIsNotRotatedAgainstStaleHomeShardCopy() {
+        User user = registerUsers("shard-stale-", 1).get(0);
+        int homeShard = refreshTokenShards.homeShard(user.getId());
+        int otherShard = (homeShard + 1) % refreshTokenShards.count();
+
+        // 리밸런싱이 홈 샤드에 복사를 커밋했지만 원본 삭제는 실패한 상황
+        String refreshToken = jwtUtil.generateRefreshToken(user.getId(), otherShard, null);
+        insertToken(otherShard, user.getId(), refreshToken);
+        insertToken(homeShard, user.getId(), refreshToken);
+
+        tokenService.rotateRefreshToken(refreshToken); // 원본 샤드에서 사용 → 행 삭제 + 필터 기록
+
+        // 남은 복사본으로 갱신되지 않고 재사용으로 탐지
+        assertThatThrownBy(() -> tokenService.rotateRefreshToken(refreshToken))
+                .isInstanceOf(TokenReuseDetectedException.class);
+    }
+
+    private List<User> registerUsers(String prefix, int count) {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            users.add(authService.register(prefix + System.nanoTime() + "-" + i, "password123"));
+        }
+        return users;
+    }
+
+    private int countTokens(int shardId, Long userId) {
+        return new JdbcTemplate(refreshTokenShards.dataSource(shardId))
+                .queryForObject("SELECT COUNT(*) FROM refresh_tokens WHERE user_id = ?", Integer.class, userId);
+    }
+
+    private void insertToken(int shardId, Long userId, String token) {
+        new JdbcTemplate(refreshTokenShards.dataSource(shardId)).update("""
+                        INSERT INTO refresh_tokens (user_id, token_hash, expires_at, absolute_expires_at, revoked)
+                        VALUES (?, ?, DATEADD('DAY', 7, CURRENT_TIMESTAMP), DATEADD('DAY', 30, CURRENT_TIMESTAMP), FALSE)""",
+                userId, sha256(token));
+    }
+
+    private static String sha256(String token) {
+        try {
+            return HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.jwt_study.service;
+
+import com.example.jwt_study.domain.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 세션 폐기 워커 검증 (요청 시각 이전 세션만 삭제, 요청 이후 재로그인 세션은 유지)
+ */
+@SpringBootTest
+class RevocationWorkerTests {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private RevocationService revocationService;
+
+    @Autowired
+    private RevocationWorker revocationWorker;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void sessionCreatedAfterRevocationRequestSurvivesWorker() {
+        User user = authService.register("revocation-" + System.nanoTime(), "password123");
+        tokenService.issueRefreshToken(user.getId());
+        tokenService.issueRefreshToken(user.getId());
+
+        revocationService.requestRevocation(user.getId(), "PASSWORD_CHANGED");
+        String relogin = tokenService.issueRefreshToken(user.getId()); // 워커 처리 전 재로그인
+
+        revocationWorker.processPending();
+
+        assertThat(countTokens(user.getId())).isEqualTo(1);
+        assertThat(tokenService.rotateRefreshToken(relogin)).isNotNull();
+        assertThat(countPendingRevocations(user.getId())).isZero();
+    }
+
+    private int countTokens(Long userId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM refresh_tokens WHERE user_id = ?", Integer.class, userId);
+    }
+
+    private int countPendingRevocations(Long userId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM pending_revocations WHERE user_id = ?", Integer.class, userId);
+    }
+}
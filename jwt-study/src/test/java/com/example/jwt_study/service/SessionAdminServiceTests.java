@@ -0,0 +1,88 @@
+package com.example.jwt_study.service;
+
+import com.example.jwt_study.domain.User;
+import com.example.jwt_study.dto.SessionPageResponse;
+import com.example.jwt_study.dto.SessionResponse;
+import com.example.jwt_study.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 관리자 세션 keyset 페이지네이션과 NDJSON 내보내기 검증
+ */
+@SpringBootTest
+class SessionAdminServiceTests {
+
+    @Autowired
+    private SessionAdminService sessionAdminService;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Test
+    void pagesThroughEverySessionOnceInKeyOrder() {
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            User user = authService.register("sessions-" + i + "-" + System.nanoTime(), "password123");
+            userIds.add(user.getId());
+            tokenService.issueRefreshToken(user.getId());
+            tokenService.issueRefreshToken(user.getId());
+        }
+
+        List<SessionResponse> collected = new ArrayList<>();
+        String cursor = null;
+        do {
+            SessionPageResponse page = sessionAdminService.page(cursor, 2, null);
+            assertThat(page.getSessions()).hasSizeLessThanOrEqualTo(2);
+            collected.addAll(page.getSessions());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        List<SessionResponse> ours = collected.stream().filter(s -> userIds.contains(s.getUserId())).toList();
+        assertThat(ours).hasSize(6);
+        assertThat(collected.stream().map(s -> s.getShard() + ":" + s.getId()).distinct()).hasSize(collected.size());
+
+        SessionPageResponse single = sessionAdminService.page(null, 10, userIds.get(0));
+        assertThat(single.getSessions()).hasSize(2)
+                .allSatisfy(session -> assertThat(session.getUserId()).isEqualTo(userIds.get(0)));
+    }
+
+    @Test
+    void exportsOneJsonLinePerSession() throws Exception {
+        User user = authService.register("export-" + System.nanoTime(), "password123");
+        tokenService.issueRefreshToken(user.getId());
+        tokenService.issueRefreshToken(user.getId());
+        tokenService.issueRefreshToken(user.getId());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long exported = sessionAdminService.export(user.getId(), out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(exported).isEqualTo(3);
+        assertThat(lines).hasSize(3).allSatisfy(line -> assertThat(line)
+                .startsWith("{")
+                .contains("\"userId\":" + user.getId())
+                .doesNotContain("tokenHash"));
+        assertThat(lines).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void rejectsBadCursorAndPageSize() {
+        assertThatThrownBy(() -> sessionAdminService.page("not-a-cursor", 10, null))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> sessionAdminService.page(null, 0, null))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.jwt_study.service;
+
+import com.example.jwt_study.domain.User;
+import com.example.jwt_study.dto.IntrospectionResponse.Result;
+import com.example.jwt_study.exception.InvalidClientException;
+import com.example.jwt_study.exception.InvalidRequestException;
+import com.example.jwt_study.util.JwtUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 배치 인트로스펙션 검증 (클라이언트 인증, 병렬 검증 결과 순서, 캐시 적중 후 폐기 반영)
+ */
+@SpringBootTest(properties = {
+        "app.introspection.clients[0].id=gateway",
+        "app.introspection.clients[0].secret=gateway-secret",
+        "app.introspection.max-tokens=20",
+        "app.introspection.parallel-threshold=4"
+})
+class TokenIntrospectionServiceTests {
+
+    @Autowired
+    private TokenIntrospectionService tokenIntrospectionService;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private TokenEpochService tokenEpochService;
+
+    @Autowired
+    private TokenService tokenService;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Test
+    void authenticatesClientsWithSharedSecret() {
+        assertThatCode(() -> tokenIntrospectionService.authenticateClient(basic("gateway", "gateway-secret")))
+                .doesNotThrowAnyException();
+        assertThatThrownBy(() -> tokenIntrospectionService.authenticateClient(basic("gateway", "wrong")))
+                .isInstanceOf(InvalidClientException.class);
+        assertThatThrownBy(() -> tokenIntrospectionService.authenticateClient(null))
+                .isInstanceOf(InvalidClientException.class);
+    }
+
+    @Test
+    void returnsResultsInRequestOrderAndHonoursRevocation() {
+        User user = authService.register("introspect-" + System.nanoTime(), "password123");
+        String accessToken = jwtUtil.generateAccessToken(user.getId(), user.getUsername(), user.getAuthorities());
+        String refreshToken = tokenService.issueRefreshToken(user.getId());
+
+        List<String> tokens = new ArrayList<>(List.of(accessToken, "not-a-jwt", refreshToken));
+        tokens.addAll(Collections.nCopies(5, accessToken)); // 병렬 경로 + 캐시 적중
+        List<Result> results = tokenIntrospectionService.introspect(tokens);
+
+        assertThat(results).hasSize(tokens.size());
+        assertThat(results.get(0).isActive()).isTrue();
+        assertThat(results.get(0).getSub()).isEqualTo(user.getId().toString());
+        assertThat(results.get(0).getUsername()).isEqualTo(user.getUsername());
+        assertThat(results.get(0).getExp()).isGreaterThan(results.get(0).getIat());
+        assertThat(results.get(1).isActive()).isFalse();
+        assertThat(results.get(2).isActive()).isFalse(); // 리프레시 토큰은 비활성
+        assertThat(results.subList(3, tokens.size())).allSatisfy(result -> assertThat(result.isActive()).isTrue());
+
+        // 같은 초에 무효화해도 그 이전 발급 토큰은 비활성
+        tokenEpochService.revokeAccessTokens(user.getId());
+        assertThat(tokenIntrospectionService.introspect(List.of(accessToken)).get(0).isActive()).isFalse();
+    }
+
+    @Test
+    void rejectsOversizedBatches() {
+        assertThatThrownBy(() -> tokenIntrospectionService.introspect(Collections.nCopies(21, "token")))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    private static String basic(String id, String secret) {
+        return "Basic " + Base64.getEncoder().encodeToString((id + ":" + secret).getBytes(StandardCharsets.UTF_8));
+    }
+}
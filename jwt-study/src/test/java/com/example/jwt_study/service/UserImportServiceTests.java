@@ -0,0 +1,125 @@
+package com.example.jwt_study.service;
+
+import com.example.jwt_study.dto.UserImportError;
+import com.example.jwt_study.dto.UserImportResponse;
+import com.example.jwt_study.exception.InvalidRequestException;
+import com.example.jwt_study.service.UserImportService.Format;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 사용자 일괄 가져오기 검증
+ * - 청크 경계를 넘는 입력에서 행 오류(형식, 검증, 파일 내 중복, 기존 사용자)만 제외하고 나머지 저장
+ * - CSV 따옴표 필드, 헤더 확인
+ * - 저장된 비밀번호로 로그인 가능 (병렬 해싱 결과가 행과 어긋나지 않음)
+ */
+@SpringBootTest(properties = "app.admin.user-import.chunk-size=2")
+class UserImportServiceTests {
+
+    @Autowired
+    private UserImportService userImportService;
+
+    @Autowired
+    private AuthService authService;
+
+    @Test
+    void importsValidRowsAndReportsRowErrors() throws Exception {
+        String prefix = "import-" + System.nanoTime() + "-";
+        authService.register(prefix + "existing", "password123");
+
+        String ndjson = String.join("\n",
+                json(prefix + "a", "password-a1"),
+                json(prefix + "b", "password-b1"),
+                "{not json",
+                json(prefix + "c", "short"),
+                "",
+                json(prefix + "a", "password-a2"),
+                json(prefix + "existing", "password123"),
+                json(prefix + "d", "password-d1"),
+                "{\"username\": 1, \"password\": \"password123\"}");
+
+        UserImportResponse response = userImportService.importUsers(stream(ndjson), Format.NDJSON);
+
+        assertThat(response.getTotal()).isEqualTo(8);
+        assertThat(response.getImported()).isEqualTo(3);
+        assertThat(response.getFailed()).isEqualTo(5);
+        assertThat(response.getErrors())
+                .extracting(UserImportError::getLine, UserImportError::getError)
+                .containsExactlyInAnyOrder(
+                        tuple(3L, "invalid_format"),
+                        tuple(4L, "validation_failed"),
+                        tuple(6L, "duplicate_username"),
+                        tuple(7L, "duplicate_username"),
+                        tuple(9L, "invalid_format"));
+
+        assertThat(authService.authenticate(prefix + "a", "password-a1").getId()).isNotNull();
+        assertThat(authService.authenticate(prefix + "b", "password-b1").getId()).isNotNull();
+        assertThat(authService.authenticate(prefix + "d", "password-d1").getId()).isNotNull();
+    }
+
+    @Test
+    void rejectsPasswordsBeyondBcryptLimitAsRowErrors() throws Exception {
+        String prefix = "bcrypt-" + System.nanoTime() + "-";
+        String ndjson = String.join("\n",
+                json(prefix + "a", "password-a1"),
+                json(prefix + "long", "p".repeat(73)),
+                json(prefix + "multibyte", "비밀번호".repeat(7)), // 28자, 84바이트
+                json(prefix + "b", "b".repeat(72)));
+
+        UserImportResponse response = userImportService.importUsers(stream(ndjson), Format.NDJSON);
+
+        assertThat(response.getImported()).isEqualTo(2);
+        assertThat(response.getErrors())
+                .extracting(UserImportError::getLine, UserImportError::getError)
+                .containsExactlyInAnyOrder(tuple(2L, "validation_failed"), tuple(3L, "validation_failed"));
+        assertThat(authService.authenticate(prefix + "b", "b".repeat(72)).getId()).isNotNull();
+    }
+
+    @Test
+    void importsCsvWithQuotedFields() throws Exception {
+        String prefix = "csv-" + System.nanoTime() + "-";
+        String csv = String.join("\n",
+                "username,password",
+                prefix + "a,password123",
+                prefix + "b,\"pass,\"\"word\"\"1\"",
+                prefix + "c,\"unterminated");
+
+        UserImportResponse response = userImportService.importUsers(stream(csv), Format.CSV);
+
+        assertThat(response.getImported()).isEqualTo(2);
+        assertThat(response.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getLine()).isEqualTo(4));
+        assertThat(authService.authenticate(prefix + "b", "pass,\"word\"1").getId()).isNotNull();
+    }
+
+    @Test
+    void rejectsCsvWithoutHeader() {
+        assertThatThrownBy(() -> userImportService.importUsers(stream("someone,password123"), Format.CSV))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    void splitsCsvLines() {
+        assertThat(UserImportService.splitCsvLine("a,b")).containsExactly("a", "b");
+        assertThat(UserImportService.splitCsvLine("\"a,b\",\"c\"\"d\"")).containsExactly("a,b", "c\"d");
+        assertThat(UserImportService.splitCsvLine("a,")).containsExactly("a", "");
+        assertThat(UserImportService.splitCsvLine("\"a")).isNull();
+    }
+
+    private static String json(String username, String password) {
+        return "{\"username\": \"" + username + "\", \"password\": \"" + password + "\"}";
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
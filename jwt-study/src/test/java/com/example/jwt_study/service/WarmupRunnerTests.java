@@ -0,0 +1,39 @@
+package com.example.jwt_study.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 기동 시 워밍업 실행 후 readiness 지표 UP 확인
+ */
+@SpringBootTest(properties = {
+        "app.warmup.enabled=true",
+        "app.warmup.iterations=50",
+        "app.warmup.repository-iterations=5",
+        "app.warmup.bcrypt-iterations=1"
+})
+class WarmupRunnerTests {
+
+    @Autowired
+    private WarmupHealthIndicator warmupHealthIndicator;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void warmupCompletesBeforeContextIsReady() {
+        Health health = warmupHealthIndicator.health();
+
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("iterations", 50 * 3 + 5 + 1);
+        assertThat(meterRegistry.get("app.warmup.completed").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("app.warmup.failures").counter().count()).isZero();
+        assertThat(meterRegistry.get("app.warmup.task").tag("task", "jwt").timer().count()).isEqualTo(1);
+    }
+}
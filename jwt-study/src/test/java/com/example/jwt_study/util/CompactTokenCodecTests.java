@@ -0,0 +1,103 @@
+package com.example.jwt_study.util;
+
+import com.example.jwt_study.config.JwtProperties;
+import com.example.jwt_study.domain.Authority;
+import com.example.jwt_study.exception.InvalidTokenException;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 압축 액세스 토큰 발급/검증과 JWT와의 형식 구분 검증
+ */
+class CompactTokenCodecTests {
+
+    private static final String SECRET = "test-secret-key-minimum-256-bits-for-hmac-sha256-algorithm-security";
+
+    private final JwtProperties properties = properties(SECRET, 0);
+    private final CompactTokenCodec codec = new CompactTokenCodec(properties);
+    private final JwtUtil jwtUtil = new JwtUtil(properties, new JwtMinter(properties), codec);
+
+    @Test
+    void roundTripsThroughJwtUtil() {
+        int authorities = Authority.bitsOf(Authority.ROLE_USER, Authority.ROLE_ADMIN);
+        String token = jwtUtil.generateCompactAccessToken(1_234L, authorities);
+
+        assertThat(token).startsWith(CompactTokenCodec.PREFIX).hasSize(78);
+        AccessTokenClaims claims = jwtUtil.parseAccessToken(token);
+        assertThat(claims.userId()).isEqualTo(1_234L);
+        assertThat(claims.username()).isNull();
+        assertThat(claims.authorities()).isEqualTo(authorities);
+        assertThat(claims.expiresAt().getTime() - claims.issuedAt().getTime()).isEqualTo(900_000L);
+
+        // 기존 JWT도 같은 진입점으로 검증
+        AccessTokenClaims jwtClaims = jwtUtil.parseAccessToken(jwtUtil.generateAccessToken(1_234L, "alice", authorities));
+        assertThat(jwtClaims.userId()).isEqualTo(1_234L);
+        assertThat(jwtClaims.username()).isEqualTo("alice");
+        assertThat(jwtClaims.authorities()).isEqualTo(authorities);
+    }
+
+    @Test
+    void rejectsTamperedExpiredAndForeignKeyTokens() {
+        long now = System.currentTimeMillis() / 1000;
+        String token = codec.encodeAccessToken(1L, 1, now, now + 60);
+
+        byte[] raw = Base64.getUrlDecoder().decode(token.substring(CompactTokenCodec.PREFIX.length()));
+        raw[10] ^= 1; // 사용자 id 변조
+        String tampered = CompactTokenCodec.PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+        assertThatThrownBy(() -> codec.decodeAccessToken(tampered)).isInstanceOf(InvalidTokenException.class);
+
+        String expired = codec.encodeAccessToken(1L, 1, now - 120, now - 60);
+        assertThatThrownBy(() -> codec.decodeAccessToken(expired))
+                .isInstanceOf(InvalidTokenException.class)
+                .hasMessage("토큰이 만료되었습니다");
+
+        CompactTokenCodec otherKeyId = new CompactTokenCodec(properties(SECRET, 7));
+        assertThatThrownBy(() -> codec.decodeAccessToken(otherKeyId.encodeAccessToken(1L, 1, now, now + 60)))
+                .isInstanceOf(InvalidTokenException.class);
+
+        assertThatThrownBy(() -> codec.decodeAccessToken(CompactTokenCodec.PREFIX + "%%%"))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    @Test
+    void stillAcceptsVersionOneTokensAsDefaultAuthorities() throws Exception {
+        long now = System.currentTimeMillis() / 1000;
+        byte[] raw = new byte[19 + 32];
+        ByteBuffer.wrap(raw).put((byte) 1).put((byte) 1).put((byte) 0)
+                .putLong(1_234L).putInt((int) now).putInt((int) (now + 60));
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        Mac mac = Mac.getInstance(key.getAlgorithm());
+        mac.init(key);
+        mac.update(CompactTokenCodec.PREFIX_V1.getBytes(StandardCharsets.US_ASCII));
+        mac.update(raw, 0, 19);
+        System.arraycopy(mac.doFinal(), 0, raw, 19, 32);
+        String v1 = CompactTokenCodec.PREFIX_V1 + Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+
+        AccessTokenClaims claims = jwtUtil.parseAccessToken(v1);
+        assertThat(claims.userId()).isEqualTo(1_234L);
+        assertThat(claims.authorities()).isEqualTo(Authority.DEFAULT_BITS);
+
+        // 접두어와 본문 버전이 다르면 거부 (v2 본문에 v1 접두어)
+        String v2 = codec.encodeAccessToken(1L, 1, now, now + 60);
+        String relabeled = CompactTokenCodec.PREFIX_V1 + v2.substring(CompactTokenCodec.PREFIX.length());
+        assertThatThrownBy(() -> codec.decodeAccessToken(relabeled)).isInstanceOf(InvalidTokenException.class);
+    }
+
+    private static JwtProperties properties(String secret, int keyId) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecretKey(secret);
+        properties.setAccessTokenExpiry(900);
+        properties.setRefreshTokenExpiry(604_800);
+        properties.getCompactToken().setKeyId(keyId);
+        return properties;
+    }
+}
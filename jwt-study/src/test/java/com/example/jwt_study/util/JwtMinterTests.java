@@ -0,0 +1,118 @@
+package com.example.jwt_study.util;
+
+import com.example.jwt_study.config.JwtProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 템플릿 발급 토큰이 기존 jjwt 파서로 검증되고 빌더 발급과 같은 클레임을 갖는지 검증
+ */
+class JwtMinterTests {
+
+    private static final String SECRET_256 = "test-secret-key-minimum-256-bits!";
+    private static final String SECRET_512 = "test-secret-key-minimum-256-bits-for-hmac-sha256-algorithm-security";
+
+    @Test
+    void accessTokenMatchesBuilderOutput() {
+        JwtProperties properties = properties(SECRET_512);
+        JwtMinter minter = new JwtMinter(properties);
+        JwtUtil jwtUtil = new JwtUtil(properties, minter, new CompactTokenCodec(properties));
+        long now = System.currentTimeMillis() / 1000;
+
+        String minted = minter.mintAccessToken(42L, "alice", 5, now, now + 900);
+        String built = Jwts.builder()
+                .subject("42")
+                .claim("username", "alice")
+                .claim("auth", 5)
+                .claim("type", "access")
+                .issuedAt(new Date(now * 1000))
+                .expiration(new Date((now + 900) * 1000))
+                .signWith(Keys.hmacShaKeyFor(SECRET_512.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        // 헤더({"alg":"HS512"})와 클레임 순서까지 같으므로 바이트 단위로 동일
+        assertThat(minted).isEqualTo(built);
+        Claims claims = jwtUtil.parseClaims(minted);
+        assertThat(claims.getSubject()).isEqualTo("42");
+        assertThat(claims.get("username", String.class)).isEqualTo("alice");
+        assertThat(claims.get("auth", Integer.class)).isEqualTo(5);
+        jwtUtil.validateTokenType(claims, "access");
+    }
+
+    @Test
+    void escapesUsernameAndOmitsNullClaims() {
+        JwtProperties properties = properties(SECRET_256);
+        JwtMinter minter = new JwtMinter(properties);
+        JwtUtil jwtUtil = new JwtUtil(properties, minter, new CompactTokenCodec(properties));
+        long now = System.currentTimeMillis() / 1000;
+        String username = "q\"uote\\back\nline\u0001 한글 😀 \uD800";
+
+        Claims claims = jwtUtil.parseClaims(minter.mintAccessToken(7L, username, 1, now, now + 60));
+        assertThat(claims.get("username", String.class)).isEqualTo(username);
+
+        String withoutUsername = minter.mintAccessToken(7L, null, 1, now, now + 60);
+        assertThat(jwtUtil.parseClaims(withoutUsername).containsKey("username")).isFalse();
+        assertThat(payload(withoutUsername)).isEqualTo(
+                "{\"sub\":\"7\",\"auth\":1,\"type\":\"access\",\"iat\":" + now + ",\"exp\":" + (now + 60) + "}");
+        assertThat(header(withoutUsername)).isEqualTo("{\"alg\":\"HS256\"}");
+    }
+
+    @Test
+    void refreshTokenCarriesShardBucketAndId() {
+        JwtProperties properties = properties(SECRET_512);
+        JwtMinter minter = new JwtMinter(properties);
+        JwtUtil jwtUtil = new JwtUtil(properties, minter, new CompactTokenCodec(properties));
+        long now = System.currentTimeMillis() / 1000;
+        UUID id = UUID.randomUUID();
+
+        Claims claims = jwtUtil.parseClaims(minter.mintRefreshToken(id, 9L, 3, 20_000L, now, now + 3_600));
+        assertThat(claims.getId()).isEqualTo(id.toString());
+        assertThat(claims.getSubject()).isEqualTo("9");
+        assertThat(jwtUtil.getShardId(claims)).isEqualTo(3);
+        assertThat(jwtUtil.getExpiryBucket(claims)).isEqualTo(20_000L);
+        assertThat(claims.getExpiration().getTime()).isEqualTo((now + 3_600) * 1000);
+        jwtUtil.validateTokenType(claims, "refresh");
+
+        Claims withoutBucket = jwtUtil.parseClaims(minter.mintRefreshToken(id, 9L, 0, null, now, now + 3_600));
+        assertThat(jwtUtil.getExpiryBucket(withoutBucket)).isNull();
+        assertThat(jwtUtil.getShardId(withoutBucket)).isZero();
+    }
+
+    @Test
+    void reusedBuffersDoNotLeakBetweenTokens() {
+        JwtProperties properties = properties(SECRET_512);
+        JwtMinter minter = new JwtMinter(properties);
+        long now = System.currentTimeMillis() / 1000;
+
+        minter.mintAccessToken(1L, "x".repeat(1_000), 1, now, now + 60); // 버퍼 확장
+        String small = minter.mintAccessToken(2L, "b", 1, now, now + 60);
+
+        assertThat(payload(small)).isEqualTo(
+                "{\"sub\":\"2\",\"username\":\"b\",\"auth\":1,\"type\":\"access\",\"iat\":" + now + ",\"exp\":" + (now + 60) + "}");
+    }
+
+    private static JwtProperties properties(String secret) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecretKey(secret);
+        properties.setAccessTokenExpiry(900);
+        properties.setRefreshTokenExpiry(604_800);
+        return properties;
+    }
+
+    private static String header(String token) {
+        return new String(Base64.getUrlDecoder().decode(token.split("\\.")[0]), StandardCharsets.UTF_8);
+    }
+
+    private static String payload(String token) {
+        return new String(Base64.getUrlDecoder().decode(token.split("\\.")[1]), StandardCharsets.UTF_8);
+    }
+}